@@ -0,0 +1,55 @@
+import java.io.*;
+import java.util.*;
+import java_cup.runtime.Symbol;
+
+/* Runs the individual compiler phases for the JMH benchmarks in the jmh package */
+public class BenchmarkPhases implements jmh.CompilerPhases {
+
+    public int tokenize(String source) throws Exception {
+        Yylex lexer = new Yylex(new StringReader(source));
+        int count = 0;
+        while (lexer.next_token().sym != sym.EOF) {
+            count++;
+        }
+        return count;
+    }
+
+    public Object parse(String source) throws Exception {
+        parser p = new parser(new Yylex(new StringReader(source)));
+        return p.parse().value;
+    }
+
+    public Object parseProduction(String source) throws Exception {
+        ProductionParser p = new ProductionParser(new Yylex(new StringReader(source)));
+        return p.parse().value;
+    }
+
+    public void analyze(Object ast) {
+        new SemanticAnalyzer().analyze((ProgramNode) ast);
+    }
+
+    public void analyze(Object ast, boolean hoistLoopInvariants) {
+        SemanticAnalyzer analyzer = new SemanticAnalyzer();
+        analyzer.setHoistLoopInvariants(hoistLoopInvariants);
+        analyzer.analyze((ProgramNode) ast);
+    }
+
+    public Object generateCode(Object ast) {
+        return new CodeGenerator().generateClasses((ProgramNode) ast);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Runnable load(Object classes) throws Exception {
+        Map<String, byte[]> bytecode = (Map<String, byte[]>) classes;
+        String mainClassName = bytecode.keySet().iterator().next();
+        InMemoryClassLoader loader = new InMemoryClassLoader(bytecode, BenchmarkPhases.class.getClassLoader());
+        CompiledProgram program = new CompiledProgram(mainClassName, bytecode, loader.loadClass(mainClassName));
+        return () -> {
+            try {
+                program.run();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+}
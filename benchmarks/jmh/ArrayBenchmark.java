@@ -0,0 +1,56 @@
+package jmh;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * JMH benchmarks for generated code on large arrays: each operation runs a compiled program that
+ * allocates an integer array of the given size, fills it and sums it. 10^8 elements take 400 MB,
+ * so the forked JVM gets a 2 GB heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ArrayBenchmark {
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    private Runnable program;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void compile() throws Exception {
+        // The analyzer and the program print on stdout; keep that out of the measurements
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        CompilerPhases phases = CompilerPhases.load();
+        Object ast = phases.parse(SyntheticPrograms.arraySweep(size));
+        phases.analyze(ast);
+        program = phases.load(phases.generateCode(ast));
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreOutput() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void allocateAndSweep() {
+        program.run();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ArrayBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,144 @@
+package jmh;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * JMH benchmarks for each compiler phase: tokenizing, parsing, semantic analysis and code generation.
+ * Inputs are the programs in final_tests plus synthetic programs with thousands of routines
+ * and deeply nested expressions. Run main() to get throughput together with the GC profiler's
+ * allocation rate for every phase.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompilerBenchmark {
+
+    // "final_tests" runs every program of the corpus per operation
+    @Param({"final_tests", "routines_1000", "routines_5000", "deep_expression_500"})
+    public String input;
+
+    // Location of the final_tests corpus, relative to the working directory
+    @Param({"../final_tests"})
+    public String corpusDir;
+
+    private CompilerPhases phases;
+    private List<String> sources;
+    private List<Object> analyzedAsts;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void loadSources() throws Exception {
+        // The analyzer reports optimizations on stdout; keep that out of the measurements
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        phases = CompilerPhases.load();
+
+        sources = new ArrayList<>();
+        if (input.equals("final_tests")) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(corpusDir), "*.txt")) {
+                for (Path file : files) {
+                    sources.add(new String(Files.readAllBytes(file)));
+                }
+            }
+        } else if (input.startsWith("routines_")) {
+            sources.add(SyntheticPrograms.routines(Integer.parseInt(input.substring("routines_".length()))));
+        } else if (input.startsWith("deep_expression_")) {
+            sources.add(SyntheticPrograms.deepExpression(Integer.parseInt(input.substring("deep_expression_".length()))));
+        } else {
+            throw new IllegalArgumentException("Unknown benchmark input: " + input);
+        }
+
+        // Keep only the programs that make it through every phase, so each benchmark measures the same set
+        List<String> usable = new ArrayList<>();
+        analyzedAsts = new ArrayList<>();
+        for (String source : sources) {
+            try {
+                Object ast = phases.parse(source);
+                phases.analyze(ast);
+                phases.generateCode(ast);
+                usable.add(source);
+                analyzedAsts.add(ast);
+            } catch (Exception e) {
+                // Not supported by the current compiler; skip it
+            }
+        }
+        sources = usable;
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreOutput() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole bh) throws Exception {
+        for (String source : sources) {
+            bh.consume(phases.tokenize(source));
+        }
+    }
+
+    // Includes tokenizing, since the parser pulls tokens from the lexer
+    @Benchmark
+    public void parse(Blackhole bh) throws Exception {
+        for (String source : sources) {
+            bh.consume(phases.parse(source));
+        }
+    }
+
+    // The parser without the DisegnaAlbero parse-tree recorder; compare with parse
+    @Benchmark
+    public void parseProduction(Blackhole bh) throws Exception {
+        for (String source : sources) {
+            bh.consume(phases.parseProduction(source));
+        }
+    }
+
+    /* Analysis rewrites the AST, so every invocation gets freshly parsed trees */
+    @State(Scope.Thread)
+    public static class FreshAsts {
+        List<Object> asts;
+
+        @Setup(Level.Invocation)
+        public void parseAll(CompilerBenchmark benchmark) throws Exception {
+            asts = new ArrayList<>();
+            for (String source : benchmark.sources) {
+                asts.add(benchmark.phases.parse(source));
+            }
+        }
+    }
+
+    @Benchmark
+    public void analyze(FreshAsts fresh, Blackhole bh) {
+        for (Object ast : fresh.asts) {
+            phases.analyze(ast);
+            bh.consume(ast);
+        }
+    }
+
+    @Benchmark
+    public void generateCode(Blackhole bh) {
+        for (Object ast : analyzedAsts) {
+            bh.consume(phases.generateCode(ast));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CompilerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,32 @@
+package jmh;
+
+/*
+ * The compiler lives in the default package, which classes in a named package cannot import,
+ * and JMH refuses benchmarks in the default package. The benchmarks therefore drive the
+ * compiler through this interface, implemented by the default-package BenchmarkPhases.
+ */
+public interface CompilerPhases {
+    // Returns the number of tokens
+    int tokenize(String source) throws Exception;
+
+    // Returns the ProgramNode
+    Object parse(String source) throws Exception;
+
+    // Same as parse, without recording the drawable parse tree
+    Object parseProduction(String source) throws Exception;
+
+    void analyze(Object ast);
+
+    // Same as analyze, with loop-invariant code motion turned on or off
+    void analyze(Object ast, boolean hoistLoopInvariants);
+
+    // Returns the generated classes
+    Object generateCode(Object ast);
+
+    // Loads the classes returned by generateCode; the result runs the program's main method
+    Runnable load(Object classes) throws Exception;
+
+    static CompilerPhases load() throws ReflectiveOperationException {
+        return (CompilerPhases) Class.forName("BenchmarkPhases").getDeclaredConstructor().newInstance();
+    }
+}
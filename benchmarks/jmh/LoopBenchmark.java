@@ -0,0 +1,59 @@
+package jmh;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * JMH benchmarks for generated code in nested loops: each operation runs a compiled program whose
+ * inner loop body recomputes record field products and outer-iterator terms, compiled with and
+ * without loop-invariant code motion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoopBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean hoistLoopInvariants;
+
+    private Runnable program;
+    private PrintStream originalOut;
+
+    @Setup(Level.Trial)
+    public void compile() throws Exception {
+        // The analyzer and the program print on stdout; keep that out of the measurements
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        CompilerPhases phases = CompilerPhases.load();
+        Object ast = phases.parse(SyntheticPrograms.nestedLoops(size));
+        phases.analyze(ast, hoistLoopInvariants);
+        program = phases.load(phases.generateCode(ast));
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreOutput() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void nestedLoops() {
+        program.run();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(LoopBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,78 @@
+package jmh;
+
+/* Generates scaled source programs for the benchmarks */
+public class SyntheticPrograms {
+
+    // A program with the given number of routines, each with a branch and a loop over its parameters
+    // (routine bodies cannot declare variables), followed by a main body that calls every routine once
+    public static String routines(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String a = "a" + i;
+            String b = "b" + i;
+            sb.append("routine f").append(i).append("(").append(a).append(": integer, ").append(b).append(": integer): integer is\n");
+            sb.append("  if (").append(a).append(" > 100) then\n");
+            sb.append("    ").append(a).append(" := ").append(a).append(" / 3;\n");
+            sb.append("  else\n");
+            sb.append("    ").append(a).append(" := ").append(a).append(" + 2;\n");
+            sb.append("  end\n");
+            sb.append("  for k").append(i).append(" in [0 .. 10] loop\n");
+            sb.append("    ").append(b).append(" := ").append(b).append(" + k").append(i).append(";\n");
+            sb.append("  end\n");
+            sb.append("  return ").append(a).append(" * ").append(i % 100).append(" + ").append(b).append(" - 7;\n");
+            sb.append("end\n\n");
+        }
+        sb.append("var total : integer is 0;\n");
+        for (int i = 0; i < count; i++) {
+            sb.append("total := total + f").append(i).append("(").append(i % 100).append(", 1);\n");
+        }
+        sb.append("print total;\n");
+        return sb.toString();
+    }
+
+    // A program that allocates an integer array of the given size, fills it and sums it back
+    public static String arraySweep(int size) {
+        return "var a : array [" + size + "] integer;\n"
+                + "var s : integer is 0;\n"
+                + "for i in [0 .. " + (size - 1) + "] loop\n"
+                + "  a[i] := i;\n"
+                + "end\n"
+                + "for i in [0 .. " + (size - 1) + "] loop\n"
+                + "  s := s + a[i];\n"
+                + "end\n"
+                + "print s;\n";
+    }
+
+    // Nested loops over an n by n grid whose inner body recomputes values that only depend on the
+    // fields of a record and the outer iterator
+    public static String nestedLoops(int n) {
+        return "type Box is record\n"
+                + "  var w : integer;\n"
+                + "  var h : integer;\n"
+                + "end;\n"
+                + "var b : Box;\n"
+                + "b.w := 3;\n"
+                + "b.h := 5;\n"
+                + "var n : integer is " + n + ";\n"
+                + "var s : integer is 0;\n"
+                + "for i in [0 .. n - 1] loop\n"
+                + "  for j in [0 .. n - 1] loop\n"
+                + "    s := s + (b.w * b.h + i * n) * (b.w + b.h) + j;\n"
+                + "  end\n"
+                + "end\n"
+                + "print s;\n";
+    }
+
+    // A program whose single expression is nested to the given depth: ((((x + 1) * 2) - 3) + 4) ...
+    public static String deepExpression(int depth) {
+        String[] operators = {" + ", " * ", " - "};
+        StringBuilder expr = new StringBuilder("x");
+        for (int i = 0; i < depth; i++) {
+            expr.insert(0, '(');
+            expr.append(operators[i % operators.length]).append(i % 9 + 1).append(')');
+        }
+        return "var x : integer is 3;\n"
+                + "var y : integer is " + expr + ";\n"
+                + "print y;\n";
+    }
+}
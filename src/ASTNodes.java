@@ -84,15 +84,35 @@ class DeclarationNode extends ASTNode {
 }
 
 /* Type Nodes */
-abstract class TypeNode extends ASTNode { }
+/* Types compare structurally: two type nodes are equal when they describe the same type */
+abstract class TypeNode extends ASTNode {
+    @Override
+    public boolean equals(Object obj) {
+        return obj != null && obj.getClass() == getClass();
+    }
 
-class IntegerTypeNode extends TypeNode { }
+    @Override
+    public int hashCode() {
+        return getClass().getName().hashCode();
+    }
+}
 
-class BooleanTypeNode extends TypeNode { }
+/* The INSTANCE constants are canonical types for computed expression types; they are never attached to the tree */
+class IntegerTypeNode extends TypeNode {
+    static final IntegerTypeNode INSTANCE = new IntegerTypeNode();
+}
 
-class RealTypeNode extends TypeNode { }
+class BooleanTypeNode extends TypeNode {
+    static final BooleanTypeNode INSTANCE = new BooleanTypeNode();
+}
 
-class StringTypeNode extends TypeNode { }
+class RealTypeNode extends TypeNode {
+    static final RealTypeNode INSTANCE = new RealTypeNode();
+}
+
+class StringTypeNode extends TypeNode {
+    static final StringTypeNode INSTANCE = new StringTypeNode();
+}
 
 
 class ArrayTypeNode extends TypeNode {
@@ -112,10 +132,31 @@ class ArrayTypeNode extends TypeNode {
     public TypeNode getElementType() {
         return elementType;
     }
+
+    public void setElementType(TypeNode elementType) {
+        this.elementType = elementType;
+        if (elementType != null) elementType.setParent(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ArrayTypeNode)) {
+            return false;
+        }
+        ArrayTypeNode other = (ArrayTypeNode) obj;
+        return size == other.size && Objects.equals(elementType, other.elementType);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Objects.hashCode(elementType);
+    }
 }
 
 class RecordTypeNode extends TypeNode {
     private List<DeclarationNode> fields;
+    // Field name to field, built on first lookup so field access does not scan the list
+    private Map<String, RecordField> fieldMap;
 
     public RecordTypeNode(List<DeclarationNode> fields) {
         this.fields = fields;
@@ -129,6 +170,92 @@ class RecordTypeNode extends TypeNode {
     public List<DeclarationNode> getFields() {
         return fields;
     }
+
+    // Fields in declaration order
+    public Collection<RecordField> getFieldInfos() {
+        return getFieldMap().values();
+    }
+
+    // Returns null if the record has no field with this name
+    public RecordField getField(String name) {
+        return getFieldMap().get(name);
+    }
+
+    // Records with the same field names and types in the same order are equal
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RecordTypeNode)) {
+            return false;
+        }
+        List<DeclarationNode> otherFields = ((RecordTypeNode) obj).fields;
+        if (fields.size() != otherFields.size()) {
+            return false;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            DeclarationNode field = fields.get(i);
+            DeclarationNode otherField = otherFields.get(i);
+            if (!field.getIdentifier().equals(otherField.getIdentifier())
+                    || !Objects.equals(field.getType(), otherField.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (DeclarationNode field : fields) {
+            hash = 31 * hash + field.getIdentifier().hashCode();
+            hash = 31 * hash + Objects.hashCode(field.getType());
+        }
+        return hash;
+    }
+
+    private Map<String, RecordField> getFieldMap() {
+        if (fieldMap == null) {
+            fieldMap = new LinkedHashMap<>();
+            for (DeclarationNode field : fields) {
+                fieldMap.putIfAbsent(field.getIdentifier(), new RecordField(fieldMap.size(), field));
+            }
+        }
+        return fieldMap;
+    }
+}
+
+/* A record field with its position; the JVM descriptor is filled in when the record class is generated */
+class RecordField {
+    private int index;
+    private DeclarationNode declaration;
+    private String descriptor;
+
+    public RecordField(int index, DeclarationNode declaration) {
+        this.index = index;
+        this.declaration = declaration;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return declaration.getIdentifier();
+    }
+
+    public TypeNode getType() {
+        return declaration.getType();
+    }
+
+    public String getDescriptor() {
+        return descriptor;
+    }
+
+    public void setDescriptor(String descriptor) {
+        this.descriptor = descriptor;
+    }
 }
 
 class TypeIdentifierNode extends TypeNode {
@@ -141,6 +268,16 @@ class TypeIdentifierNode extends TypeNode {
     public String getTypeName() {
         return typeName;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof TypeIdentifierNode && typeName.equals(((TypeIdentifierNode) obj).typeName);
+    }
+
+    @Override
+    public int hashCode() {
+        return typeName.hashCode();
+    }
 }
 
 class TypeDeclarationNode extends ASTNode {
@@ -160,6 +297,11 @@ class TypeDeclarationNode extends ASTNode {
     public TypeNode getTypeDefinition() {
         return typeDefinition;
     }
+
+    public void setTypeDefinition(TypeNode typeDefinition) {
+        this.typeDefinition = typeDefinition;
+        if (typeDefinition != null) typeDefinition.setParent(this);
+    }
 }
 
 class TypeDeclarationListNode extends ASTNode {
@@ -182,7 +324,18 @@ class TypeDeclarationListNode extends ASTNode {
 
 
 /* Expression Nodes */
-abstract class ExpressionNode extends ASTNode { }
+abstract class ExpressionNode extends ASTNode {
+    // Type computed for this expression, cached so later phases do not re-derive it
+    private TypeNode resolvedType;
+
+    public TypeNode getResolvedType() {
+        return resolvedType;
+    }
+
+    public void setResolvedType(TypeNode resolvedType) {
+        this.resolvedType = resolvedType;
+    }
+}
 
 class NumberNode extends ExpressionNode {
     private int value;
@@ -236,6 +389,8 @@ class BinaryOpNode extends ExpressionNode {
     private ExpressionNode left;
     private ExpressionNode right;
     private String operator;
+    // Set when analysis proves the divisor of an integer / or mod is never zero
+    private boolean divisorNonZero;
 
     public BinaryOpNode(ExpressionNode left, ExpressionNode right, String operator) {
         this.left = left;
@@ -266,6 +421,14 @@ class BinaryOpNode extends ExpressionNode {
     public String getOperator() {
         return operator;
     }
+
+    public boolean isDivisorNonZero() {
+        return divisorNonZero;
+    }
+
+    public void setDivisorNonZero(boolean divisorNonZero) {
+        this.divisorNonZero = divisorNonZero;
+    }
 }
 
 class UnaryOpNode extends ExpressionNode {
@@ -308,6 +471,8 @@ class StringNode extends ExpressionNode {
 class ArrayAccessNode extends ExpressionNode {
     private ExpressionNode array;
     private ExpressionNode index;
+    // Set by range analysis when the index is proven to lie within the array
+    private boolean indexInBounds;
 
     public ArrayAccessNode(ExpressionNode array, ExpressionNode index) {
         this.array = array;
@@ -333,6 +498,14 @@ class ArrayAccessNode extends ExpressionNode {
         this.index = index;
         if (index != null) index.setParent(this);
     }
+
+    public boolean isIndexInBounds() {
+        return indexInBounds;
+    }
+
+    public void setIndexInBounds(boolean indexInBounds) {
+        this.indexInBounds = indexInBounds;
+    }
 }
 
 class FieldAccessNode extends ExpressionNode {
@@ -386,6 +559,27 @@ class FunctionCallNode extends ExpressionNode {
     }
 }
 
+/* Evaluates an expression and keeps its value in a compiler-generated local, which later
+   IdentifierNodes of the same name read instead of evaluating the expression again */
+class SavedValueNode extends ExpressionNode {
+    private String name;
+    private ExpressionNode expression;
+
+    public SavedValueNode(String name, ExpressionNode expression) {
+        this.name = name;
+        this.expression = expression;
+        if (expression != null) expression.setParent(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExpressionNode getExpression() {
+        return expression;
+    }
+}
+
 /* Statement Nodes */
 abstract class StatementNode extends ASTNode { }
 
@@ -521,16 +715,28 @@ class ForLoopNode extends StatementNode {
     private IdentifierNode iterator;
     private ExpressionNode start;
     private ExpressionNode end;
+    // Increment per iteration; null means 1
+    private ExpressionNode step;
+    // Iterates from end down to start
+    private boolean reverse;
     private StatementNode body;
 
     public ForLoopNode(IdentifierNode iterator, ExpressionNode start, ExpressionNode end, StatementNode body) {
+        this(iterator, start, end, null, false, body);
+    }
+
+    public ForLoopNode(IdentifierNode iterator, ExpressionNode start, ExpressionNode end, ExpressionNode step,
+                       boolean reverse, StatementNode body) {
         this.iterator = iterator;
         this.start = start;
         this.end = end;
+        this.step = step;
+        this.reverse = reverse;
         this.body = body;
         if (iterator != null) iterator.setParent(this);
         if (start != null) start.setParent(this);
         if (end != null) end.setParent(this);
+        if (step != null) step.setParent(this);
         if (body != null) body.setParent(this);
     }
 
@@ -561,6 +767,19 @@ class ForLoopNode extends StatementNode {
         if (end != null) end.setParent(this);
     }
 
+    public ExpressionNode getStep() {
+        return step;
+    }
+
+    public void setStep(ExpressionNode step) {
+        this.step = step;
+        if (step != null) step.setParent(this);
+    }
+
+    public boolean isReverse() {
+        return reverse;
+    }
+
     public StatementNode getBody() {
         return body;
     }
@@ -605,11 +824,47 @@ class PrintNode extends StatementNode {
         return expression;
     }
 
+    public void setExpression(ExpressionNode expression) {
+        this.expression = expression;
+        if (expression != null) expression.setParent(this);
+    }
+
     public void accept(ASTVisitor visitor) {
         visitor.visit(this);
     }
 }
 
+/* A compiler-generated local, initialized once where it appears; used for values hoisted out of loops */
+class TemporaryNode extends StatementNode {
+    private String name;
+    private TypeNode type;
+    private ExpressionNode expression;
+
+    public TemporaryNode(String name, TypeNode type, ExpressionNode expression) {
+        this.name = name;
+        this.type = type;
+        this.expression = expression;
+        if (expression != null) expression.setParent(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TypeNode getType() {
+        return type;
+    }
+
+    public ExpressionNode getExpression() {
+        return expression;
+    }
+
+    public void setExpression(ExpressionNode expression) {
+        this.expression = expression;
+        if (expression != null) expression.setParent(this);
+    }
+}
+
 
 /* Function Node */
 class FunctionNode extends ASTNode {
@@ -644,9 +899,19 @@ class FunctionNode extends ASTNode {
         return returnType;
     }
 
+    public void setReturnType(TypeNode returnType) {
+        this.returnType = returnType;
+        if (returnType != null) returnType.setParent(this);
+    }
+
     public StatementNode getBody() {
         return body;
     }
+
+    public void setBody(StatementNode body) {
+        this.body = body;
+        if (body != null) body.setParent(this);
+    }
 }
 
 /* Empty Node */
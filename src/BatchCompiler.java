@@ -0,0 +1,264 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+/*
+ * Compiles many source files at once on a work-stealing pool.
+ * Usage: java BatchCompiler [-d outputDir] [-j threads] <file|directory>...
+ * Directories are searched recursively for .txt sources. Every unit gets its own pipeline
+ * and a main class named after its file, so generated classes never clash. While a unit compiles,
+ * what its thread prints is captured: the analyzer's optimization notes are dropped, and the
+ * errors the lexer and parser print are reported under the unit's line of the summary.
+ */
+public class BatchCompiler {
+    private int threads;
+    private Path outputDir;
+
+    public BatchCompiler(int threads, Path outputDir) {
+        this.threads = threads;
+        this.outputDir = outputDir;
+    }
+
+    /* Result of compiling one file */
+    static class UnitResult {
+        private Path source;
+        private String className;
+        private CompilationResult result;
+        private List<String> messages;
+        private long nanos;
+
+        UnitResult(Path source, String className, CompilationResult result, List<String> messages, long nanos) {
+            this.source = source;
+            this.className = className;
+            this.result = result;
+            this.messages = messages;
+            this.nanos = nanos;
+        }
+
+        public Path getSource() {
+            return source;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public CompilationResult getResult() {
+            return result;
+        }
+
+        // What the unit printed to System.err while it compiled
+        public List<String> getMessages() {
+            return messages;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+
+    /* Sends what a thread prints to that thread's buffer while it has one, and anything else on */
+    private static class ThreadCapture extends OutputStream {
+        private final PrintStream target;
+        private final ThreadLocal<ByteArrayOutputStream> buffer = new ThreadLocal<>();
+
+        ThreadCapture(PrintStream target) {
+            this.target = target;
+        }
+
+        void start() {
+            buffer.set(new ByteArrayOutputStream());
+        }
+
+        String stop() {
+            String captured = buffer.get().toString();
+            buffer.remove();
+            return captured;
+        }
+
+        @Override
+        public void write(int b) {
+            ByteArrayOutputStream captured = buffer.get();
+            if (captured != null) {
+                captured.write(b);
+            } else {
+                target.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ByteArrayOutputStream captured = buffer.get();
+            if (captured != null) {
+                captured.write(b, off, len);
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() {
+            target.flush();
+        }
+    }
+
+    private ThreadCapture out;
+    private ThreadCapture err;
+
+    public List<UnitResult> compileAll(List<Path> sources) throws InterruptedException {
+        List<String> classNames = assignClassNames(sources);
+        List<Callable<UnitResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            Path source = sources.get(i);
+            String className = classNames.get(i);
+            tasks.add(() -> compileUnit(source, className));
+        }
+
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        out = new ThreadCapture(originalOut);
+        err = new ThreadCapture(originalErr);
+        System.setOut(new PrintStream(out, true));
+        System.setErr(new PrintStream(err, true));
+        ExecutorService pool = Executors.newWorkStealingPool(threads);
+        try {
+            List<UnitResult> results = new ArrayList<>();
+            for (Future<UnitResult> future : pool.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+    }
+
+    private UnitResult compileUnit(Path source, String className) {
+        long start = System.nanoTime();
+        CompilationResult result;
+        out.start();
+        err.start();
+        try (Reader reader = Files.newBufferedReader(source)) {
+            // A fresh lexer, parser, analyzer and generator per task
+            result = new Compiler(className).compile(reader);
+            if (result.isSuccess() && outputDir != null) {
+                writeClasses(result.getClasses());
+            }
+        } catch (IOException e) {
+            result = new CompilationResult(null, null, e);
+        } finally {
+            out.stop();
+        }
+        List<String> messages = new ArrayList<>();
+        for (String line : err.stop().split("\\R")) {
+            if (!line.isBlank()) {
+                messages.add(line.trim());
+            }
+        }
+        return new UnitResult(source, className, result, messages, System.nanoTime() - start);
+    }
+
+    private void writeClasses(Map<String, byte[]> classes) throws IOException {
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            Files.write(outputDir.resolve(entry.getKey() + ".class"), entry.getValue());
+        }
+    }
+
+    // Derives a valid, unique class name from each file name, e.g. 02_for_loop.txt -> Program_02_for_loop
+    private List<String> assignClassNames(List<Path> sources) {
+        List<String> names = new ArrayList<>();
+        Set<String> used = new HashSet<>();
+        for (Path source : sources) {
+            String fileName = source.getFileName().toString();
+            int dot = fileName.lastIndexOf('.');
+            if (dot > 0) {
+                fileName = fileName.substring(0, dot);
+            }
+            String base = "Program_" + fileName.replaceAll("[^A-Za-z0-9_]", "_");
+            String name = base;
+            for (int i = 2; !used.add(name); i++) {
+                name = base + "_" + i;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    static List<Path> collectSources(List<String> arguments) throws IOException {
+        List<Path> sources = new ArrayList<>();
+        for (String argument : arguments) {
+            Path path = Paths.get(argument);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.walk(path)) {
+                    sources.addAll(files.filter(f -> Files.isRegularFile(f) && f.toString().endsWith(".txt"))
+                            .sorted()
+                            .collect(Collectors.toList()));
+                }
+            } else {
+                sources.add(path);
+            }
+        }
+        return sources;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path outputDir = null;
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-j")) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("-d")) {
+                outputDir = Paths.get(args[++i]);
+                Files.createDirectories(outputDir);
+            } else {
+                inputs.add(args[i]);
+            }
+        }
+        if (inputs.isEmpty()) {
+            System.err.println("Usage: java BatchCompiler [-d outputDir] [-j threads] <file|directory>...");
+            System.exit(1);
+        }
+
+        List<Path> sources = collectSources(inputs);
+        BatchCompiler batch = new BatchCompiler(threads, outputDir);
+
+        long start = System.nanoTime();
+        List<UnitResult> results = batch.compileAll(sources);
+        long elapsed = System.nanoTime() - start;
+
+        // Per-file summary
+        int succeeded = 0;
+        System.out.println("Batch compilation summary:");
+        for (UnitResult unit : results) {
+            CompilationResult result = unit.getResult();
+            if (result.isSuccess()) {
+                succeeded++;
+                System.out.printf("  OK    %s -> %s (%d classes, %.1f ms)%n", unit.getSource(), unit.getClassName(),
+                        result.getClasses().size(), unit.getNanos() / 1e6);
+            } else if (result.getError() != null) {
+                System.out.printf("  FAIL  %s: %s%n", unit.getSource(), result.getError());
+            } else {
+                System.out.printf("  FAIL  %s: %d error(s)%n", unit.getSource(), result.getDiagnostics().size());
+            }
+            // Collected per unit, so messages of units compiled in parallel stay apart
+            for (String message : unit.getMessages()) {
+                System.out.printf("          %s%n", message);
+            }
+            for (String diagnostic : result.getDiagnostics()) {
+                System.out.printf("          %s%n", diagnostic);
+            }
+        }
+
+        double seconds = elapsed / 1e9;
+        System.out.printf("Compiled %d of %d files (%d failed) in %.3f s on %d threads: %.1f files/sec%n",
+                succeeded, results.size(), results.size() - succeeded, seconds, threads, results.size() / seconds);
+    }
+}
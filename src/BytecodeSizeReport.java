@@ -0,0 +1,81 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/*
+ * Compiles every program of the given corpora twice, with conditional constant propagation turned
+ * off and on, and reports the size of the generated classes for each program and in total.
+ * Programs that do not compile either way are listed as failed and left out of the totals.
+ *
+ * Usage: java BytecodeSizeReport [file|directory]...
+ * Defaults to the ../tests and ../final_tests directories.
+ */
+public class BytecodeSizeReport {
+
+    public static void main(String[] args) throws Exception {
+        List<String> inputs = new ArrayList<>(Arrays.asList(args));
+        if (inputs.isEmpty()) {
+            inputs.add("../tests");
+            inputs.add("../final_tests");
+        }
+
+        List<Path> files = BatchCompiler.collectSources(inputs);
+        int width = "total".length();
+        for (Path file : files) {
+            width = Math.max(width, file.toString().length());
+        }
+        String row = "%-" + width + "s %8s %8s %8s%n";
+        System.out.printf(row, "program", "without", "with", "saved");
+
+        long totalWithout = 0;
+        long totalWith = 0;
+        int changed = 0;
+        int compiled = 0;
+        for (Path file : files) {
+            String source = new String(Files.readAllBytes(file));
+            long without = compiledSize(source, false);
+            long with = compiledSize(source, true);
+            if (without < 0 || with < 0) {
+                System.out.printf(row, file, "failed", "", "");
+                continue;
+            }
+            compiled++;
+            totalWithout += without;
+            totalWith += with;
+            if (with != without) {
+                changed++;
+            }
+            System.out.printf(row, file, without, with, without - with);
+        }
+        System.out.printf(row, "total", totalWithout, totalWith, totalWithout - totalWith);
+        System.out.printf("%.1f%% smaller; %d of %d programs changed%n",
+                totalWithout == 0 ? 0.0 : 100.0 * (totalWithout - totalWith) / totalWithout, changed, compiled);
+    }
+
+    // Total size of the classes generated for source, or -1 if it does not compile
+    private static long compiledSize(String source, boolean propagateConditionalConstants) {
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        try {
+            // The analyzer reports optimizations and diagnostics; only the sizes are of interest
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+            Compiler compiler = new Compiler();
+            compiler.setPropagateConditionalConstants(propagateConditionalConstants);
+            CompilationResult result = compiler.compile(new StringReader(source));
+            if (!result.isSuccess()) {
+                return -1;
+            }
+            long size = 0;
+            for (byte[] bytecode : result.getClasses().values()) {
+                size += bytecode.length;
+            }
+            return size;
+        } catch (RuntimeException | Error e) {
+            return -1;
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+    }
+}
@@ -6,9 +6,13 @@ import java.io.IOException;
 import java.util.*;
 
 public class CodeGenerator implements Opcodes {
+    // Thrown when a loop over a non-empty range is reached with a step that is not positive
+    static final String FOR_LOOP_STEP_ERROR = "Step of 'for' loop must be positive";
+
     private ClassWriter cw;
     private MethodVisitor mv;
     private String className = "MainClass";
+    private String recordClassPrefix = "RecordClass";
     private Map<String, Integer> variableIndex;
     private Map<String, TypeNode> variableTypes;
     private int currentLocalVarIndex = 0;
@@ -16,8 +20,18 @@ public class CodeGenerator implements Opcodes {
     private Map<RecordTypeNode, String> recordTypeClasses;
     private int recordClassCounter = 0;
     private int labelCounter = 0;
-    private Map<String, TypeNode> typeTable;
-
+    private Map<String, byte[]> generatedClasses;
+
+    // Routines are lowered to SSA form and optimized there when the form covers everything they use
+    private IrBuilder irBuilder = new IrBuilder();
+    private IrPassManager irPasses = new IrPassManager()
+            .add(new IrValueNumbering())
+            .add(new IrDeadCodeElimination());
+    private int irFunctionCount = 0;
+    // Local of every value kept in one, values computed right where they are used, and block labels
+    private Map<IrInstruction, Integer> irSlots;
+    private Set<IrInstruction> irInlined;
+    private Map<IrBlock, Label> irLabels;
 
     public CodeGenerator() {
         cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
@@ -25,20 +39,73 @@ public class CodeGenerator implements Opcodes {
         variableTypes = new HashMap<>();
         functionTable = new HashMap<>();
         recordTypeClasses = new HashMap<>();
-        typeTable = new HashMap<>();
+        generatedClasses = new LinkedHashMap<>();
+    }
+
+    // Generates the program under its own class name; record classes are prefixed with it
+    // so that several programs can be loaded or written side by side without clashes.
+    public CodeGenerator(String className) {
+        this();
+        this.className = className;
+        this.recordClassPrefix = className + "_RecordClass";
+    }
+
+    // Clears all per-unit state so the same generator can compile another program.
+    // Only the ClassWriter is recreated, since ASM writers cannot be reused.
+    public void reset() {
+        cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        mv = null;
+        variableIndex.clear();
+        variableTypes.clear();
+        currentLocalVarIndex = 0;
+        functionTable.clear();
+        recordTypeClasses.clear();
+        recordClassCounter = 0;
+        labelCounter = 0;
+        generatedClasses.clear();
+        irPasses.reset();
+        irFunctionCount = 0;
+    }
+
+    // Passes run over the SSA form of the routines, with the time spent in each
+    public IrPassManager getIrPassManager() {
+        return irPasses;
+    }
+
+    // Number of routines of the last program that were compiled from SSA form
+    public int getIrFunctionCount() {
+        return irFunctionCount;
     }
 
     public void generateCode(ProgramNode ast) throws IOException {
-        // Define the class
-        cw.visit(V1_8, ACC_PUBLIC, className, null, "java/lang/Object", null);
+        Map<String, byte[]> classes = generateClasses(ast);
 
-        // Process type declarations
-        for (TypeDeclarationNode typeDecl : ast.getTypeDeclarations()) {
-            String typeName = typeDecl.getIdentifier();
-            TypeNode typeDef = typeDecl.getTypeDefinition();
-            typeTable.put(typeName, typeDef);
+        // Write every generated class to a file
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            FileOutputStream fos = new FileOutputStream(entry.getKey() + ".class");
+            fos.write(entry.getValue());
+            fos.close();
         }
 
+        System.out.println("Bytecode generation completed. Class file written to " + className + ".class");
+    }
+
+    // Compiles the program and loads the main class and all record classes into a fresh
+    // class loader, straight from the ClassWriter bytes. Nothing is written to disk.
+    public CompiledProgram generateInMemory(ProgramNode ast) throws ClassNotFoundException {
+        Map<String, byte[]> classes = generateClasses(ast);
+        InMemoryClassLoader loader = new InMemoryClassLoader(classes, CodeGenerator.class.getClassLoader());
+        Class<?> mainClass = loader.loadClass(className);
+        return new CompiledProgram(className, classes, mainClass);
+    }
+
+    // Generates the main class and the record classes it uses, keyed by class name.
+    // The main class is always the first entry. Type names must already be resolved
+    // by the semantic analyzer.
+    public Map<String, byte[]> generateClasses(ProgramNode ast) {
+        // Define the class
+        cw.visit(V1_8, ACC_PUBLIC, className, null, "java/lang/Object", null);
+
         // Generate built-in print methods
         generatePrintIntMethod();
         generatePrintRealMethod();
@@ -46,6 +113,8 @@ public class CodeGenerator implements Opcodes {
         generatePrintIntArrayMethod();
         generatePrintRealArrayMethod();
         generatePrintObjectArrayMethod();
+        generatePrintFlatArrayMethod("[I", IALOAD, "(I)V");
+        generatePrintFlatArrayMethod("[D", DALOAD, "(D)V");
 
         // Generate code for functions first
         for (ASTNode node : ast.getChildren()) {
@@ -84,16 +153,22 @@ public class CodeGenerator implements Opcodes {
         // End of class
         cw.visitEnd();
 
-        // Write the class to a file
-        FileOutputStream fos = new FileOutputStream(className + ".class");
-        fos.write(cw.toByteArray());
-        fos.close();
-
-        System.out.println("Bytecode generation completed. Class file written to " + className + ".class");
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        classes.put(className, cw.toByteArray());
+        classes.putAll(generatedClasses);
+        return classes;
     }
 
 
     private void generateFunction(FunctionNode node) {
+        IrFunction function = irBuilder.lower(node, functionTable::get);
+        if (function != null) {
+            irPasses.run(function);
+            generateIrFunction(function);
+            irFunctionCount++;
+            return;
+        }
+
         // Reset local variable index for the function
         currentLocalVarIndex = 0;
         variableIndex.clear();
@@ -127,6 +202,10 @@ public class CodeGenerator implements Opcodes {
         } else if (node.getReturnType() instanceof RealTypeNode) {
             mv.visitInsn(DCONST_0);
             mv.visitInsn(DRETURN);
+        } else if (node.getReturnType() instanceof StringTypeNode || node.getReturnType() instanceof ArrayTypeNode
+                || node.getReturnType() instanceof RecordTypeNode) {
+            mv.visitInsn(ACONST_NULL);
+            mv.visitInsn(ARETURN);
         } else {
             mv.visitInsn(RETURN);
         }
@@ -135,6 +214,494 @@ public class CodeGenerator implements Opcodes {
         mv.visitEnd();
     }
 
+    /* SSA Form */
+
+    // Every phi and every value used away from where it is computed gets a local of its own. A value
+    // used once, later in its block, is computed right there on the stack instead, as long as that
+    // does not move a load, call or trap across a store, call, print or trap. Phis are resolved by
+    // copies at the end of each predecessor; a conditional edge that needs copies jumps to them first.
+    private void generateIrFunction(IrFunction function) {
+        FunctionNode node = function.getSource();
+        mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, node.getIdentifier(), getMethodDescriptor(node), null, null);
+        mv.visitCode();
+
+        List<IrBlock> blocks = function.getBlocks();
+        Map<IrInstruction, Integer> uses = new HashMap<>();
+        irLabels = new HashMap<>();
+        for (IrBlock block : blocks) {
+            irLabels.put(block, new Label());
+            List<IrInstruction> users = new ArrayList<>(block.getPhis());
+            users.addAll(block.getInstructions());
+            users.add(block.getTerminator());
+            for (IrInstruction user : users) {
+                for (IrInstruction operand : user.getOperands()) {
+                    uses.merge(operand, 1, Integer::sum);
+                }
+            }
+        }
+
+        irInlined = new HashSet<>();
+        for (IrBlock block : blocks) {
+            chooseInlinedValues(block, uses);
+        }
+
+        // Parameters stay in their argument slots
+        List<Integer> parameterSlots = new ArrayList<>();
+        int nextSlot = 0;
+        if (node.getParameters() != null) {
+            for (DeclarationNode param : node.getParameters()) {
+                parameterSlots.add(nextSlot);
+                nextSlot += getLocalVariableSize(param.getType());
+            }
+        }
+        irSlots = new IrSlotAllocator(function, irInlined).allocate(parameterSlots, nextSlot);
+
+        for (int i = 0; i < blocks.size(); i++) {
+            IrBlock block = blocks.get(i);
+            mv.visitLabel(irLabels.get(block));
+            for (IrInstruction instruction : block.getInstructions()) {
+                if (instruction.getOp() == IrInstruction.Op.PARAM || instruction.getOp() == IrInstruction.Op.CONST
+                        || irInlined.contains(instruction)) {
+                    continue;
+                }
+                generateIrInstruction(instruction);
+                if (irSlots.containsKey(instruction)) {
+                    storeIrValue(instruction);
+                } else if (instruction.getType() != null) {
+                    mv.visitInsn(instruction.getType() instanceof RealTypeNode ? POP2 : POP);
+                }
+            }
+            generateIrTerminator(block, i + 1 < blocks.size() ? blocks.get(i + 1) : null);
+        }
+
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void chooseInlinedValues(IrBlock block, Map<IrInstruction, Integer> uses) {
+        List<IrInstruction> instructions = block.getInstructions();
+        Map<IrInstruction, Integer> positions = new HashMap<>();
+        for (int i = 0; i < instructions.size(); i++) {
+            positions.put(instructions.get(i), i);
+        }
+        for (int i = 0; i < instructions.size(); i++) {
+            chooseInlinedOperands(instructions.get(i).getOperands(), i, instructions, positions, uses);
+        }
+        IrInstruction terminator = block.getTerminator();
+        if (terminator.getOp() == IrInstruction.Op.JUMP) {
+            // The copies into the phis of the next block are the last thing the block does
+            chooseInlinedOperands(irCopySources(block, terminator.getTargets().get(0)), instructions.size(),
+                    instructions, positions, uses);
+        } else {
+            chooseInlinedOperands(terminator.getOperands(), instructions.size(), instructions, positions, uses);
+        }
+    }
+
+    // Operands are considered from the last one back, since an operand computed at its use runs
+    // after the values of the operands before it
+    private void chooseInlinedOperands(List<IrInstruction> operands, int position, List<IrInstruction> instructions,
+                                       Map<IrInstruction, Integer> positions, Map<IrInstruction, Integer> uses) {
+        Set<IrInstruction> moved = new HashSet<>();
+        for (int i = operands.size() - 1; i >= 0; i--) {
+            IrInstruction operand = operands.get(i);
+            Integer at = positions.get(operand);
+            if (at == null || at >= position || uses.get(operand) != 1 || operand.getType() == null
+                    || operand.getOp() == IrInstruction.Op.CONST || operand.getOp() == IrInstruction.Op.PARAM) {
+                continue;
+            }
+            boolean movable = isPureIrTree(operand);
+            if (!movable) {
+                // Only instructions without effects, or ones already moved to this use, may be skipped over
+                movable = true;
+                for (int p = at + 1; p < position && movable; p++) {
+                    IrInstruction between = instructions.get(p);
+                    movable = between.isPure() || moved.contains(between);
+                }
+            }
+            if (movable) {
+                irInlined.add(operand);
+                collectIrTree(operand, moved);
+            }
+        }
+    }
+
+    private boolean isPureIrTree(IrInstruction value) {
+        if (!value.isPure()) {
+            return false;
+        }
+        for (IrInstruction operand : value.getOperands()) {
+            if (irInlined.contains(operand) && !isPureIrTree(operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void collectIrTree(IrInstruction value, Set<IrInstruction> tree) {
+        tree.add(value);
+        for (IrInstruction operand : value.getOperands()) {
+            if (irInlined.contains(operand)) {
+                collectIrTree(operand, tree);
+            }
+        }
+    }
+
+    // Phis of the target that are written on the edge from the given block; a phi that shares its
+    // local with the value it takes there needs no copy
+    private List<IrInstruction> irCopyTargets(IrBlock from, IrBlock to) {
+        int predecessor = to.getPredecessors().indexOf(from);
+        List<IrInstruction> phis = new ArrayList<>();
+        for (IrInstruction phi : IrSlotAllocator.copyTargets(from, to)) {
+            if (!irSlots.get(phi).equals(irSlots.get(phi.getOperand(predecessor)))) {
+                phis.add(phi);
+            }
+        }
+        return phis;
+    }
+
+    private List<IrInstruction> irCopySources(IrBlock from, IrBlock to) {
+        int predecessor = to.getPredecessors().indexOf(from);
+        List<IrInstruction> sources = new ArrayList<>();
+        for (IrInstruction phi : IrSlotAllocator.copyTargets(from, to)) {
+            sources.add(phi.getOperand(predecessor));
+        }
+        return sources;
+    }
+
+    // All sources are pushed before any phi is stored, since a source may be another phi of the
+    // target; phis that only add a constant to themselves are incremented in place afterwards
+    private void generateIrCopies(IrBlock from, IrBlock to) {
+        int predecessor = to.getPredecessors().indexOf(from);
+        List<IrInstruction> stored = new ArrayList<>();
+        List<IrInstruction> incremented = new ArrayList<>();
+        for (IrInstruction phi : irCopyTargets(from, to)) {
+            (isIrIncrement(phi, phi.getOperand(predecessor)) ? incremented : stored).add(phi);
+        }
+        for (IrInstruction phi : stored) {
+            generateIrValue(phi.getOperand(predecessor));
+        }
+        for (int i = stored.size() - 1; i >= 0; i--) {
+            storeIrValue(stored.get(i));
+        }
+        for (IrInstruction phi : incremented) {
+            mv.visitIincInsn(irSlots.get(phi), irIncrement(phi, phi.getOperand(predecessor)));
+        }
+    }
+
+    // phi := phi + constant, or phi - constant, within the range of IINC
+    private boolean isIrIncrement(IrInstruction phi, IrInstruction source) {
+        if (!irInlined.contains(source) || source.getOp() != IrInstruction.Op.BINARY
+                || !(source.getType() instanceof IntegerTypeNode) || !(phi.getType() instanceof IntegerTypeNode)) {
+            return false;
+        }
+        IrInstruction left = source.getOperand(0);
+        IrInstruction right = source.getOperand(1);
+        long increment;
+        if (source.getName().equals("+") && left == phi && isIrIntConstant(right)) {
+            increment = (Integer) right.getConstant();
+        } else if (source.getName().equals("+") && right == phi && isIrIntConstant(left)) {
+            increment = (Integer) left.getConstant();
+        } else if (source.getName().equals("-") && left == phi && isIrIntConstant(right)) {
+            increment = -(long) (Integer) right.getConstant();
+        } else {
+            return false;
+        }
+        return increment >= Short.MIN_VALUE && increment <= Short.MAX_VALUE;
+    }
+
+    private int irIncrement(IrInstruction phi, IrInstruction source) {
+        IrInstruction constant = isIrIntConstant(source.getOperand(1)) ? source.getOperand(1) : source.getOperand(0);
+        int increment = (Integer) constant.getConstant();
+        return source.getName().equals("-") ? -increment : increment;
+    }
+
+    private boolean isIrIntConstant(IrInstruction value) {
+        return value.getOp() == IrInstruction.Op.CONST && value.getConstant() instanceof Integer;
+    }
+
+    private void generateIrTerminator(IrBlock block, IrBlock next) {
+        IrInstruction terminator = block.getTerminator();
+        switch (terminator.getOp()) {
+            case RETURN:
+                if (terminator.getOperands().isEmpty()) {
+                    mv.visitInsn(RETURN);
+                    break;
+                }
+                TypeNode type = terminator.getOperand(0).getType();
+                generateIrValue(terminator.getOperand(0));
+                if (type instanceof IntegerTypeNode || type instanceof BooleanTypeNode) {
+                    mv.visitInsn(IRETURN);
+                } else if (type instanceof RealTypeNode) {
+                    mv.visitInsn(DRETURN);
+                } else {
+                    mv.visitInsn(ARETURN);
+                }
+                break;
+            case JUMP:
+                IrBlock target = terminator.getTargets().get(0);
+                generateIrCopies(block, target);
+                if (!irFallsInto(target, next)) {
+                    mv.visitJumpInsn(GOTO, irLabels.get(target));
+                }
+                break;
+            case BRANCH:
+                generateIrBranch(block, terminator, next);
+                break;
+            default:
+                throw new RuntimeException("Unsupported terminator: " + terminator);
+        }
+    }
+
+    // The conditional jump goes straight to its target when that edge needs no copies; the other
+    // edge falls through, to the next block if possible
+    private void generateIrBranch(IrBlock block, IrInstruction branch, IrBlock next) {
+        IrBlock ifTrue = branch.getTargets().get(0);
+        IrBlock ifFalse = branch.getTargets().get(1);
+        boolean trueCopies = !irCopyTargets(block, ifTrue).isEmpty();
+        boolean falseCopies = !irCopyTargets(block, ifFalse).isEmpty();
+        boolean jumpIfTrue = trueCopies != falseCopies ? !trueCopies : !irFallsInto(ifTrue, next);
+        IrBlock jumpTarget = jumpIfTrue ? ifTrue : ifFalse;
+        IrBlock fallTarget = jumpIfTrue ? ifFalse : ifTrue;
+        boolean jumpCopies = jumpIfTrue ? trueCopies : falseCopies;
+
+        Label jumpLabel = jumpCopies ? new Label() : irLabels.get(jumpTarget);
+        generateIrCondition(branch.getOperand(0), jumpLabel, jumpIfTrue);
+        generateIrCopies(block, fallTarget);
+        if (!irFallsInto(fallTarget, next) || jumpCopies) {
+            mv.visitJumpInsn(GOTO, irLabels.get(fallTarget));
+        }
+        if (jumpCopies) {
+            mv.visitLabel(jumpLabel);
+            generateIrCopies(block, jumpTarget);
+            if (!irFallsInto(jumpTarget, next)) {
+                mv.visitJumpInsn(GOTO, irLabels.get(jumpTarget));
+            }
+        }
+    }
+
+    // Whether falling through into next gets to the same code as going to target
+    private boolean irFallsInto(IrBlock target, IrBlock next) {
+        return next != null && irDestination(target) == irDestination(next);
+    }
+
+    // The block whose code runs first when control reaches the given one: blocks that emit nothing
+    // and jump on without copies, such as the empty else of an if, are passed over, unless they
+    // only lead around a loop
+    private IrBlock irDestination(IrBlock block) {
+        Set<IrBlock> passed = new HashSet<>();
+        IrBlock destination = block;
+        while (irEmitsNothing(destination)) {
+            if (!passed.add(destination)) {
+                return block;
+            }
+            destination = destination.getTerminator().getTargets().get(0);
+        }
+        return destination;
+    }
+
+    private boolean irEmitsNothing(IrBlock block) {
+        IrInstruction terminator = block.getTerminator();
+        if (terminator.getOp() != IrInstruction.Op.JUMP || !irCopyTargets(block, terminator.getTargets().get(0)).isEmpty()) {
+            return false;
+        }
+        for (IrInstruction instruction : block.getInstructions()) {
+            if (instruction.getOp() != IrInstruction.Op.PARAM && instruction.getOp() != IrInstruction.Op.CONST
+                    && !irInlined.contains(instruction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A comparison computed at the branch jumps on its result directly instead of pushing 0 or 1
+    private void generateIrCondition(IrInstruction condition, Label target, boolean jumpIfTrue) {
+        if (irInlined.contains(condition) && condition.getOp() == IrInstruction.Op.BINARY
+                && isComparison(condition.getName())) {
+            generateIrValue(condition.getOperand(0));
+            generateIrValue(condition.getOperand(1));
+            int jumpInsn;
+            if (condition.getOperand(0).getType() instanceof RealTypeNode) {
+                mv.visitInsn(realComparisonInsn(condition.getName()));
+                jumpInsn = realComparisonJump(condition.getName());
+            } else {
+                jumpInsn = integerComparisonJump(condition.getName());
+            }
+            mv.visitJumpInsn(jumpIfTrue ? jumpInsn : negateJump(jumpInsn), target);
+        } else {
+            generateIrValue(condition);
+            mv.visitJumpInsn(jumpIfTrue ? IFNE : IFEQ, target);
+        }
+    }
+
+    // Pushes a value: constants are pushed again at every use, other values are computed here or loaded
+    private void generateIrValue(IrInstruction value) {
+        if (value.getOp() == IrInstruction.Op.CONST) {
+            Object constant = value.getConstant();
+            if (constant instanceof Integer) {
+                pushInt(mv, (Integer) constant);
+            } else if (constant instanceof Boolean) {
+                mv.visitInsn((Boolean) constant ? ICONST_1 : ICONST_0);
+            } else if (constant != null) {
+                mv.visitLdcInsn(constant);
+            } else {
+                mv.visitInsn(ACONST_NULL);
+            }
+        } else if (irInlined.contains(value)) {
+            generateIrInstruction(value);
+        } else {
+            Integer slot = irSlots.get(value);
+            TypeNode type = value.getType();
+            if (type instanceof IntegerTypeNode || type instanceof BooleanTypeNode) {
+                mv.visitVarInsn(ILOAD, slot);
+            } else if (type instanceof RealTypeNode) {
+                mv.visitVarInsn(DLOAD, slot);
+            } else {
+                mv.visitVarInsn(ALOAD, slot);
+            }
+        }
+    }
+
+    private void storeIrValue(IrInstruction value) {
+        Integer slot = irSlots.get(value);
+        TypeNode type = value.getType();
+        if (type instanceof IntegerTypeNode || type instanceof BooleanTypeNode) {
+            mv.visitVarInsn(ISTORE, slot);
+        } else if (type instanceof RealTypeNode) {
+            mv.visitVarInsn(DSTORE, slot);
+        } else {
+            mv.visitVarInsn(ASTORE, slot);
+        }
+    }
+
+    private void generateIrInstruction(IrInstruction instruction) {
+        switch (instruction.getOp()) {
+            case BINARY:
+                generateIrBinaryOperation(instruction);
+                break;
+            case UNARY:
+                generateIrValue(instruction.getOperand(0));
+                if (instruction.getName().equals("NOT")) {
+                    mv.visitInsn(ICONST_1);
+                    mv.visitInsn(IXOR);
+                } else {
+                    mv.visitInsn(instruction.getType() instanceof RealTypeNode ? DNEG : INEG);
+                }
+                break;
+            case CALL:
+                for (IrInstruction argument : instruction.getOperands()) {
+                    generateIrValue(argument);
+                }
+                FunctionNode callee = functionTable.get(instruction.getName());
+                mv.visitMethodInsn(INVOKESTATIC, className, instruction.getName(), getMethodDescriptor(callee), false);
+                break;
+            case LOAD_ELEMENT:
+                generateIrValue(instruction.getOperand(0));
+                generateIrValue(instruction.getOperand(1));
+                mv.visitInsn(instruction.getType() instanceof RealTypeNode ? DALOAD : IALOAD);
+                break;
+            case STORE_ELEMENT:
+                generateIrValue(instruction.getOperand(0));
+                generateIrValue(instruction.getOperand(1));
+                generateIrValue(instruction.getOperand(2));
+                TypeNode elementType = ((ArrayTypeNode) instruction.getOperand(0).getType()).getElementType();
+                mv.visitInsn(elementType instanceof RealTypeNode ? DASTORE : IASTORE);
+                break;
+            case LOAD_FIELD:
+            case STORE_FIELD: {
+                String recordClassName = getRecordClassNameFromType(instruction.getRecordType());
+                RecordField field = instruction.getRecordType().getField(instruction.getName());
+                for (IrInstruction operand : instruction.getOperands()) {
+                    generateIrValue(operand);
+                }
+                mv.visitFieldInsn(instruction.getOp() == IrInstruction.Op.LOAD_FIELD ? GETFIELD : PUTFIELD,
+                        recordClassName, field.getName(), field.getDescriptor());
+                break;
+            }
+            case CHECK: {
+                Label passed = new Label();
+                generateIrCondition(instruction.getOperand(0), passed, true);
+                throwIllegalArgument(instruction.getName());
+                mv.visitLabel(passed);
+                break;
+            }
+            case PRINT: {
+                TypeNode type = instruction.getOperand(0).getType();
+                generateIrValue(instruction.getOperand(0));
+                if (type instanceof StringTypeNode) {
+                    mv.visitMethodInsn(INVOKESTATIC, className, "printString", "(Ljava/lang/String;)V", false);
+                } else if (type instanceof RealTypeNode) {
+                    mv.visitMethodInsn(INVOKESTATIC, className, "printReal", "(D)V", false);
+                } else {
+                    mv.visitMethodInsn(INVOKESTATIC, className, "printInt", "(I)V", false);
+                }
+                break;
+            }
+            default:
+                throw new RuntimeException("Unsupported instruction in SSA form: " + instruction);
+        }
+    }
+
+    private void generateIrBinaryOperation(IrInstruction instruction) {
+        String operator = instruction.getName();
+        if (instruction.isIntegerDivision()) {
+            generateIrIntegerDivision(instruction);
+            return;
+        }
+        generateIrValue(instruction.getOperand(0));
+        generateIrValue(instruction.getOperand(1));
+        if (instruction.getOperand(0).getType() instanceof RealTypeNode) {
+            switch (operator) {
+                case "+": mv.visitInsn(DADD); break;
+                case "-": mv.visitInsn(DSUB); break;
+                case "*": mv.visitInsn(DMUL); break;
+                case "/": mv.visitInsn(DDIV); break;
+                default:
+                    if (!isComparison(operator)) {
+                        throw new RuntimeException("Unsupported operator for real numbers: " + operator);
+                    }
+                    generateRealComparison(operator);
+            }
+        } else {
+            switch (operator) {
+                case "+": mv.visitInsn(IADD); break;
+                case "-": mv.visitInsn(ISUB); break;
+                case "*": mv.visitInsn(IMUL); break;
+                case "XOR": mv.visitInsn(IXOR); break;
+                default:
+                    compareIntegers(integerComparisonJump(operator));
+            }
+        }
+    }
+
+    // As generateIntegerDivision, on values of the SSA form
+    private void generateIrIntegerDivision(IrInstruction instruction) {
+        boolean isDivision = instruction.getName().equals("/");
+        IrInstruction right = instruction.getOperand(1);
+        int divisor = isIrIntConstant(right) ? (Integer) right.getConstant() : 0;
+
+        generateIrValue(instruction.getOperand(0));
+        if (isDivision && divisor > 0 && Integer.bitCount(divisor) == 1) {
+            int shift = Integer.numberOfTrailingZeros(divisor);
+            if (shift > 0) {
+                mv.visitInsn(DUP);
+                pushInt(mv, 31);
+                mv.visitInsn(ISHR);
+                pushInt(mv, 32 - shift);
+                mv.visitInsn(IUSHR);
+                mv.visitInsn(IADD);
+                pushInt(mv, shift);
+                mv.visitInsn(ISHR);
+            }
+            return;
+        }
+
+        generateIrValue(right);
+        if (divisor == 0 && !instruction.isDivisorNonZero()) {
+            checkDivisionByZero();
+        }
+        mv.visitInsn(isDivision ? IDIV : IREM);
+    }
+
     private String getMethodDescriptor(FunctionNode node) {
         StringBuilder descriptor = new StringBuilder("(");
         if (node.getParameters() != null) {
@@ -148,14 +715,8 @@ public class CodeGenerator implements Opcodes {
     }
 
 private String getTypeDescriptor(TypeNode type) {
-    // Resolve type identifiers
-    if (type instanceof TypeIdentifierNode) {
-        String typeName = ((TypeIdentifierNode) type).getTypeName();
-        type = typeTable.get(typeName);
-        if (type == null) {
-            throw new RuntimeException("Undefined type: " + typeName);
-        }
-    }
+    // Every declared type reaches the class file through here, so unresolved names stop here
+    type = requireResolved(type);
 
     if (type instanceof IntegerTypeNode || type instanceof BooleanTypeNode) {
         return "I";
@@ -165,6 +726,10 @@ private String getTypeDescriptor(TypeNode type) {
         return "Ljava/lang/String;";
     } else if (type instanceof ArrayTypeNode) {
         ArrayTypeNode arrayType = (ArrayTypeNode) type;
+        if (isFlatArray(arrayType)) {
+            // Nested arrays of scalars share one row-major array
+            return "[" + getTypeDescriptor(getScalarElementType(arrayType));
+        }
         String elementTypeDescriptor = getTypeDescriptor(arrayType.getElementType());
         return "[" + elementTypeDescriptor;
     } else if (type instanceof RecordTypeNode) {
@@ -178,25 +743,24 @@ private String getTypeDescriptor(TypeNode type) {
 
 private void generateDeclaration(DeclarationNode node) {
     String varName = node.getIdentifier();
-    TypeNode type = node.getType();
-
-    // Resolve type identifiers
-    if (type instanceof TypeIdentifierNode) {
-        String typeName = ((TypeIdentifierNode) type).getTypeName();
-        type = typeTable.get(typeName);
-        if (type == null) {
-            throw new RuntimeException("Undefined type: " + typeName);
-        }
-    }
+    TypeNode type = requireResolved(node.getType());
 
     variableIndex.put(varName, currentLocalVarIndex);
     variableTypes.put(varName, type);
     currentLocalVarIndex += getLocalVariableSize(type);
 
-    if (type instanceof ArrayTypeNode) {
+    if (type instanceof ArrayTypeNode && isFlatArray((ArrayTypeNode) type)) {
+        if (node.getExpression() instanceof ExpressionListNode) {
+            generateArrayLiteral((ExpressionListNode) node.getExpression(), (ArrayTypeNode) type);
+        } else if (node.getExpression() != null) {
+            generateExpression(node.getExpression());
+        } else {
+            generateNewFlatArray((ArrayTypeNode) type);
+        }
+        storeVariable(varName, type);
+    } else if (type instanceof ArrayTypeNode) {
         ArrayTypeNode arrayType = (ArrayTypeNode) type;
-        int size = arrayType.getSize();
-        mv.visitIntInsn(BIPUSH, size);
+        pushInt(mv, arrayType.getSize());
         mv.visitIntInsn(NEWARRAY, getArrayTypeCode(arrayType.getElementType()));
         storeVariable(varName, type);
     } else if (type instanceof RecordTypeNode) {
@@ -232,6 +796,12 @@ private void generateStatement(StatementNode node) {
             // Handle variable assignment
             String varName = ((IdentifierNode) assignNode.getVariable()).getName();
             TypeNode varType = variableTypes.get(varName);
+            if (assignNode.getExpression() instanceof ExpressionListNode && varType instanceof ArrayTypeNode
+                    && isFlatArray((ArrayTypeNode) varType)) {
+                generateArrayLiteral((ExpressionListNode) assignNode.getExpression(), (ArrayTypeNode) varType);
+                storeVariable(varName, varType);
+                return;
+            }
             TypeNode exprType = getType(assignNode.getExpression());
 
             if (!typeEquals(varType, exprType)) {
@@ -254,11 +824,25 @@ private void generateStatement(StatementNode node) {
                 throw new RuntimeException("Type mismatch: Cannot assign " + typeName(exprType) + " to array element of type " + typeName(elementType));
             }
 
-            // Load array reference
-            generateExpression(arrayAccess.getArray());
+            if (isFlatAccess(arrayAccess)) {
+                if (elementType instanceof ArrayTypeNode) {
+                    // A row of a flattened array is a slice of it; copy the new row into place
+                    generateExpression(assignNode.getExpression());
+                    mv.visitInsn(ICONST_0);
+                    generateFlatElementAddress(arrayAccess);
+                    pushInt(mv, getFlatSize((ArrayTypeNode) elementType));
+                    mv.visitMethodInsn(INVOKESTATIC, "java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V", false);
+                    return;
+                }
+                // Array reference and row-major offset
+                generateFlatElementAddress(arrayAccess);
+            } else {
+                // Load array reference
+                generateExpression(arrayAccess.getArray());
 
-            // Push index onto the stack
-            generateExpression(arrayAccess.getIndex());
+                // Push index onto the stack
+                generateExpression(arrayAccess.getIndex());
+            }
 
             // Generate the value to be stored
             generateExpression(assignNode.getExpression());
@@ -275,7 +859,8 @@ private void generateStatement(StatementNode node) {
         } else if (assignNode.getVariable() instanceof FieldAccessNode) {
             // Handle record field assignment
             FieldAccessNode fieldAccess = (FieldAccessNode) assignNode.getVariable();
-            TypeNode fieldType = getFieldType(fieldAccess);
+            RecordField field = getField(fieldAccess);
+            TypeNode fieldType = field.getType();
             TypeNode exprType = getType(assignNode.getExpression());
 
             if (!typeEquals(fieldType, exprType)) {
@@ -290,9 +875,8 @@ private void generateStatement(StatementNode node) {
             generateExpression(assignNode.getExpression());
 
             // Store the value into the field
-            String fieldName = fieldAccess.getFieldName();
             String recordClassName = getRecordClassName(fieldAccess.getRecord());
-            mv.visitFieldInsn(PUTFIELD, recordClassName, fieldName, getTypeDescriptor(fieldType));
+            mv.visitFieldInsn(PUTFIELD, recordClassName, field.getName(), field.getDescriptor());
 
         } else {
             throw new RuntimeException("Unsupported assignment target.");
@@ -306,6 +890,9 @@ private void generateStatement(StatementNode node) {
             mv.visitInsn(IRETURN);
         } else if (returnType instanceof RealTypeNode) {
             mv.visitInsn(DRETURN);
+        } else if (returnType instanceof StringTypeNode || returnType instanceof ArrayTypeNode
+                || returnType instanceof RecordTypeNode) {
+            mv.visitInsn(ARETURN);
         } else {
             mv.visitInsn(RETURN);
         }
@@ -332,6 +919,15 @@ private void generateStatement(StatementNode node) {
         // Handle print statements
         generatePrint((PrintNode) node);
 
+    } else if (node instanceof TemporaryNode) {
+        // Handle values hoisted out of loops; each temporary gets its own local
+        TemporaryNode temporary = (TemporaryNode) node;
+        variableIndex.put(temporary.getName(), currentLocalVarIndex);
+        variableTypes.put(temporary.getName(), temporary.getType());
+        currentLocalVarIndex += getLocalVariableSize(temporary.getType());
+        generateExpression(temporary.getExpression());
+        storeVariable(temporary.getName(), temporary.getType());
+
     } else {
         // Handle other statement types
         throw new RuntimeException("Unsupported statement type: " + node.getClass().getSimpleName());
@@ -342,11 +938,12 @@ private void generateStatement(StatementNode node) {
     private void generateIfElse(IfElseNode node) {
         Label elseLabel = new Label();
         Label endLabel = new Label();
-        generateExpression(node.getCondition());
-        mv.visitJumpInsn(IFEQ, elseLabel);
+        generateCondition(node.getCondition(), elseLabel, false);
         // Then block
         generateStatement(node.getThenStmt());
-        mv.visitJumpInsn(GOTO, endLabel);
+        if (node.getElseStmt() != null) {
+            mv.visitJumpInsn(GOTO, endLabel);
+        }
         // Else block
         mv.visitLabel(elseLabel);
         if (node.getElseStmt() != null) {
@@ -355,53 +952,223 @@ private void generateStatement(StatementNode node) {
         mv.visitLabel(endLabel);
     }
 
+    // The condition is tested at the bottom, so each iteration takes a single conditional back-edge
     private void generateWhileLoop(WhileLoopNode node) {
-        Label startLabel = new Label();
-        Label endLabel = new Label();
-        mv.visitLabel(startLabel);
-        generateExpression(node.getCondition());
-        mv.visitJumpInsn(IFEQ, endLabel);
+        Label bodyLabel = new Label();
+        Label conditionLabel = new Label();
+        mv.visitJumpInsn(GOTO, conditionLabel);
+        mv.visitLabel(bodyLabel);
         generateStatement(node.getBody());
-        mv.visitJumpInsn(GOTO, startLabel);
-        mv.visitLabel(endLabel);
+        mv.visitLabel(conditionLabel);
+        generateCondition(node.getCondition(), bodyLabel, true);
+    }
+
+    // Jumping code for conditions: jumps to target when the condition equals jumpIfTrue and falls
+    // through otherwise, without materializing intermediate 0/1 values for comparisons and logic
+    private void generateCondition(ExpressionNode condition, Label target, boolean jumpIfTrue) {
+        if (condition instanceof BooleanNode) {
+            if (((BooleanNode) condition).isValue() == jumpIfTrue) {
+                mv.visitJumpInsn(GOTO, target);
+            }
+        } else if (condition instanceof UnaryOpNode && ((UnaryOpNode) condition).getOperator().equals("NOT")) {
+            generateCondition(((UnaryOpNode) condition).getExpr(), target, !jumpIfTrue);
+        } else if (condition instanceof BinaryOpNode && isLogical(((BinaryOpNode) condition).getOperator())) {
+            BinaryOpNode binOp = (BinaryOpNode) condition;
+            boolean isAnd = binOp.getOperator().equals("AND");
+            if (isAnd != jumpIfTrue) {
+                // The left operand alone can decide the jump: false AND, true OR
+                generateCondition(binOp.getLeft(), target, jumpIfTrue);
+                generateCondition(binOp.getRight(), target, jumpIfTrue);
+            } else {
+                // The left operand alone can only rule the jump out
+                Label skipLabel = new Label();
+                generateCondition(binOp.getLeft(), skipLabel, !jumpIfTrue);
+                generateCondition(binOp.getRight(), target, jumpIfTrue);
+                mv.visitLabel(skipLabel);
+            }
+        } else if (condition instanceof BinaryOpNode && isComparison(((BinaryOpNode) condition).getOperator())) {
+            BinaryOpNode binOp = (BinaryOpNode) condition;
+            String operator = binOp.getOperator();
+            TypeNode type = getType(binOp.getLeft());
+            generateExpression(binOp.getLeft());
+            generateExpression(binOp.getRight());
+            if (type instanceof IntegerTypeNode || type instanceof BooleanTypeNode) {
+                int jumpInsn = integerComparisonJump(operator);
+                mv.visitJumpInsn(jumpIfTrue ? jumpInsn : negateJump(jumpInsn), target);
+            } else if (type instanceof RealTypeNode) {
+                mv.visitInsn(realComparisonInsn(operator));
+                int jumpInsn = realComparisonJump(operator);
+                mv.visitJumpInsn(jumpIfTrue ? jumpInsn : negateJump(jumpInsn), target);
+            } else {
+                throw new RuntimeException("Unsupported type for binary operation.");
+            }
+        } else {
+            generateExpression(condition);
+            mv.visitJumpInsn(jumpIfTrue ? IFNE : IFEQ, target);
+        }
+    }
+
+    private boolean isLogical(String operator) {
+        return operator.equals("AND") || operator.equals("OR");
     }
 
+    private boolean isComparison(String operator) {
+        return operator.equals("==") || operator.equals("/=") || operator.equals(">") || operator.equals("<")
+                || operator.equals(">=") || operator.equals("<=");
+    }
+
+    // Conditional jump taken in exactly the cases where the given one is not
+    private int negateJump(int jumpInsn) {
+        switch (jumpInsn) {
+            case IFEQ: return IFNE;
+            case IFNE: return IFEQ;
+            case IFLT: return IFGE;
+            case IFGE: return IFLT;
+            case IFGT: return IFLE;
+            case IFLE: return IFGT;
+            case IF_ICMPEQ: return IF_ICMPNE;
+            case IF_ICMPNE: return IF_ICMPEQ;
+            case IF_ICMPLT: return IF_ICMPGE;
+            case IF_ICMPGE: return IF_ICMPLT;
+            case IF_ICMPGT: return IF_ICMPLE;
+            case IF_ICMPLE: return IF_ICMPGT;
+            default:
+                throw new RuntimeException("Cannot negate jump instruction: " + jumpInsn);
+        }
+    }
+
+    // Counted loop with a single int induction variable: the bound and step are evaluated once,
+    // the body is entered through the bottom test, and a constant step becomes an IINC
     private void generateForLoop(ForLoopNode node) {
         String iteratorName = node.getIterator().getName();
-        TypeNode iteratorType = new IntegerTypeNode();
-        variableIndex.put(iteratorName, currentLocalVarIndex);
+        TypeNode iteratorType = IntegerTypeNode.INSTANCE;
+        Integer outerIndex = variableIndex.get(iteratorName);
+        TypeNode outerType = variableTypes.get(iteratorName);
+        int iteratorIndex = currentLocalVarIndex++;
+        variableIndex.put(iteratorName, iteratorIndex);
         variableTypes.put(iteratorName, iteratorType);
-        currentLocalVarIndex += getLocalVariableSize(iteratorType);
 
-        // Initialize iterator
-        generateExpression(node.getStart());
-        storeVariable(iteratorName, iteratorType);
+        // A reverse loop counts from end down to start, so the roles of the two expressions swap
+        ExpressionNode first = node.isReverse() ? node.getEnd() : node.getStart();
+        ExpressionNode bound = node.isReverse() ? node.getStart() : node.getEnd();
 
-        Label startLabel = new Label();
-        Label endLabel = new Label();
-        mv.visitLabel(startLabel);
-
-        // Load iterator
-        loadVariable(iteratorName, iteratorType);
-        // Load end value
-        generateExpression(node.getEnd());
-        // Compare iterator <= end
-        mv.visitJumpInsn(IF_ICMPGT, endLabel);
+        // Range expressions are evaluated once, start before end; non-constant ones go to hidden locals
+        int boundIndex = -1;
+        if (node.isReverse()) {
+            boundIndex = hoistForLoopValue(bound);
+            generateExpression(first);
+            mv.visitVarInsn(ISTORE, iteratorIndex);
+        } else {
+            generateExpression(first);
+            mv.visitVarInsn(ISTORE, iteratorIndex);
+            boundIndex = hoistForLoopValue(bound);
+        }
+        ExpressionNode step = node.getStep();
+        // Only a positive constant step is left in the code; any other one is kept in a local and checked
+        int stepIndex = -1;
+        if (step != null && !(step instanceof NumberNode && ((NumberNode) step).getValue() > 0)) {
+            stepIndex = currentLocalVarIndex++;
+            generateExpression(step);
+            mv.visitVarInsn(ISTORE, stepIndex);
+        }
 
-        // Loop body
+        // Enter the body only if the range is not empty
+        Label bodyLabel = new Label();
+        Label exitLabel = new Label();
+        mv.visitVarInsn(ILOAD, iteratorIndex);
+        pushForLoopValue(bound, boundIndex);
+        mv.visitJumpInsn(node.isReverse() ? IF_ICMPLT : IF_ICMPGT, exitLabel);
+        if (stepIndex >= 0) {
+            // A step of zero would never leave the loop, and a negative one would leave it at once
+            Label stepLabel = new Label();
+            mv.visitVarInsn(ILOAD, stepIndex);
+            mv.visitJumpInsn(IFGT, stepLabel);
+            throwIllegalArgument(FOR_LOOP_STEP_ERROR);
+            mv.visitLabel(stepLabel);
+        }
+        mv.visitLabel(bodyLabel);
         generateStatement(node.getBody());
 
-        // Increment iterator
-        loadVariable(iteratorName, iteratorType);
-        mv.visitInsn(ICONST_1);
-        mv.visitInsn(IADD);
-        storeVariable(iteratorName, iteratorType);
+        // Loop again while another step stays within the bound. The iterator is compared before it
+        // advances, so it never has to hold a value past the bound, which may not fit in an int
+        int increment = step == null ? 1 : stepIndex < 0 ? ((NumberNode) step).getValue() : 0;
+        if (stepIndex < 0 && increment == 1) {
+            // iterator < end, or iterator > start when reversed
+            mv.visitVarInsn(ILOAD, iteratorIndex);
+            mv.visitIincInsn(iteratorIndex, node.isReverse() ? -1 : 1);
+            pushForLoopValue(bound, boundIndex);
+            mv.visitJumpInsn(node.isReverse() ? IF_ICMPGT : IF_ICMPLT, bodyLabel);
+        } else {
+            // The distance left to the bound is at least the step, both compared as unsigned
+            // values: the distance may not fit in an int, but it always fits in 32 bits
+            if (node.isReverse()) {
+                mv.visitVarInsn(ILOAD, iteratorIndex);
+                pushForLoopValue(bound, boundIndex);
+            } else {
+                pushForLoopValue(bound, boundIndex);
+                mv.visitVarInsn(ILOAD, iteratorIndex);
+            }
+            mv.visitInsn(ISUB);
+            pushInt(mv, Integer.MIN_VALUE);
+            mv.visitInsn(IXOR);
+            if (stepIndex < 0) {
+                pushInt(mv, increment ^ Integer.MIN_VALUE);
+            } else {
+                mv.visitVarInsn(ILOAD, stepIndex);
+                pushInt(mv, Integer.MIN_VALUE);
+                mv.visitInsn(IXOR);
+            }
+            advanceForLoop(iteratorIndex, stepIndex, node.isReverse() ? -increment : increment, node.isReverse());
+            mv.visitJumpInsn(IF_ICMPGE, bodyLabel);
+        }
+        mv.visitLabel(exitLabel);
 
-        // Jump back to start
-        mv.visitJumpInsn(GOTO, startLabel);
-        mv.visitLabel(endLabel);
+        // The iterator is scoped to the loop; restore whatever the name meant outside it
+        if (outerIndex != null) {
+            variableIndex.put(iteratorName, outerIndex);
+            variableTypes.put(iteratorName, outerType);
+        } else {
+            variableIndex.remove(iteratorName);
+            variableTypes.remove(iteratorName);
+        }
+    }
+
+    private void pushForLoopValue(ExpressionNode value, int index) {
+        if (index < 0) {
+            generateExpression(value);
+        } else {
+            mv.visitVarInsn(ILOAD, index);
+        }
+    }
 
-        // Remove iterator from variableIndex if necessary
+    // Adds the step to the iterator, a constant one with IINC when it fits
+    private void advanceForLoop(int iteratorIndex, int stepIndex, int increment, boolean reverse) {
+        if (stepIndex < 0 && increment >= Short.MIN_VALUE && increment <= Short.MAX_VALUE) {
+            mv.visitIincInsn(iteratorIndex, increment);
+        } else {
+            // A constant increment already carries the sign of the direction
+            mv.visitVarInsn(ILOAD, iteratorIndex);
+            if (stepIndex < 0) {
+                pushInt(mv, increment);
+                mv.visitInsn(IADD);
+            } else {
+                mv.visitVarInsn(ILOAD, stepIndex);
+                mv.visitInsn(reverse ? ISUB : IADD);
+            }
+            mv.visitVarInsn(ISTORE, iteratorIndex);
+        }
+    }
+
+    // Stores a for-loop range value in a fresh hidden local and returns its index, or returns -1
+    // for an integer literal, which is cheaper to rematerialize than to load
+    private int hoistForLoopValue(ExpressionNode value) {
+        if (value instanceof NumberNode) {
+            return -1;
+        }
+        int index = currentLocalVarIndex++;
+        generateExpression(value);
+        mv.visitVarInsn(ISTORE, index);
+        return index;
     }
 
     private void generatePrint(PrintNode node) {
@@ -419,6 +1186,29 @@ private void generateStatement(StatementNode node) {
             generateExpression(node.getExpression());
             String recordClassName = getRecordClassName(node.getExpression());
             mv.visitMethodInsn(INVOKESTATIC, className, "print" + recordClassName, "(L" + recordClassName + ";)V", false);
+        } else if (exprType instanceof ArrayTypeNode && ((ArrayTypeNode) exprType).getElementType() instanceof ArrayTypeNode
+                && isFlatArray((ArrayTypeNode) exprType)) {
+            // Flattened array, printed nested row by row: printArray(array, 0, dimensions, 0)
+            ArrayTypeNode arrayType = (ArrayTypeNode) exprType;
+            generateExpression(node.getExpression());
+            mv.visitInsn(ICONST_0);
+            List<Integer> dimensions = new ArrayList<>();
+            for (TypeNode type = arrayType; type instanceof ArrayTypeNode; type = ((ArrayTypeNode) type).getElementType()) {
+                dimensions.add(((ArrayTypeNode) type).getSize());
+            }
+            pushInt(mv, dimensions.size());
+            mv.visitIntInsn(NEWARRAY, T_INT);
+            for (int i = 0; i < dimensions.size(); i++) {
+                mv.visitInsn(DUP);
+                pushInt(mv, i);
+                pushInt(mv, dimensions.get(i));
+                mv.visitInsn(IASTORE);
+            }
+            mv.visitInsn(ICONST_0);
+            String arrayDescriptor = getTypeDescriptor(arrayType);
+            mv.visitMethodInsn(INVOKESTATIC, className, "printArray", "(" + arrayDescriptor + "I[II)V", false);
+            mv.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/io/PrintStream", "println", "()V", false);
         } else if (exprType instanceof ArrayTypeNode) {
             ArrayTypeNode arrayType = (ArrayTypeNode) exprType;
             TypeNode elementType = arrayType.getElementType();
@@ -689,12 +1479,11 @@ private void generateStatement(StatementNode node) {
         mvPrint.visitLdcInsn("{");
         mvPrint.visitMethodInsn(INVOKEVIRTUAL, "java/io/PrintStream", "print", "(Ljava/lang/String;)V", false);
 
-        List<DeclarationNode> fields = recordType.getFields();
-        for (int i = 0; i < fields.size(); i++) {
-            DeclarationNode field = fields.get(i);
-            String fieldName = field.getIdentifier();
+        Collection<RecordField> fields = recordType.getFieldInfos();
+        for (RecordField field : fields) {
+            String fieldName = field.getName();
             TypeNode fieldType = field.getType();
-            String fieldDescriptor = getTypeDescriptor(fieldType);
+            String fieldDescriptor = field.getDescriptor();
 
             // Print field name
             mvPrint.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
@@ -722,7 +1511,7 @@ private void generateStatement(StatementNode node) {
             }
 
             // Print comma if not the last field
-            if (i < fields.size() - 1) {
+            if (field.getIndex() < fields.size() - 1) {
                 mvPrint.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
                 mvPrint.visitLdcInsn(", ");
                 mvPrint.visitMethodInsn(INVOKEVIRTUAL, "java/io/PrintStream", "print", "(Ljava/lang/String;)V", false);
@@ -746,8 +1535,7 @@ private void generateStatement(StatementNode node) {
             String value = ((StringNode) node).getValue();
             mv.visitLdcInsn(value);
         } else if (node instanceof NumberNode) {
-            int value = ((NumberNode) node).getValue();
-            mv.visitLdcInsn(value);
+            pushInt(mv, ((NumberNode) node).getValue());
         } else if (node instanceof RealNode) {
             double value = ((RealNode) node).getValue();
             mv.visitLdcInsn(value);
@@ -766,11 +1554,25 @@ private void generateStatement(StatementNode node) {
             generateFunctionCall((FunctionCallNode) node);
         } else if (node instanceof ArrayAccessNode) {
             ArrayAccessNode arrayAccess = (ArrayAccessNode) node;
-            // Load array reference
-            generateExpression(arrayAccess.getArray());
-            // Push index onto the stack
-            generateExpression(arrayAccess.getIndex());
             TypeNode elementType = getType(arrayAccess);
+            if (isFlatAccess(arrayAccess)) {
+                generateFlatElementAddress(arrayAccess);
+                if (elementType instanceof ArrayTypeNode) {
+                    // A row used as a value is copied out of the flattened array
+                    mv.visitInsn(DUP);
+                    pushInt(mv, getFlatSize((ArrayTypeNode) elementType));
+                    mv.visitInsn(IADD);
+                    String arrayDescriptor = getTypeDescriptor(elementType);
+                    mv.visitMethodInsn(INVOKESTATIC, "java/util/Arrays", "copyOfRange",
+                            "(" + arrayDescriptor + "II)" + arrayDescriptor, false);
+                    return;
+                }
+            } else {
+                // Load array reference
+                generateExpression(arrayAccess.getArray());
+                // Push index onto the stack
+                generateExpression(arrayAccess.getIndex());
+            }
             if (elementType instanceof IntegerTypeNode || elementType instanceof BooleanTypeNode) {
                 mv.visitInsn(IALOAD); // Load integer or boolean from array
             } else if (elementType instanceof RealTypeNode) {
@@ -781,16 +1583,34 @@ private void generateStatement(StatementNode node) {
             // Generate code to load the record instance
             generateExpression(fieldAccess.getRecord());
             // Access the field
-            String fieldName = fieldAccess.getFieldName();
-            TypeNode fieldType = getFieldType(fieldAccess);
+            RecordField field = getField(fieldAccess);
             String recordClassName = getRecordClassName(fieldAccess.getRecord());
-            mv.visitFieldInsn(GETFIELD, recordClassName, fieldName, getTypeDescriptor(fieldType));
+            mv.visitFieldInsn(GETFIELD, recordClassName, field.getName(), field.getDescriptor());
+        } else if (node instanceof SavedValueNode) {
+            // Keep a copy of the value in its own local for the later reads of it
+            SavedValueNode saved = (SavedValueNode) node;
+            TypeNode type = getType(saved);
+            variableIndex.put(saved.getName(), currentLocalVarIndex);
+            variableTypes.put(saved.getName(), type);
+            currentLocalVarIndex += getLocalVariableSize(type);
+            generateExpression(saved.getExpression());
+            mv.visitInsn(type instanceof RealTypeNode ? DUP2 : DUP);
+            storeVariable(saved.getName(), type);
         } else {
             throw new RuntimeException("Unsupported expression type: " + node.getClass().getSimpleName());
         }
     }
 
     private void generateBinaryOperation(BinaryOpNode node) {
+        if (node.getOperator().equals("AND") || node.getOperator().equals("OR")) {
+            generateShortCircuit(node);
+            return;
+        }
+        if ((node.getOperator().equals("/") || node.getOperator().equals("mod"))
+                && getType(node.getLeft()) instanceof IntegerTypeNode) {
+            generateIntegerDivision(node);
+            return;
+        }
         generateExpression(node.getLeft());
         generateExpression(node.getRight());
         TypeNode type = getType(node.getLeft());
@@ -807,24 +1627,13 @@ private void generateStatement(StatementNode node) {
                 case "*":
                     mv.visitInsn(IMUL);
                     break;
-                case "/":
-                    checkDivisionByZero();
-                    mv.visitInsn(IDIV);
-                    break;
                 case "==":
-                    compareIntegers(IF_ICMPEQ);
-                    break;
+                case "/=":
                 case ">":
-                    compareIntegers(IF_ICMPGT);
-                    break;
                 case "<":
-                    compareIntegers(IF_ICMPLT);
-                    break;
-                case "AND":
-                    mv.visitInsn(IAND);
-                    break;
-                case "OR":
-                    mv.visitInsn(IOR);
+                case ">=":
+                case "<=":
+                    compareIntegers(integerComparisonJump(operator));
                     break;
                 case "XOR":
                     mv.visitInsn(IXOR);
@@ -847,8 +1656,11 @@ private void generateStatement(StatementNode node) {
                     mv.visitInsn(DDIV);
                     break;
                 case "==":
+                case "/=":
                 case ">":
                 case "<":
+                case ">=":
+                case "<=":
                     generateRealComparison(operator);
                     break;
                 default:
@@ -859,6 +1671,21 @@ private void generateStatement(StatementNode node) {
         }
     }
 
+    // The right operand is only evaluated when the left one does not decide the result
+    private void generateShortCircuit(BinaryOpNode node) {
+        boolean isAnd = node.getOperator().equals("AND");
+        Label decidedLabel = new Label();
+        Label endLabel = new Label();
+
+        generateExpression(node.getLeft());
+        mv.visitJumpInsn(isAnd ? IFEQ : IFNE, decidedLabel);
+        generateExpression(node.getRight());
+        mv.visitJumpInsn(GOTO, endLabel);
+        mv.visitLabel(decidedLabel);
+        mv.visitInsn(isAnd ? ICONST_0 : ICONST_1);
+        mv.visitLabel(endLabel);
+    }
+
     private void generateUnaryOperation(UnaryOpNode node) {
         generateExpression(node.getExpr());
         String operator = node.getOperator();
@@ -900,14 +1727,6 @@ private void storeVariable(String varName, TypeNode type) {
     if (index == null) {
         throw new RuntimeException("Variable '" + varName + "' is not declared.");
     }
-    // Resolve type identifiers
-    if (type instanceof TypeIdentifierNode) {
-        String typeName = ((TypeIdentifierNode) type).getTypeName();
-        type = typeTable.get(typeName);
-        if (type == null) {
-            throw new RuntimeException("Undefined type: " + typeName);
-        }
-    }
     if (type instanceof StringTypeNode || type instanceof ArrayTypeNode || type instanceof RecordTypeNode) {
         mv.visitVarInsn(ASTORE, index);
     } else if (type instanceof IntegerTypeNode || type instanceof BooleanTypeNode) {
@@ -937,29 +1756,31 @@ private void storeVariable(String varName, TypeNode type) {
     }
 
 
- private TypeNode getType(ExpressionNode expr) {
+    // Reads the type the analyzer stored on the node; types it could not determine are computed here once
+    private TypeNode getType(ExpressionNode expr) {
+        TypeNode type = expr.getResolvedType();
+        if (type == null || type instanceof TypeIdentifierNode) {
+            type = computeType(expr);
+            expr.setResolvedType(type);
+        }
+        return type;
+    }
+
+ private TypeNode computeType(ExpressionNode expr) {
     if (expr instanceof NumberNode) {
-        return new IntegerTypeNode();
+        return IntegerTypeNode.INSTANCE;
     } else if (expr instanceof RealNode) {
-        return new RealTypeNode();
+        return RealTypeNode.INSTANCE;
     } else if (expr instanceof BooleanNode) {
-        return new BooleanTypeNode();
+        return BooleanTypeNode.INSTANCE;
     } else if (expr instanceof StringNode) {
-        return new StringTypeNode();
+        return StringTypeNode.INSTANCE;
     } else if (expr instanceof IdentifierNode) {
         String varName = ((IdentifierNode) expr).getName();
         TypeNode type = variableTypes.get(varName);
         if (type == null) {
             throw new RuntimeException("Variable '" + varName + "' is not declared.");
         }
-        // Resolve type identifiers
-        if (type instanceof TypeIdentifierNode) {
-            String typeName = ((TypeIdentifierNode) type).getTypeName();
-            type = typeTable.get(typeName);
-            if (type == null) {
-                throw new RuntimeException("Undefined type: " + typeName);
-            }
-        }
         return type;
     } else if (expr instanceof BinaryOpNode) {
         return getType(((BinaryOpNode) expr).getLeft());
@@ -970,16 +1791,7 @@ private void storeVariable(String varName, TypeNode type) {
         if (func == null) {
             throw new RuntimeException("Function '" + ((FunctionCallNode) expr).getFunctionName() + "' not declared.");
         }
-        TypeNode returnType = func.getReturnType();
-        // Resolve type identifiers in return type
-        if (returnType instanceof TypeIdentifierNode) {
-            String typeName = ((TypeIdentifierNode) returnType).getTypeName();
-            returnType = typeTable.get(typeName);
-            if (returnType == null) {
-                throw new RuntimeException("Undefined type: " + typeName);
-            }
-        }
-        return returnType;
+        return func.getReturnType();
     } else if (expr instanceof ArrayAccessNode) {
         TypeNode arrayType = getType(((ArrayAccessNode) expr).getArray());
         if (arrayType instanceof ArrayTypeNode) {
@@ -988,7 +1800,7 @@ private void storeVariable(String varName, TypeNode type) {
             throw new RuntimeException("Type Error: Attempting to index a non-array type.");
         }
     } else if (expr instanceof FieldAccessNode) {
-        return getFieldType((FieldAccessNode) expr);
+        return getField((FieldAccessNode) expr).getType();
     } else {
         throw new RuntimeException("Unsupported expression type in getType.");
     }
@@ -1041,6 +1853,51 @@ private void storeVariable(String varName, TypeNode type) {
         return 1;
     }
 
+    // Pushes an int constant with the shortest instruction that holds it: ICONST_n, BIPUSH,
+    // SIPUSH, or LDC from the constant pool
+    private static void pushInt(MethodVisitor visitor, int value) {
+        if (value >= -1 && value <= 5) {
+            visitor.visitInsn(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            visitor.visitIntInsn(BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            visitor.visitIntInsn(SIPUSH, value);
+        } else {
+            visitor.visitLdcInsn(value);
+        }
+    }
+
+    // Integer / and mod; the zero check is left out for divisors known to be non-zero, and division
+    // by a positive power of two becomes an arithmetic shift
+    private void generateIntegerDivision(BinaryOpNode node) {
+        boolean isDivision = node.getOperator().equals("/");
+        ExpressionNode right = node.getRight();
+        int divisor = right instanceof NumberNode ? ((NumberNode) right).getValue() : 0;
+
+        generateExpression(node.getLeft());
+        if (isDivision && divisor > 0 && Integer.bitCount(divisor) == 1) {
+            int shift = Integer.numberOfTrailingZeros(divisor);
+            if (shift > 0) {
+                // x >> k rounds toward negative infinity; adding 2^k - 1 to negative x first rounds toward zero
+                mv.visitInsn(DUP);
+                pushInt(mv, 31);
+                mv.visitInsn(ISHR);
+                pushInt(mv, 32 - shift);
+                mv.visitInsn(IUSHR);
+                mv.visitInsn(IADD);
+                pushInt(mv, shift);
+                mv.visitInsn(ISHR);
+            }
+            return;
+        }
+
+        generateExpression(right);
+        if (divisor == 0 && !node.isDivisorNonZero()) {
+            checkDivisionByZero();
+        }
+        mv.visitInsn(isDivision ? IDIV : IREM);
+    }
+
     private void checkDivisionByZero() {
         mv.visitInsn(DUP);
         Label continueLabel = new Label();
@@ -1053,6 +1910,14 @@ private void storeVariable(String varName, TypeNode type) {
         mv.visitLabel(continueLabel);
     }
 
+    private void throwIllegalArgument(String message) {
+        mv.visitTypeInsn(NEW, "java/lang/IllegalArgumentException");
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn(message);
+        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "(Ljava/lang/String;)V", false);
+        mv.visitInsn(ATHROW);
+    }
+
     private void compareIntegers(int jumpInsn) {
         Label trueLabel = new Label();
         Label endLabel = new Label();
@@ -1064,24 +1929,43 @@ private void storeVariable(String varName, TypeNode type) {
         mv.visitLabel(endLabel);
     }
 
-    private void generateRealComparison(String operator) {
-        mv.visitInsn(DCMPL);
-        Label trueLabel = new Label();
-        Label endLabel = new Label();
-        int jumpInsn;
+    private int integerComparisonJump(String operator) {
         switch (operator) {
-            case "==":
-                jumpInsn = IFEQ;
-                break;
-            case ">":
-                jumpInsn = IFGT;
-                break;
-            case "<":
-                jumpInsn = IFLT;
-                break;
+            case "==": return IF_ICMPEQ;
+            case "/=": return IF_ICMPNE;
+            case ">": return IF_ICMPGT;
+            case "<": return IF_ICMPLT;
+            case ">=": return IF_ICMPGE;
+            case "<=": return IF_ICMPLE;
+            default:
+                throw new RuntimeException("Unsupported operator: " + operator);
+        }
+    }
+
+    // DCMPG pushes 1 for NaN and DCMPL pushes -1, so that every ordered comparison with NaN is false
+    private int realComparisonInsn(String operator) {
+        return operator.equals("<") || operator.equals("<=") ? DCMPG : DCMPL;
+    }
+
+    // Jump on the result of realComparisonInsn
+    private int realComparisonJump(String operator) {
+        switch (operator) {
+            case "==": return IFEQ;
+            case "/=": return IFNE;
+            case ">": return IFGT;
+            case "<": return IFLT;
+            case ">=": return IFGE;
+            case "<=": return IFLE;
             default:
                 throw new RuntimeException("Unsupported real comparison operator: " + operator);
         }
+    }
+
+    private void generateRealComparison(String operator) {
+        mv.visitInsn(realComparisonInsn(operator));
+        Label trueLabel = new Label();
+        Label endLabel = new Label();
+        int jumpInsn = realComparisonJump(operator);
         mv.visitJumpInsn(jumpInsn, trueLabel);
         mv.visitInsn(ICONST_0);
         mv.visitJumpInsn(GOTO, endLabel);
@@ -1090,19 +1974,27 @@ private void storeVariable(String varName, TypeNode type) {
         mv.visitLabel(endLabel);
     }
 
+    // Records are keyed structurally, so every record type with the same layout shares one class
     private String generateRecordClass(RecordTypeNode recordType) {
-        if (recordTypeClasses.containsKey(recordType)) {
-            return recordTypeClasses.get(recordType);
+        String existingClassName = recordTypeClasses.get(recordType);
+        if (existingClassName != null) {
+            // An equal record declared elsewhere still needs its own field descriptors
+            for (RecordField field : recordType.getFieldInfos()) {
+                if (field.getDescriptor() == null) {
+                    field.setDescriptor(getTypeDescriptor(field.getType()));
+                }
+            }
+            return existingClassName;
         }
-        String recordClassName = "RecordClass" + (recordClassCounter++);
+        String recordClassName = recordClassPrefix + (recordClassCounter++);
         ClassWriter recordClassWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
         recordClassWriter.visit(V1_8, ACC_PUBLIC, recordClassName, null, "java/lang/Object", null);
 
-        // Generate fields
-        for (DeclarationNode field : recordType.getFields()) {
-            String fieldName = field.getIdentifier();
+        // Generate fields, keeping each descriptor on the field for later accesses
+        for (RecordField field : recordType.getFieldInfos()) {
             String fieldDescriptor = getTypeDescriptor(field.getType());
-            recordClassWriter.visitField(ACC_PUBLIC, fieldName, fieldDescriptor, null, null).visitEnd();
+            field.setDescriptor(fieldDescriptor);
+            recordClassWriter.visitField(ACC_PUBLIC, field.getName(), fieldDescriptor, null, null).visitEnd();
         }
 
         // Generate constructor
@@ -1116,75 +2008,41 @@ private void storeVariable(String varName, TypeNode type) {
 
         recordClassWriter.visitEnd();
 
-        // Write the record class to a file
-        try {
-            FileOutputStream fos = new FileOutputStream(recordClassName + ".class");
-            fos.write(recordClassWriter.toByteArray());
-            fos.close();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        generatedClasses.put(recordClassName, recordClassWriter.toByteArray());
 
         recordTypeClasses.put(recordType, recordClassName);
         return recordClassName;
     }
 
     private String getRecordClassName(ExpressionNode recordExpr) {
-        TypeNode recordType = getType(recordExpr);
-        if (recordType instanceof RecordTypeNode) {
-            return recordTypeClasses.get(recordType);
-        }
-        throw new RuntimeException("Type Error: Expected a record type.");
+        return getRecordClassNameFromType(getType(recordExpr));
     }
 
-private String getRecordClassNameFromType(TypeNode type) {
-    // Resolve type identifiers
+// Type names that the analyzer could not resolve are left in the tree as TypeIdentifierNodes
+private TypeNode requireResolved(TypeNode type) {
     if (type instanceof TypeIdentifierNode) {
-        String typeName = ((TypeIdentifierNode) type).getTypeName();
-        type = typeTable.get(typeName);
-        if (type == null) {
-            throw new RuntimeException("Undefined type: " + typeName);
-        }
+        throw new RuntimeException("Undefined type: " + ((TypeIdentifierNode) type).getTypeName());
     }
+    return type;
+}
 
+private String getRecordClassNameFromType(TypeNode type) {
     if (type instanceof RecordTypeNode) {
-        String className = recordTypeClasses.get(type);
-        if (className == null) {
-            className = generateRecordClass((RecordTypeNode) type);
-        }
-        return className;
+        // generateRecordClass returns the existing class for an already generated layout
+        return generateRecordClass((RecordTypeNode) type);
     } else {
         throw new RuntimeException("Type Error: Expected a record type.");
     }
 }
 
 
-private TypeNode getFieldType(FieldAccessNode fieldAccess) {
+private RecordField getField(FieldAccessNode fieldAccess) {
     TypeNode recordType = getType(fieldAccess.getRecord());
-    // Resolve type identifiers
-    if (recordType instanceof TypeIdentifierNode) {
-        String typeName = ((TypeIdentifierNode) recordType).getTypeName();
-        recordType = typeTable.get(typeName);
-        if (recordType == null) {
-            throw new RuntimeException("Undefined type: " + typeName);
-        }
-    }
 
     if (recordType instanceof RecordTypeNode) {
-        RecordTypeNode recType = (RecordTypeNode) recordType;
-        for (DeclarationNode field : recType.getFields()) {
-            if (field.getIdentifier().equals(fieldAccess.getFieldName())) {
-                TypeNode fieldType = field.getType();
-                // Resolve field type if necessary
-                if (fieldType instanceof TypeIdentifierNode) {
-                    String typeName = ((TypeIdentifierNode) fieldType).getTypeName();
-                    fieldType = typeTable.get(typeName);
-                    if (fieldType == null) {
-                        throw new RuntimeException("Undefined type: " + typeName);
-                    }
-                }
-                return fieldType;
-            }
+        RecordField field = ((RecordTypeNode) recordType).getField(fieldAccess.getFieldName());
+        if (field != null) {
+            return field;
         }
         throw new RuntimeException("Field '" + fieldAccess.getFieldName() + "' not found in record.");
     } else {
@@ -1203,6 +2061,211 @@ private TypeNode getFieldType(FieldAccessNode fieldAccess) {
         return T_INT; // Default to int
     }
 
+    // Arrays of arrays whose innermost elements are integers, booleans or reals are stored as one
+    // primitive array in row-major order; a[i][j] of an array [n] array [m] lives at i * m + j
+    private boolean isFlatArray(ArrayTypeNode arrayType) {
+        TypeNode scalarType = getScalarElementType(arrayType);
+        return scalarType instanceof IntegerTypeNode || scalarType instanceof BooleanTypeNode
+                || scalarType instanceof RealTypeNode;
+    }
+
+    private TypeNode getScalarElementType(ArrayTypeNode arrayType) {
+        TypeNode type = arrayType;
+        while (type instanceof ArrayTypeNode) {
+            type = requireResolved(((ArrayTypeNode) type).getElementType());
+        }
+        return type;
+    }
+
+    // Number of scalar elements in the flattened array
+    private int getFlatSize(ArrayTypeNode arrayType) {
+        long size = 1;
+        for (TypeNode type = arrayType; type instanceof ArrayTypeNode; type = requireResolved(((ArrayTypeNode) type).getElementType())) {
+            size *= ((ArrayTypeNode) type).getSize();
+            if (size > Integer.MAX_VALUE) {
+                throw new RuntimeException("Array type has more than " + Integer.MAX_VALUE + " elements.");
+            }
+        }
+        return (int) size;
+    }
+
+    private boolean isFlatAccess(ArrayAccessNode access) {
+        TypeNode arrayType = getType(access.getArray());
+        return arrayType instanceof ArrayTypeNode && isFlatArray((ArrayTypeNode) arrayType);
+    }
+
+    private void generateNewFlatArray(ArrayTypeNode arrayType) {
+        pushInt(mv, getFlatSize(arrayType));
+        mv.visitIntInsn(NEWARRAY, getArrayTypeCode(getScalarElementType(arrayType)));
+    }
+
+    // Pushes the flattened array reference and the row-major offset of the accessed element. An index
+    // into a row is checked against the row length, since overrunning it would stay inside the array,
+    // unless range analysis proved it in bounds.
+    private void generateFlatElementAddress(ArrayAccessNode access) {
+        ArrayTypeNode arrayType = (ArrayTypeNode) getType(access.getArray());
+        TypeNode elementType = requireResolved(arrayType.getElementType());
+        int stride = elementType instanceof ArrayTypeNode ? getFlatSize((ArrayTypeNode) elementType) : 1;
+        boolean isRow = access.getArray() instanceof ArrayAccessNode && isFlatAccess((ArrayAccessNode) access.getArray());
+
+        if (isRow) {
+            generateFlatElementAddress((ArrayAccessNode) access.getArray());
+        } else {
+            generateExpression(access.getArray());
+        }
+
+        ExpressionNode index = access.getIndex();
+        if (index instanceof NumberNode && (!isRow || access.isIndexInBounds())) {
+            pushInt(mv, (int) ((long) ((NumberNode) index).getValue() * stride));
+        } else {
+            generateExpression(index);
+            if (isRow && !access.isIndexInBounds()) {
+                pushInt(mv, arrayType.getSize());
+                mv.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "checkIndex", "(II)I", false);
+            }
+            if (stride != 1) {
+                pushInt(mv, stride);
+                mv.visitInsn(IMUL);
+            }
+        }
+
+        if (isRow) {
+            mv.visitInsn(IADD);
+        }
+    }
+
+    // Allocates the flattened array and stores the literal's elements in row-major order
+    private void generateArrayLiteral(ExpressionListNode literal, ArrayTypeNode arrayType) {
+        List<ExpressionNode> elements = new ArrayList<>();
+        collectArrayLiteralElements(literal, arrayType, elements);
+        TypeNode scalarType = getScalarElementType(arrayType);
+        generateNewFlatArray(arrayType);
+        for (int i = 0; i < elements.size(); i++) {
+            mv.visitInsn(DUP);
+            pushInt(mv, i);
+            generateExpression(elements.get(i));
+            mv.visitInsn(scalarType instanceof RealTypeNode ? DASTORE : IASTORE);
+        }
+    }
+
+    private void collectArrayLiteralElements(ExpressionListNode literal, ArrayTypeNode arrayType, List<ExpressionNode> elements) {
+        List<ExpressionNode> expressions = literal.getExpressions();
+        if (expressions.size() != arrayType.getSize()) {
+            throw new RuntimeException("Array literal has " + expressions.size() + " elements, expected " + arrayType.getSize() + ".");
+        }
+        TypeNode elementType = requireResolved(arrayType.getElementType());
+        for (ExpressionNode expression : expressions) {
+            if (elementType instanceof ArrayTypeNode) {
+                if (!(expression instanceof ExpressionListNode)) {
+                    throw new RuntimeException("Array literal row must be an array literal.");
+                }
+                collectArrayLiteralElements((ExpressionListNode) expression, (ArrayTypeNode) elementType, elements);
+            } else {
+                elements.add(expression);
+            }
+        }
+    }
+
+    // printArray(array, offset, dimensions, depth): prints the elements of the flattened array from
+    // offset as nested lists, recursing into one row per dimension; the caller ends the line
+    private void generatePrintFlatArrayMethod(String arrayDescriptor, int loadInsn, String printDescriptor) {
+        String descriptor = "(" + arrayDescriptor + "I[II)V";
+        MethodVisitor mvPrintArray = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, "printArray", descriptor, null, null);
+        mvPrintArray.visitCode();
+
+        mvPrintArray.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        mvPrintArray.visitLdcInsn("[");
+        mvPrintArray.visitMethodInsn(INVOKEVIRTUAL, "java/io/PrintStream", "print", "(Ljava/lang/String;)V", false);
+
+        // stride (local 4) = product of dimensions[depth + 1 ..]
+        mvPrintArray.visitInsn(ICONST_1);
+        mvPrintArray.visitVarInsn(ISTORE, 4);
+        mvPrintArray.visitVarInsn(ILOAD, 3);
+        mvPrintArray.visitInsn(ICONST_1);
+        mvPrintArray.visitInsn(IADD);
+        mvPrintArray.visitVarInsn(ISTORE, 5);
+        Label strideLoop = new Label();
+        Label strideDone = new Label();
+        mvPrintArray.visitLabel(strideLoop);
+        mvPrintArray.visitVarInsn(ILOAD, 5);
+        mvPrintArray.visitVarInsn(ALOAD, 2);
+        mvPrintArray.visitInsn(ARRAYLENGTH);
+        mvPrintArray.visitJumpInsn(IF_ICMPGE, strideDone);
+        mvPrintArray.visitVarInsn(ILOAD, 4);
+        mvPrintArray.visitVarInsn(ALOAD, 2);
+        mvPrintArray.visitVarInsn(ILOAD, 5);
+        mvPrintArray.visitInsn(IALOAD);
+        mvPrintArray.visitInsn(IMUL);
+        mvPrintArray.visitVarInsn(ISTORE, 4);
+        mvPrintArray.visitIincInsn(5, 1);
+        mvPrintArray.visitJumpInsn(GOTO, strideLoop);
+        mvPrintArray.visitLabel(strideDone);
+
+        // for (i (local 5) = 0; i < dimensions[depth]; i++)
+        mvPrintArray.visitInsn(ICONST_0);
+        mvPrintArray.visitVarInsn(ISTORE, 5);
+        Label loopStart = new Label();
+        Label loopEnd = new Label();
+        mvPrintArray.visitLabel(loopStart);
+        mvPrintArray.visitVarInsn(ILOAD, 5);
+        mvPrintArray.visitVarInsn(ALOAD, 2);
+        mvPrintArray.visitVarInsn(ILOAD, 3);
+        mvPrintArray.visitInsn(IALOAD);
+        mvPrintArray.visitJumpInsn(IF_ICMPGE, loopEnd);
+
+        // Print comma before every element but the first
+        Label skipCommaLabel = new Label();
+        mvPrintArray.visitVarInsn(ILOAD, 5);
+        mvPrintArray.visitJumpInsn(IFEQ, skipCommaLabel);
+        mvPrintArray.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        mvPrintArray.visitLdcInsn(", ");
+        mvPrintArray.visitMethodInsn(INVOKEVIRTUAL, "java/io/PrintStream", "print", "(Ljava/lang/String;)V", false);
+        mvPrintArray.visitLabel(skipCommaLabel);
+
+        // Innermost dimension: print array[offset + i]; otherwise print the row starting at offset + i * stride
+        Label elementLabel = new Label();
+        Label nextLabel = new Label();
+        mvPrintArray.visitVarInsn(ILOAD, 3);
+        mvPrintArray.visitVarInsn(ALOAD, 2);
+        mvPrintArray.visitInsn(ARRAYLENGTH);
+        mvPrintArray.visitInsn(ICONST_1);
+        mvPrintArray.visitInsn(ISUB);
+        mvPrintArray.visitJumpInsn(IF_ICMPEQ, elementLabel);
+        mvPrintArray.visitVarInsn(ALOAD, 0);
+        mvPrintArray.visitVarInsn(ILOAD, 1);
+        mvPrintArray.visitVarInsn(ILOAD, 5);
+        mvPrintArray.visitVarInsn(ILOAD, 4);
+        mvPrintArray.visitInsn(IMUL);
+        mvPrintArray.visitInsn(IADD);
+        mvPrintArray.visitVarInsn(ALOAD, 2);
+        mvPrintArray.visitVarInsn(ILOAD, 3);
+        mvPrintArray.visitInsn(ICONST_1);
+        mvPrintArray.visitInsn(IADD);
+        mvPrintArray.visitMethodInsn(INVOKESTATIC, className, "printArray", descriptor, false);
+        mvPrintArray.visitJumpInsn(GOTO, nextLabel);
+        mvPrintArray.visitLabel(elementLabel);
+        mvPrintArray.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        mvPrintArray.visitVarInsn(ALOAD, 0);
+        mvPrintArray.visitVarInsn(ILOAD, 1);
+        mvPrintArray.visitVarInsn(ILOAD, 5);
+        mvPrintArray.visitInsn(IADD);
+        mvPrintArray.visitInsn(loadInsn);
+        mvPrintArray.visitMethodInsn(INVOKEVIRTUAL, "java/io/PrintStream", "print", printDescriptor, false);
+        mvPrintArray.visitLabel(nextLabel);
+
+        mvPrintArray.visitIincInsn(5, 1);
+        mvPrintArray.visitJumpInsn(GOTO, loopStart);
+        mvPrintArray.visitLabel(loopEnd);
+
+        mvPrintArray.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
+        mvPrintArray.visitLdcInsn("]");
+        mvPrintArray.visitMethodInsn(INVOKEVIRTUAL, "java/io/PrintStream", "print", "(Ljava/lang/String;)V", false);
+
+        mvPrintArray.visitInsn(RETURN);
+        mvPrintArray.visitMaxs(0, 0);
+        mvPrintArray.visitEnd();
+    }
+
     private void generatePrintIntMethod() {
         MethodVisitor printMv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, "printInt", "(I)V", null, null);
         printMv.visitCode();
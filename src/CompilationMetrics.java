@@ -0,0 +1,134 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+/*
+ * Per-phase instrumentation of one compilation: wall time, CPU time and allocated bytes
+ * for every phase, plus counts of tokens, AST nodes, functions and emitted bytecode.
+ * Phases are measured on the calling thread, so a metrics object must not be shared between threads.
+ */
+public class CompilationMetrics {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /* Measurements of a single phase */
+    public static class Phase {
+        private String name;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+
+        Phase(String name, long wallNanos, long cpuNanos, long allocatedBytes) {
+            this.name = name;
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        // -1 if the JVM does not support thread CPU time
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        // -1 if the JVM does not support thread allocation counters
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    private List<Phase> phases = new ArrayList<>();
+    private Map<String, Long> counts = new LinkedHashMap<>();
+
+    private String currentPhase;
+    private long startWall;
+    private long startCpu;
+    private long startAllocated;
+
+    public void startPhase(String name) {
+        if (currentPhase != null) {
+            endPhase();
+        }
+        currentPhase = name;
+        startAllocated = allocatedBytes();
+        startCpu = cpuNanos();
+        startWall = System.nanoTime();
+    }
+
+    public void endPhase() {
+        if (currentPhase == null) {
+            return;
+        }
+        long wall = System.nanoTime() - startWall;
+        long cpu = cpuNanos();
+        long allocated = allocatedBytes();
+        phases.add(new Phase(currentPhase, wall,
+                cpu < 0 ? -1 : cpu - startCpu,
+                allocated < 0 ? -1 : allocated - startAllocated));
+        currentPhase = null;
+    }
+
+    public void setCount(String name, long value) {
+        counts.put(name, value);
+    }
+
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    public long getTotalWallNanos() {
+        long total = 0;
+        for (Phase phase : phases) {
+            total += phase.getWallNanos();
+        }
+        return total;
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"phases\": [");
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\"name\": \"").append(phase.getName()).append("\"")
+                    .append(", \"wallNanos\": ").append(phase.getWallNanos())
+                    .append(", \"cpuNanos\": ").append(phase.getCpuNanos())
+                    .append(", \"allocatedBytes\": ").append(phase.getAllocatedBytes())
+                    .append("}");
+        }
+        json.append(phases.isEmpty() ? "],\n" : "\n  ],\n");
+        json.append("  \"counts\": {");
+        int i = 0;
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            json.append(i++ == 0 ? "" : ", ");
+            json.append("\"").append(count.getKey()).append("\": ").append(count.getValue());
+        }
+        json.append("},\n");
+        json.append("  \"totalWallNanos\": ").append(getTotalWallNanos()).append("\n}");
+        return json.toString();
+    }
+
+    private static long cpuNanos() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+}
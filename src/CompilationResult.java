@@ -0,0 +1,54 @@
+import java.util.*;
+
+/* Outcome of compiling one unit through the Compiler facade */
+public class CompilationResult {
+    private ProgramNode ast;
+    private Map<String, byte[]> classes;
+    private Exception error;
+    private CompilationMetrics metrics;
+    private List<String> diagnostics;
+
+    public CompilationResult(ProgramNode ast, Map<String, byte[]> classes, Exception error) {
+        this(ast, classes, error, null);
+    }
+
+    public CompilationResult(ProgramNode ast, Map<String, byte[]> classes, Exception error, CompilationMetrics metrics) {
+        this(ast, classes, error, metrics, Collections.emptyList());
+    }
+
+    public CompilationResult(ProgramNode ast, Map<String, byte[]> classes, Exception error, CompilationMetrics metrics,
+                             List<String> diagnostics) {
+        this.ast = ast;
+        this.classes = classes;
+        this.error = error;
+        this.metrics = metrics;
+        this.diagnostics = diagnostics;
+    }
+
+    // A unit compiles only when nothing went wrong and the analyzer reported no errors
+    public boolean isSuccess() {
+        return error == null && diagnostics.isEmpty();
+    }
+
+    public ProgramNode getAst() {
+        return ast;
+    }
+
+    public Map<String, byte[]> getClasses() {
+        return classes;
+    }
+
+    public Exception getError() {
+        return error;
+    }
+
+    // Semantic and type errors reported by the analyzer
+    public List<String> getDiagnostics() {
+        return diagnostics;
+    }
+
+    // Null unless metrics were enabled on the Compiler
+    public CompilationMetrics getMetrics() {
+        return metrics;
+    }
+}
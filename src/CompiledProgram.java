@@ -0,0 +1,48 @@
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/* Result of an in-memory compilation: the generated bytecode and the loaded main class */
+public class CompiledProgram {
+    private String mainClassName;
+    private Map<String, byte[]> classes;
+    private Class<?> mainClass;
+
+    public CompiledProgram(String mainClassName, Map<String, byte[]> classes, Class<?> mainClass) {
+        this.mainClassName = mainClassName;
+        this.classes = classes;
+        this.mainClass = mainClass;
+    }
+
+    public String getMainClassName() {
+        return mainClassName;
+    }
+
+    public Map<String, byte[]> getClasses() {
+        return classes;
+    }
+
+    public byte[] getBytecode(String className) {
+        return classes.get(className);
+    }
+
+    public Class<?> getMainClass() {
+        return mainClass;
+    }
+
+    // Invokes the generated main method in the current JVM
+    public void run(String... args) throws ReflectiveOperationException {
+        Method main = mainClass.getMethod("main", String[].class);
+        try {
+            main.invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
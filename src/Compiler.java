@@ -0,0 +1,116 @@
+import java.io.*;
+import java.util.*;
+
+/*
+ * Long-lived compiler pipeline. The lexer, parser, analyzer and code generator are built once
+ * and reset between units, so repeated calls to compile() run on warm, already-allocated objects.
+ * It parses with ProductionParser, which records no parse tree and shares no state between
+ * instances. Semantic and type errors are collected on the result instead of being printed, and a
+ * unit with any of them gets no classes. A Compiler is not thread-safe; use one instance per thread.
+ */
+public class Compiler {
+    private Yylex lexer;
+    private ProductionParser parser;
+    private SemanticAnalyzer analyzer;
+    private CodeGenerator codeGenerator;
+    private boolean metricsEnabled = false;
+
+    public Compiler() {
+        this(new CodeGenerator());
+    }
+
+    // Emits the main class under the given name, e.g. to compile several units side by side
+    public Compiler(String className) {
+        this(new CodeGenerator(className));
+    }
+
+    private Compiler(CodeGenerator codeGenerator) {
+        lexer = new Yylex(new StringReader(""));
+        parser = new ProductionParser(lexer);
+        analyzer = new SemanticAnalyzer();
+        analyzer.setPrintDiagnostics(false);
+        this.codeGenerator = codeGenerator;
+    }
+
+    // When enabled, every result carries per-phase timings, allocations and counts
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    // Conditional constant propagation is on by default; turning it off lets its effect be measured
+    public void setPropagateConditionalConstants(boolean propagateConditionalConstants) {
+        analyzer.setPropagateConditionalConstants(propagateConditionalConstants);
+    }
+
+    public CompilationResult compile(Reader source) {
+        lexer.yyreset(source);
+        analyzer.reset();
+        codeGenerator.reset();
+
+        CompilationMetrics metrics = metricsEnabled ? new CompilationMetrics() : null;
+        ProgramNode ast = null;
+        try {
+            if (metrics != null) {
+                // Read all tokens up front so lexing and parsing are measured separately
+                metrics.startPhase("lexing");
+                TokenBuffer tokens = TokenBuffer.readAll(lexer);
+                metrics.endPhase();
+                metrics.setCount("tokens", tokens.size());
+                parser.setScanner(tokens);
+                metrics.startPhase("parsing");
+            } else {
+                parser.setScanner(lexer);
+            }
+            ast = (ProgramNode) parser.parse().value;
+            if (ast == null) {
+                throw new RuntimeException("Parsing failed: AST is null.");
+            }
+            if (metrics != null) {
+                metrics.endPhase();
+                metrics.setCount("astNodes", analyzer.countNodes(ast));
+            }
+
+            analyzer.analyze(ast, metrics);
+            List<String> diagnostics = new ArrayList<>(analyzer.getDiagnostics());
+            if (!diagnostics.isEmpty()) {
+                return new CompilationResult(ast, null, null, metrics, diagnostics);
+            }
+
+            if (metrics != null) metrics.startPhase("bytecodeEmission");
+            Map<String, byte[]> classes = codeGenerator.generateClasses(ast);
+            if (metrics != null) {
+                metrics.endPhase();
+                recordOutputCounts(metrics, ast, classes);
+                recordIrCounts(metrics, codeGenerator);
+            }
+            return new CompilationResult(ast, classes, null, metrics);
+        } catch (Exception e) {
+            if (metrics != null) metrics.endPhase();
+            return new CompilationResult(ast, null, e, metrics, new ArrayList<>(analyzer.getDiagnostics()));
+        }
+    }
+
+    static void recordOutputCounts(CompilationMetrics metrics, ProgramNode ast, Map<String, byte[]> classes) {
+        int functions = 0;
+        for (ASTNode node : ast.getChildren()) {
+            if (node instanceof FunctionNode) {
+                functions++;
+            }
+        }
+        long bytecodeSize = 0;
+        for (byte[] bytecode : classes.values()) {
+            bytecodeSize += bytecode.length;
+        }
+        metrics.setCount("functions", functions);
+        metrics.setCount("classes", classes.size());
+        metrics.setCount("bytecodeBytes", bytecodeSize);
+    }
+
+    // Routines compiled from SSA form, and the time spent in each pass over it
+    static void recordIrCounts(CompilationMetrics metrics, CodeGenerator codeGenerator) {
+        metrics.setCount("irFunctions", codeGenerator.getIrFunctionCount());
+        for (Map.Entry<String, Long> pass : codeGenerator.getIrPassManager().getNanos().entrySet()) {
+            metrics.setCount("irPassNanos." + pass.getKey(), pass.getValue());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+import java.io.*;
+import java.lang.reflect.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+/*
+ * Stress check for the front end: parses every program of the given corpora sequentially, then
+ * parses them again many times on many threads, with both parser and ProductionParser, and checks
+ * that every concurrent AST is identical to the sequential one.
+ *
+ * Usage: java ConcurrentParseCheck [-j threads] [-r rounds] [file|directory]...
+ * Defaults to 16 threads, 20 rounds and the ../tests and ../final_tests directories.
+ */
+public class ConcurrentParseCheck {
+
+    public static void main(String[] args) throws Exception {
+        int threads = 16;
+        int rounds = 20;
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-j")) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("-r")) {
+                rounds = Integer.parseInt(args[++i]);
+            } else {
+                inputs.add(Paths.get(args[i]));
+            }
+        }
+        if (inputs.isEmpty()) {
+            inputs.add(Paths.get("../tests"));
+            inputs.add(Paths.get("../final_tests"));
+        }
+
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> walk = Files.walk(input)) {
+                    walk.filter(p -> p.toString().endsWith(".txt")).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(input);
+            }
+        }
+
+        List<String> sources = new ArrayList<>();
+        for (Path file : files) {
+            sources.add(new String(Files.readAllBytes(file)));
+        }
+
+        // The parsers report syntax errors on stdout and stderr; the corpora contain programs that do not parse
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+
+        List<String> expected = new ArrayList<>();
+        for (String source : sources) {
+            expected.add(parseAndDump(source, false));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        AtomicInteger mismatches = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < sources.size(); i++) {
+                int index = i;
+                boolean production = (round + i) % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    String actual = parseAndDump(sources.get(index), production);
+                    if (!actual.equals(expected.get(index))) {
+                        if (mismatches.getAndIncrement() == 0) {
+                            originalErr.println("Mismatch for " + files.get(index)
+                                    + (production ? " (ProductionParser)" : " (parser)"));
+                        }
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        long elapsed = System.nanoTime() - start;
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+
+        System.out.printf("%d parses of %d files on %d threads in %.1f ms, %d mismatches%n",
+                futures.size(), files.size(), threads, elapsed / 1e6, mismatches.get());
+        if (mismatches.get() > 0) {
+            System.exit(1);
+        }
+    }
+
+    // The AST as text, or the failure if the source does not parse
+    private static String parseAndDump(String source, boolean production) {
+        Yylex lexer = new Yylex(new StringReader(source));
+        java_cup.runtime.lr_parser p = production ? new ProductionParser(lexer) : new parser(lexer);
+        try {
+            StringBuilder sb = new StringBuilder();
+            dump(p.parse().value, sb);
+            return sb.toString();
+        } catch (Exception e) {
+            return "failed: " + e.getMessage();
+        }
+    }
+
+    // Writes every instance field except the links back to the parent and the analysis annotations
+    private static void dump(Object value, StringBuilder sb) throws IllegalAccessException {
+        if (value instanceof ASTNode) {
+            sb.append(value.getClass().getSimpleName()).append('(');
+            for (Class<?> c = value.getClass(); c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    String name = field.getName();
+                    if (Modifier.isStatic(field.getModifiers()) || name.equals("parent")
+                            || name.equals("resolvedType") || name.equals("fieldMap")) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    sb.append(name).append('=');
+                    dump(field.get(value), sb);
+                    sb.append(' ');
+                }
+            }
+            sb.append(')');
+        } else if (value instanceof List) {
+            sb.append('[');
+            for (Object item : (List<?>) value) {
+                dump(item, sb);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else {
+            sb.append(value);
+        }
+    }
+}
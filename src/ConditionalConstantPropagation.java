@@ -0,0 +1,502 @@
+import java.util.*;
+import java.util.function.BiFunction;
+
+/*
+ * Conditional constant propagation on a control-flow graph. The main program and every routine
+ * are split into basic blocks, and a worklist finds at once which blocks can run and which scalar
+ * variables hold a constant on entry to each of them. Only the edges of a branch that its
+ * condition allows are followed, so a variable given the same value on every path that can reach
+ * a use is known there, and code that can only be reached through a branch that is never taken,
+ * or after a return on every path, is found to be dead. Afterwards, statements in blocks that
+ * never run are removed, ifs and loops decided by a constant are replaced with what runs, and
+ * variables with a known value are replaced with it.
+ */
+public class ConditionalConstantPropagation {
+    // Value of an expression given the constant variables it may read, or null if not constant
+    private BiFunction<ExpressionNode, Map<String, ExpressionNode>, ExpressionNode> evaluator;
+
+    // Blocks of the graph being optimized, and the block each statement starts in
+    private List<Block> blocks;
+    private Map<ASTNode, Block> blockOf;
+    // Block that statements are being added to while the graph is built
+    private Block current;
+
+    private static class Block {
+        // Declarations and simple statements, run in order
+        final List<ASTNode> steps = new ArrayList<>();
+        // If, while or for statement whose condition or range decides where control goes next;
+        // its first edge is taken when the body or then branch runs
+        StatementNode branch;
+        // Loop iterator whose value is unknown on entry to this block
+        String iterator;
+        final List<Edge> successors = new ArrayList<>();
+        final List<Edge> predecessors = new ArrayList<>();
+
+        // Constant variables on exit; null until the block is found to run
+        Map<String, ExpressionNode> exitValues;
+    }
+
+    private static class Edge {
+        final Block from;
+        final Block to;
+        boolean taken;
+
+        Edge(Block from, Block to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    public void optimize(ProgramNode ast, BiFunction<ExpressionNode, Map<String, ExpressionNode>, ExpressionNode> evaluator) {
+        this.evaluator = evaluator;
+        Block entry = startGraph();
+        for (ASTNode child : ast.getChildren()) {
+            if (child instanceof DeclarationNode) {
+                current.steps.add(child);
+                blockOf.put(child, current);
+            } else if (child instanceof StatementNode) {
+                build((StatementNode) child);
+            }
+        }
+        propagate(entry);
+        substituteSteps();
+        List<ASTNode> children = new ArrayList<>();
+        for (ASTNode child : ast.getChildren()) {
+            if (child instanceof DeclarationNode) {
+                if (isReached(child)) {
+                    children.add(child);
+                } else {
+                    System.out.println("Optimization: Removed unreachable declaration of '"
+                            + ((DeclarationNode) child).getIdentifier() + "'.");
+                }
+            } else if (child instanceof StatementNode) {
+                StatementNode simplified = simplify((StatementNode) child);
+                if (simplified != null) {
+                    simplified.setParent(ast);
+                    children.add(simplified);
+                }
+            } else {
+                children.add(child);
+            }
+        }
+        ast.setChildren(children);
+
+        // Every routine gets a graph of its own
+        for (ASTNode child : children) {
+            if (child instanceof FunctionNode) {
+                optimize((FunctionNode) child);
+            }
+        }
+    }
+
+    private void optimize(FunctionNode function) {
+        if (function.getBody() == null) {
+            return;
+        }
+        // Nothing is known about the parameters
+        Block entry = startGraph();
+        build(function.getBody());
+        propagate(entry);
+        substituteSteps();
+        StatementNode body = simplify(function.getBody());
+        function.setBody(body != null ? body : new EmptyNode());
+    }
+
+    /* Building the Graph */
+
+    private Block startGraph() {
+        blocks = new ArrayList<>();
+        blockOf = new IdentityHashMap<>();
+        current = newBlock();
+        return current;
+    }
+
+    private Block newBlock() {
+        Block block = new Block();
+        blocks.add(block);
+        return block;
+    }
+
+    private void connect(Block from, Block to) {
+        Edge edge = new Edge(from, to);
+        from.successors.add(edge);
+        to.predecessors.add(edge);
+    }
+
+    // Adds node to the graph, continuing from the current block
+    private void build(StatementNode node) {
+        if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                build(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            Block test = current;
+            test.branch = ifNode;
+            blockOf.put(ifNode, test);
+            Block join = newBlock();
+            current = newBlock();
+            connect(test, current);
+            build(ifNode.getThenStmt());
+            connect(current, join);
+            current = newBlock();
+            connect(test, current);
+            if (ifNode.getElseStmt() != null) {
+                build(ifNode.getElseStmt());
+            }
+            connect(current, join);
+            current = join;
+        } else if (node instanceof WhileLoopNode) {
+            WhileLoopNode whileNode = (WhileLoopNode) node;
+            Block header = newBlock();
+            connect(current, header);
+            header.branch = whileNode;
+            blockOf.put(whileNode, header);
+            Block body = newBlock();
+            Block exit = newBlock();
+            connect(header, body);
+            connect(header, exit);
+            current = body;
+            build(whileNode.getBody());
+            connect(current, header);
+            current = exit;
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            Block entry = current;
+            entry.branch = forNode;
+            blockOf.put(forNode, entry);
+            Block body = newBlock();
+            body.iterator = forNode.getIterator().getName();
+            Block exit = newBlock();
+            connect(entry, body);
+            connect(entry, exit);
+            current = body;
+            build(forNode.getBody());
+            // Every iteration may be followed by another one or by the end of the loop
+            connect(current, body);
+            connect(current, exit);
+            current = exit;
+        } else if (node != null) {
+            current.steps.add(node);
+            blockOf.put(node, current);
+            if (node instanceof ReturnNode) {
+                // Whatever follows a return starts a block that nothing leads to
+                current = newBlock();
+            }
+        }
+    }
+
+    /* Propagation */
+
+    private void propagate(Block entry) {
+        Deque<Block> worklist = new ArrayDeque<>();
+        worklist.add(entry);
+        while (!worklist.isEmpty()) {
+            Block block = worklist.poll();
+            Map<String, ExpressionNode> values = entryValues(block);
+            for (ASTNode step : block.steps) {
+                transfer(step, values);
+            }
+            boolean changed = block.exitValues == null || !sameValues(block.exitValues, values);
+            block.exitValues = values;
+            for (int i = 0; i < block.successors.size(); i++) {
+                Edge edge = block.successors.get(i);
+                if (!canTake(block, i)) {
+                    continue;
+                }
+                if (!edge.taken || changed) {
+                    edge.taken = true;
+                    worklist.add(edge.to);
+                }
+            }
+        }
+    }
+
+    // Constants known on entry to a block: those known with the same value on every edge taken into it
+    private Map<String, ExpressionNode> entryValues(Block block) {
+        Map<String, ExpressionNode> values = null;
+        for (Edge edge : block.predecessors) {
+            if (!edge.taken) {
+                continue;
+            }
+            if (values == null) {
+                values = new HashMap<>(edge.from.exitValues);
+            } else {
+                Map<String, ExpressionNode> other = edge.from.exitValues;
+                values.entrySet().removeIf(entry -> !sameConstant(entry.getValue(), other.get(entry.getKey())));
+            }
+        }
+        if (values == null) {
+            values = new HashMap<>();
+        }
+        if (block.iterator != null) {
+            values.remove(block.iterator);
+        }
+        return values;
+    }
+
+    // Updates the constant variables after step runs
+    private void transfer(ASTNode step, Map<String, ExpressionNode> values) {
+        if (step instanceof DeclarationNode) {
+            DeclarationNode declaration = (DeclarationNode) step;
+            ExpressionNode value;
+            if (declaration.getExpression() != null) {
+                value = evaluator.apply(declaration.getExpression(), values);
+            } else {
+                // Scalars start out as zero
+                TypeNode type = declaration.getType();
+                value = type instanceof IntegerTypeNode ? new NumberNode(0)
+                        : type instanceof RealTypeNode ? new RealNode(0.0)
+                        : type instanceof BooleanTypeNode ? new BooleanNode(false) : null;
+            }
+            setValue(values, declaration.getIdentifier(), value);
+        } else if (step instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) step;
+            if (assignNode.getVariable() instanceof IdentifierNode) {
+                String name = ((IdentifierNode) assignNode.getVariable()).getName();
+                setValue(values, name, evaluator.apply(assignNode.getExpression(), values));
+            }
+        }
+    }
+
+    private void setValue(Map<String, ExpressionNode> values, String name, ExpressionNode value) {
+        if (isLiteral(value)) {
+            values.put(name, value);
+        } else {
+            values.remove(name);
+        }
+    }
+
+    // Whether control can leave block along its i-th edge
+    private boolean canTake(Block block, int i) {
+        if (block.branch instanceof IfElseNode || block.branch instanceof WhileLoopNode) {
+            ExpressionNode condition = block.branch instanceof IfElseNode
+                    ? ((IfElseNode) block.branch).getCondition()
+                    : ((WhileLoopNode) block.branch).getCondition();
+            ExpressionNode value = evaluator.apply(condition, block.exitValues);
+            return !(value instanceof BooleanNode) || ((BooleanNode) value).isValue() == (i == 0);
+        } else if (block.branch instanceof ForLoopNode && i == 0) {
+            // The body runs unless the range is known to be empty
+            ForLoopNode forNode = (ForLoopNode) block.branch;
+            ExpressionNode start = evaluator.apply(forNode.getStart(), block.exitValues);
+            ExpressionNode end = evaluator.apply(forNode.getEnd(), block.exitValues);
+            return !(start instanceof NumberNode && end instanceof NumberNode)
+                    || ((NumberNode) start).getValue() <= ((NumberNode) end).getValue();
+        }
+        return true;
+    }
+
+    /* Rewriting the Tree */
+
+    private boolean isReached(ASTNode node) {
+        Block block = blockOf.get(node);
+        return block == null || block.exitValues != null;
+    }
+
+    private boolean isTaken(ASTNode node, int i) {
+        return blockOf.get(node).successors.get(i).taken;
+    }
+
+    // Replaces the variables that hold a known constant in the steps of every block that runs
+    private void substituteSteps() {
+        for (Block block : blocks) {
+            if (block.exitValues == null) {
+                continue;
+            }
+            Map<String, ExpressionNode> values = entryValues(block);
+            for (ASTNode step : block.steps) {
+                if (step instanceof DeclarationNode) {
+                    DeclarationNode declaration = (DeclarationNode) step;
+                    if (declaration.getExpression() != null) {
+                        declaration.setExpression(substitute(declaration.getExpression(), values));
+                    }
+                } else if (step instanceof AssignmentNode) {
+                    AssignmentNode assignNode = (AssignmentNode) step;
+                    // The target itself is written, but an index into it is read
+                    if (assignNode.getVariable() instanceof ArrayAccessNode) {
+                        ArrayAccessNode access = (ArrayAccessNode) assignNode.getVariable();
+                        access.setIndex(substitute(access.getIndex(), values));
+                    }
+                    assignNode.setExpression(substitute(assignNode.getExpression(), values));
+                } else if (step instanceof ReturnNode) {
+                    ReturnNode returnNode = (ReturnNode) step;
+                    if (returnNode.getExpr() != null) {
+                        returnNode.setExpr(substitute(returnNode.getExpr(), values));
+                    }
+                } else if (step instanceof PrintNode) {
+                    PrintNode printNode = (PrintNode) step;
+                    printNode.setExpression(substitute(printNode.getExpression(), values));
+                }
+                transfer(step, values);
+            }
+        }
+    }
+
+    // Returns what replaces node: node itself, the part of it that runs, or null when it never runs.
+    // Conditions and ranges get the values known where they are evaluated.
+    private StatementNode simplify(StatementNode node) {
+        if (!isReached(node)) {
+            System.out.println("Optimization: Removed statement that cannot be reached.");
+            return null;
+        }
+        if (node instanceof StatementBlockNode) {
+            List<StatementNode> statements = ((StatementBlockNode) node).getStatements();
+            for (int i = 0; i < statements.size(); i++) {
+                StatementNode simplified = simplify(statements.get(i));
+                if (simplified != null) {
+                    simplified.setParent(node);
+                }
+                statements.set(i, simplified);
+            }
+            statements.removeIf(Objects::isNull);
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            boolean thenRuns = isTaken(ifNode, 0);
+            boolean elseRuns = isTaken(ifNode, 1);
+            if (!elseRuns) {
+                System.out.println("Optimization: Replaced if-else statement with its then branch, the only one that can run.");
+                return simplify(ifNode.getThenStmt());
+            } else if (!thenRuns) {
+                System.out.println("Optimization: Replaced if-else statement with its else branch, the only one that can run.");
+                return ifNode.getElseStmt() != null ? simplify(ifNode.getElseStmt()) : null;
+            }
+            Map<String, ExpressionNode> values = blockOf.get(ifNode).exitValues;
+            ifNode.setCondition(substitute(ifNode.getCondition(), values));
+            ifNode.setThenStmt(orEmpty(simplify(ifNode.getThenStmt())));
+            if (ifNode.getElseStmt() != null) {
+                ifNode.setElseStmt(orEmpty(simplify(ifNode.getElseStmt())));
+            }
+        } else if (node instanceof WhileLoopNode) {
+            WhileLoopNode whileNode = (WhileLoopNode) node;
+            if (!isTaken(whileNode, 0)) {
+                System.out.println("Optimization: Removed while loop whose condition is false whenever it is reached.");
+                return null;
+            }
+            Map<String, ExpressionNode> values = blockOf.get(whileNode).exitValues;
+            whileNode.setCondition(substitute(whileNode.getCondition(), values));
+            whileNode.setBody(orEmpty(simplify(whileNode.getBody())));
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            if (!isTaken(forNode, 0)) {
+                System.out.println("Optimization: Removed 'for' loop whose range is empty whenever it is reached.");
+                return null;
+            }
+            Map<String, ExpressionNode> values = blockOf.get(forNode).exitValues;
+            forNode.setStart(substitute(forNode.getStart(), values));
+            forNode.setEnd(substitute(forNode.getEnd(), values));
+            if (forNode.getStep() != null) {
+                forNode.setStep(substitute(forNode.getStep(), values));
+            }
+            forNode.setBody(orEmpty(simplify(forNode.getBody())));
+        }
+        return node;
+    }
+
+    private StatementNode orEmpty(StatementNode node) {
+        return node != null ? node : new EmptyNode();
+    }
+
+    // Replaces the variables in expr that hold a known constant, and folds what becomes constant
+    private ExpressionNode substitute(ExpressionNode expr, Map<String, ExpressionNode> values) {
+        if (expr instanceof IdentifierNode) {
+            ExpressionNode value = values.get(((IdentifierNode) expr).getName());
+            if (value != null && hasType(value, expr.getResolvedType())) {
+                System.out.println("Optimization: Replaced variable '" + ((IdentifierNode) expr).getName()
+                        + "' with the constant it holds on every path to it.");
+                return copy(value);
+            }
+            return expr;
+        } else if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            binOp.setLeft(substitute(binOp.getLeft(), values));
+            binOp.setRight(substitute(binOp.getRight(), values));
+            if (isLiteral(binOp.getLeft()) && isLiteral(binOp.getRight())) {
+                return fold(binOp);
+            }
+        } else if (expr instanceof UnaryOpNode) {
+            UnaryOpNode unOp = (UnaryOpNode) expr;
+            unOp.setExpr(substitute(unOp.getExpr(), values));
+            if (isLiteral(unOp.getExpr())) {
+                return fold(unOp);
+            }
+        } else if (expr instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) expr;
+            access.setIndex(substitute(access.getIndex(), values));
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            List<ExpressionNode> arguments = call.getArguments();
+            boolean constantArguments = true;
+            for (int i = 0; arguments != null && i < arguments.size(); i++) {
+                ExpressionNode argument = substitute(arguments.get(i), values);
+                argument.setParent(call);
+                arguments.set(i, argument);
+                constantArguments &= isLiteral(argument);
+            }
+            if (constantArguments && arguments != null && !arguments.isEmpty()) {
+                return fold(call);
+            }
+        }
+        return expr;
+    }
+
+    private ExpressionNode fold(ExpressionNode expr) {
+        ExpressionNode value = evaluator.apply(expr, Collections.emptyMap());
+        if (isLiteral(value) && hasType(value, expr.getResolvedType())) {
+            System.out.println("Optimization: Folded " + RangeAnalyzer.describe(expr) + " to " + RangeAnalyzer.describe(value) + ".");
+            return copy(value);
+        }
+        return expr;
+    }
+
+    /* Constants */
+
+    private static boolean isLiteral(ExpressionNode expr) {
+        return expr instanceof NumberNode || expr instanceof RealNode || expr instanceof BooleanNode;
+    }
+
+    // Whether a constant can stand for an expression of the given type; the type is null where it was not checked
+    private static boolean hasType(ExpressionNode constant, TypeNode type) {
+        return type == null
+                || (constant instanceof NumberNode && type instanceof IntegerTypeNode)
+                || (constant instanceof RealNode && type instanceof RealTypeNode)
+                || (constant instanceof BooleanNode && type instanceof BooleanTypeNode);
+    }
+
+    private static ExpressionNode copy(ExpressionNode constant) {
+        ExpressionNode copy;
+        if (constant instanceof NumberNode) {
+            copy = new NumberNode(((NumberNode) constant).getValue());
+            copy.setResolvedType(IntegerTypeNode.INSTANCE);
+        } else if (constant instanceof RealNode) {
+            copy = new RealNode(((RealNode) constant).getValue());
+            copy.setResolvedType(RealTypeNode.INSTANCE);
+        } else {
+            copy = new BooleanNode(((BooleanNode) constant).isValue());
+            copy.setResolvedType(BooleanTypeNode.INSTANCE);
+        }
+        return copy;
+    }
+
+    private static boolean sameConstant(ExpressionNode a, ExpressionNode b) {
+        if (a instanceof NumberNode && b instanceof NumberNode) {
+            return ((NumberNode) a).getValue() == ((NumberNode) b).getValue();
+        } else if (a instanceof RealNode && b instanceof RealNode) {
+            return Double.compare(((RealNode) a).getValue(), ((RealNode) b).getValue()) == 0;
+        } else if (a instanceof BooleanNode && b instanceof BooleanNode) {
+            return ((BooleanNode) a).isValue() == ((BooleanNode) b).isValue();
+        }
+        return false;
+    }
+
+    private static boolean sameValues(Map<String, ExpressionNode> a, Map<String, ExpressionNode> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (Map.Entry<String, ExpressionNode> entry : a.entrySet()) {
+            if (!sameConstant(entry.getValue(), b.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+/*
+ * Check for the example programs. Compiles and runs every program of the given corpora that has
+ * a .expected file next to it, and compares its output with that file. Programs without one, such
+ * as those that are meant to fail compilation, are skipped.
+ *
+ * Usage: java CorpusCheck [file|directory]...
+ * Defaults to the ../tests and ../final_tests directories.
+ */
+public class CorpusCheck {
+
+    public static void main(String[] args) throws Exception {
+        List<Path> inputs = new ArrayList<>();
+        for (String arg : args) {
+            inputs.add(Paths.get(arg));
+        }
+        if (inputs.isEmpty()) {
+            inputs.add(Paths.get("../tests"));
+            inputs.add(Paths.get("../final_tests"));
+        }
+
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> walk = Files.walk(input)) {
+                    walk.filter(p -> p.toString().endsWith(".txt")).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(input);
+            }
+        }
+
+        int checked = 0;
+        int failures = 0;
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            Path expected = file.resolveSibling(name.substring(0, name.length() - ".txt".length()) + ".expected");
+            if (!Files.exists(expected)) {
+                continue;
+            }
+            checked++;
+            failures += LargeArrayCheck.check(file.toString(), Files.readString(file),
+                    Files.readString(expected).replace("\r\n", "\n"));
+        }
+        System.out.println("Checked " + checked + " programs, " + failures + " failed.");
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
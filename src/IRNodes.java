@@ -0,0 +1,336 @@
+import java.util.*;
+
+/*
+ * Typed SSA form of a routine, between the tree and bytecode. IrBuilder lowers a routine into it,
+ * IrPassManager runs the optimizations on it, and CodeGenerator turns it into bytecode. Every value
+ * is defined by exactly one instruction; where control flow merges, a phi takes the value of the
+ * predecessor control came from. Array elements and record fields are read and written with
+ * explicit loads and stores, so memory is the only state that changes.
+ */
+
+/* A routine as basic blocks; the first block is the entry, and the order of the list is the layout */
+class IrFunction {
+    private final FunctionNode source;
+    private final List<IrBlock> blocks = new ArrayList<>();
+    private int blockCounter = 0;
+    private int valueCounter = 0;
+
+    public IrFunction(FunctionNode source) {
+        this.source = source;
+    }
+
+    public FunctionNode getSource() {
+        return source;
+    }
+
+    public String getName() {
+        return source.getIdentifier();
+    }
+
+    public TypeNode getReturnType() {
+        return source.getReturnType();
+    }
+
+    public List<IrBlock> getBlocks() {
+        return blocks;
+    }
+
+    public IrBlock getEntry() {
+        return blocks.get(0);
+    }
+
+    public IrBlock newBlock() {
+        IrBlock block = new IrBlock(blockCounter++);
+        blocks.add(block);
+        return block;
+    }
+
+    int nextValueId() {
+        return valueCounter++;
+    }
+
+    // Number of instructions, phis and terminators in all blocks
+    public int size() {
+        int size = 0;
+        for (IrBlock block : blocks) {
+            size += block.getPhis().size() + block.getInstructions().size() + (block.getTerminator() != null ? 1 : 0);
+        }
+        return size;
+    }
+
+    // Blocks in reverse postorder from the entry; blocks that cannot be reached are left out
+    public List<IrBlock> reversePostorder() {
+        List<IrBlock> postorder = new ArrayList<>();
+        Set<IrBlock> visited = new HashSet<>();
+        Deque<IrBlock> stack = new ArrayDeque<>();
+        Deque<Iterator<IrBlock>> successors = new ArrayDeque<>();
+        visited.add(getEntry());
+        stack.push(getEntry());
+        successors.push(getEntry().getSuccessors().iterator());
+        while (!stack.isEmpty()) {
+            if (successors.peek().hasNext()) {
+                IrBlock next = successors.peek().next();
+                if (visited.add(next)) {
+                    stack.push(next);
+                    successors.push(next.getSuccessors().iterator());
+                }
+            } else {
+                postorder.add(stack.pop());
+                successors.pop();
+            }
+        }
+        Collections.reverse(postorder);
+        return postorder;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("routine " + getName() + "\n");
+        for (IrBlock block : blocks) {
+            text.append(block);
+        }
+        return text.toString();
+    }
+}
+
+class IrBlock {
+    private final int id;
+    private final List<IrInstruction> phis = new ArrayList<>();
+    private final List<IrInstruction> instructions = new ArrayList<>();
+    // JUMP, BRANCH or RETURN; null while the block is being built
+    private IrInstruction terminator;
+    // Phi operands are in the same order as the predecessors
+    private final List<IrBlock> predecessors = new ArrayList<>();
+
+    IrBlock(int id) {
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public List<IrInstruction> getPhis() {
+        return phis;
+    }
+
+    public List<IrInstruction> getInstructions() {
+        return instructions;
+    }
+
+    public IrInstruction getTerminator() {
+        return terminator;
+    }
+
+    public void setTerminator(IrInstruction terminator) {
+        this.terminator = terminator;
+        terminator.setBlock(this);
+        for (IrBlock target : terminator.getTargets()) {
+            target.predecessors.add(this);
+        }
+    }
+
+    public List<IrBlock> getPredecessors() {
+        return predecessors;
+    }
+
+    public List<IrBlock> getSuccessors() {
+        return terminator != null ? terminator.getTargets() : Collections.emptyList();
+    }
+
+    public void add(IrInstruction instruction) {
+        instruction.setBlock(this);
+        if (instruction.getOp() == IrInstruction.Op.PHI) {
+            phis.add(instruction);
+        } else {
+            instructions.add(instruction);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("b" + id + ":");
+        if (!predecessors.isEmpty()) {
+            text.append(" ; from");
+            for (IrBlock predecessor : predecessors) {
+                text.append(" b").append(predecessor.getId());
+            }
+        }
+        text.append("\n");
+        for (IrInstruction phi : phis) {
+            text.append("  ").append(phi).append("\n");
+        }
+        for (IrInstruction instruction : instructions) {
+            text.append("  ").append(instruction).append("\n");
+        }
+        if (terminator != null) {
+            text.append("  ").append(terminator).append("\n");
+        }
+        return text.toString();
+    }
+}
+
+class IrInstruction {
+    enum Op {
+        PARAM,          // index-th parameter of the routine
+        CONST,          // constant: Integer, Double, Boolean or String
+        BINARY,         // operator applied to two operands
+        UNARY,          // NOT or - applied to one operand
+        CALL,           // call of a routine of the program with the operands as arguments
+        PHI,            // value of the operand for the predecessor control came from
+        LOAD_ELEMENT,   // array[index]
+        STORE_ELEMENT,  // array[index] := value
+        LOAD_FIELD,     // record.field
+        STORE_FIELD,    // record.field := value
+        PRINT,          // print value
+        CHECK,          // fail with the message in the name unless the operand is true
+        JUMP,           // go to the target
+        BRANCH,         // go to the first target if the operand is true, else to the second one
+        RETURN          // return the operand, if any
+    }
+
+    private final int id;
+    private final Op op;
+    // Type of the value; null when the instruction has none
+    private final TypeNode type;
+    private final List<IrInstruction> operands = new ArrayList<>();
+    private final List<IrBlock> targets = new ArrayList<>();
+    private IrBlock block;
+
+    // Constant value, operator, callee or field name, and parameter index, depending on the op
+    private Object constant;
+    private String name;
+    private int index;
+    private RecordTypeNode recordType;
+    // An integer / or mod whose divisor range analysis proved non-zero
+    private boolean divisorNonZero;
+
+    IrInstruction(IrFunction function, Op op, TypeNode type, IrInstruction... operands) {
+        this.id = function.nextValueId();
+        this.op = op;
+        this.type = type;
+        this.operands.addAll(Arrays.asList(operands));
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Op getOp() {
+        return op;
+    }
+
+    public TypeNode getType() {
+        return type;
+    }
+
+    public List<IrInstruction> getOperands() {
+        return operands;
+    }
+
+    public IrInstruction getOperand(int i) {
+        return operands.get(i);
+    }
+
+    public List<IrBlock> getTargets() {
+        return targets;
+    }
+
+    public IrBlock getBlock() {
+        return block;
+    }
+
+    void setBlock(IrBlock block) {
+        this.block = block;
+    }
+
+    public Object getConstant() {
+        return constant;
+    }
+
+    public void setConstant(Object constant) {
+        this.constant = constant;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public RecordTypeNode getRecordType() {
+        return recordType;
+    }
+
+    public void setRecordType(RecordTypeNode recordType) {
+        this.recordType = recordType;
+    }
+
+    public boolean isDivisorNonZero() {
+        return divisorNonZero;
+    }
+
+    public void setDivisorNonZero(boolean divisorNonZero) {
+        this.divisorNonZero = divisorNonZero;
+    }
+
+    public boolean isTerminator() {
+        return op == Op.JUMP || op == Op.BRANCH || op == Op.RETURN;
+    }
+
+    // Whether the instruction only computes its value: it has no side effects, reads no memory and cannot fail
+    public boolean isPure() {
+        switch (op) {
+            case CONST:
+            case UNARY:
+            case PHI:
+            case PARAM:
+                return true;
+            case BINARY:
+                return !isIntegerDivision() || divisorNonZero || isNonZeroConstant(operands.get(1));
+            default:
+                return false;
+        }
+    }
+
+    public boolean isIntegerDivision() {
+        return op == Op.BINARY && (name.equals("/") || name.equals("mod")) && !(type instanceof RealTypeNode);
+    }
+
+    private static boolean isNonZeroConstant(IrInstruction value) {
+        return value.op == Op.CONST && value.constant instanceof Integer && (Integer) value.constant != 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (type != null) {
+            text.append("v").append(id).append(" = ");
+        }
+        text.append(op.name().toLowerCase());
+        if (op == Op.CONST) {
+            text.append(" ").append(constant instanceof String ? "\"" + constant + "\"" : constant);
+        } else if (op == Op.PARAM) {
+            text.append(" ").append(index).append(" ").append(name);
+        } else if (name != null) {
+            text.append(" ").append(name);
+        }
+        for (IrInstruction operand : operands) {
+            text.append(" v").append(operand.getId());
+        }
+        for (IrBlock target : targets) {
+            text.append(" b").append(target.getId());
+        }
+        return text.toString();
+    }
+}
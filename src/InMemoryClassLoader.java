@@ -0,0 +1,41 @@
+import java.util.*;
+
+/*
+ * Defines generated classes directly from their bytecode, without touching the filesystem.
+ * Generated class names are defined from memory before the parent is asked, so a class file of the
+ * same name left on the classpath by an earlier compilation is never picked up instead.
+ */
+public class InMemoryClassLoader extends ClassLoader {
+    private Map<String, byte[]> classes;
+
+    public InMemoryClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+        super(parent);
+        this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!classes.containsKey(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                loaded = findClass(name);
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytecode = classes.get(name);
+        if (bytecode == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytecode, 0, bytecode.length);
+    }
+}
@@ -0,0 +1,808 @@
+import java.util.*;
+import java.util.function.Function;
+
+/*
+ * Lowers a routine from the tree into SSA form. Variables become values as the body is walked:
+ * an assignment defines a new value, and a read finds the value that reaches it, adding phis
+ * where definitions from several predecessors meet. Loop headers are completed once their body
+ * has been lowered, so a variable read in a loop before it is assigned there gets a phi whose
+ * operands are filled in afterwards; phis that turn out to choose between a single value are
+ * removed again (Braun et al., "Simple and Efficient Construction of SSA Form").
+ *
+ * Conditions of ifs and loops become branches, with AND, OR and NOT turned into control flow.
+ * Parameters, iterators, temporaries and saved values may hold integers, reals, booleans, arrays
+ * of scalars and records. Routines that use anything else, such as nested arrays or strings other
+ * than printed literals, are not lowered and are compiled from the tree instead.
+ */
+public class IrBuilder {
+
+    // Thrown for a construct the SSA form does not cover
+    static class UnsupportedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    // Routines of the program by name, for the signatures of calls
+    private Function<String, FunctionNode> functions;
+
+    private IrFunction function;
+    // Block instructions are added to; null after a return, where nothing runs
+    private IrBlock current;
+
+    // Value of each variable at the end of each block that defines it
+    private Map<IrBlock, Map<String, IrInstruction>> definitions;
+    // Blocks whose predecessors are all known, and the phis of the others that still need operands
+    private Set<IrBlock> sealed;
+    private Map<IrBlock, Map<String, IrInstruction>> incompletePhis;
+    // Phis whose operands are being added; they are checked for being trivial once they are complete
+    private Set<IrInstruction> filling;
+    // Instructions using each value, and the value each removed phi turned out to be
+    private Map<IrInstruction, List<IrInstruction>> users;
+    private Map<IrInstruction, IrInstruction> replaced;
+    // Type of every variable, by its name in the SSA form
+    private Map<String, TypeNode> variableTypes;
+    // Name in the SSA form of each variable of the source; loop iterators hide variables of the same name
+    private Map<String, String> scope;
+    private int iteratorCount;
+
+    // Returns the SSA form of a routine, or null if it uses something the form does not cover
+    public IrFunction lower(FunctionNode node, Function<String, FunctionNode> functions) {
+        this.functions = functions;
+        function = new IrFunction(node);
+        definitions = new HashMap<>();
+        sealed = new HashSet<>();
+        incompletePhis = new HashMap<>();
+        filling = new HashSet<>();
+        users = new HashMap<>();
+        replaced = new HashMap<>();
+        variableTypes = new HashMap<>();
+        scope = new HashMap<>();
+        iteratorCount = 0;
+        try {
+            if (node.getReturnType() != null && !isValueType(node.getReturnType())) {
+                throw new UnsupportedException();
+            }
+            current = function.newBlock();
+            seal(current);
+            List<DeclarationNode> parameters = node.getParameters() != null ? node.getParameters() : Collections.emptyList();
+            for (int i = 0; i < parameters.size(); i++) {
+                DeclarationNode parameter = parameters.get(i);
+                TypeNode type = parameter.getType();
+                if (!isValueType(type)) {
+                    throw new UnsupportedException();
+                }
+                IrInstruction value = new IrInstruction(function, IrInstruction.Op.PARAM, type);
+                value.setIndex(i);
+                value.setName(parameter.getIdentifier());
+                current.add(value);
+                variableTypes.put(parameter.getIdentifier(), type);
+                writeVariable(parameter.getIdentifier(), current, value);
+            }
+            lowerStatement(node.getBody());
+            if (current != null) {
+                // Falling off the end returns the default value, as the tree-based code does
+                IrInstruction returnNode = new IrInstruction(function, IrInstruction.Op.RETURN, null);
+                if (node.getReturnType() != null) {
+                    returnNode.getOperands().add(constant(defaultValue(node.getReturnType()), node.getReturnType()));
+                }
+                terminate(returnNode);
+            }
+            return function;
+        } catch (UnsupportedException e) {
+            return null;
+        }
+    }
+
+    /* Statements */
+
+    private void lowerStatement(StatementNode node) {
+        if (current == null || node == null || node instanceof EmptyNode) {
+            return;
+        }
+        if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                lowerStatement(stmt);
+            }
+        } else if (node instanceof AssignmentNode) {
+            lowerAssignment((AssignmentNode) node);
+        } else if (node instanceof ReturnNode) {
+            ReturnNode returnNode = (ReturnNode) node;
+            IrInstruction instruction = new IrInstruction(function, IrInstruction.Op.RETURN, null);
+            TypeNode returnType = function.getReturnType();
+            if (returnNode.getExpr() != null) {
+                IrInstruction value = lowerExpression(returnNode.getExpr());
+                if (returnType == null || !sameType(returnType, value.getType())) {
+                    throw new UnsupportedException();
+                }
+                instruction.getOperands().add(value);
+            } else if (returnType != null) {
+                throw new UnsupportedException();
+            }
+            terminate(instruction);
+            current = null;
+        } else if (node instanceof PrintNode) {
+            IrInstruction value = lowerExpression(((PrintNode) node).getExpression());
+            TypeNode type = value.getType();
+            if (!(isScalar(type) || type instanceof StringTypeNode)) {
+                throw new UnsupportedException();
+            }
+            add(new IrInstruction(function, IrInstruction.Op.PRINT, null, value));
+        } else if (node instanceof TemporaryNode) {
+            TemporaryNode temporary = (TemporaryNode) node;
+            IrInstruction value = lowerExpression(temporary.getExpression());
+            variableTypes.put(temporary.getName(), value.getType());
+            writeVariable(temporary.getName(), current, value);
+        } else if (node instanceof IfElseNode) {
+            lowerIfElse((IfElseNode) node);
+        } else if (node instanceof WhileLoopNode) {
+            lowerWhileLoop((WhileLoopNode) node);
+        } else if (node instanceof ForLoopNode) {
+            lowerForLoop((ForLoopNode) node);
+        } else {
+            throw new UnsupportedException();
+        }
+    }
+
+    private void lowerAssignment(AssignmentNode node) {
+        ExpressionNode target = node.getVariable();
+        if (target instanceof IdentifierNode) {
+            String name = variableName(((IdentifierNode) target).getName());
+            TypeNode type = variableTypes.get(name);
+            IrInstruction value = lowerExpression(node.getExpression());
+            if (type == null || !sameType(type, value.getType())) {
+                throw new UnsupportedException();
+            }
+            writeVariable(name, current, value);
+        } else if (target instanceof ArrayAccessNode) {
+            // The array and index are evaluated before the value, as in the tree-based code
+            ArrayAccessNode access = (ArrayAccessNode) target;
+            IrInstruction array = lowerExpression(access.getArray());
+            TypeNode elementType = elementType(array.getType());
+            IrInstruction index = lowerExpression(access.getIndex());
+            IrInstruction value = lowerExpression(node.getExpression());
+            if (!(index.getType() instanceof IntegerTypeNode) || !sameType(elementType, value.getType())) {
+                throw new UnsupportedException();
+            }
+            add(new IrInstruction(function, IrInstruction.Op.STORE_ELEMENT, null, array, index, value));
+        } else if (target instanceof FieldAccessNode) {
+            FieldAccessNode access = (FieldAccessNode) target;
+            IrInstruction record = lowerExpression(access.getRecord());
+            RecordField field = field(record.getType(), access.getFieldName());
+            IrInstruction value = lowerExpression(node.getExpression());
+            if (!sameType(field.getType(), value.getType())) {
+                throw new UnsupportedException();
+            }
+            IrInstruction store = new IrInstruction(function, IrInstruction.Op.STORE_FIELD, null, record, value);
+            store.setName(field.getName());
+            store.setRecordType((RecordTypeNode) record.getType());
+            add(store);
+        } else {
+            throw new UnsupportedException();
+        }
+    }
+
+    private void lowerIfElse(IfElseNode node) {
+        IrBlock thenBlock = function.newBlock();
+        IrBlock elseBlock = function.newBlock();
+        lowerCondition(node.getCondition(), thenBlock, elseBlock);
+        seal(thenBlock);
+        seal(elseBlock);
+
+        current = thenBlock;
+        lowerStatement(node.getThenStmt());
+        IrBlock thenEnd = current;
+        current = elseBlock;
+        lowerStatement(node.getElseStmt());
+        IrBlock elseEnd = current;
+
+        if (thenEnd == null && elseEnd == null) {
+            current = null;
+            return;
+        }
+        IrBlock join = function.newBlock();
+        if (thenEnd != null) {
+            jump(thenEnd, join);
+        }
+        if (elseEnd != null) {
+            jump(elseEnd, join);
+        }
+        seal(join);
+        current = join;
+    }
+
+    // The condition is laid out after the body, so each iteration takes a single conditional back-edge
+    private void lowerWhileLoop(WhileLoopNode node) {
+        IrBlock header = function.newBlock();
+        jump(current, header);
+        int conditionStart = function.getBlocks().size() - 1;
+        IrBlock body = function.newBlock();
+        IrBlock exit = function.newBlock();
+        current = header;
+        lowerCondition(node.getCondition(), body, exit);
+        seal(body);
+        seal(exit);
+        List<IrBlock> condition = new ArrayList<>(function.getBlocks().subList(conditionStart, function.getBlocks().size()));
+        condition.remove(body);
+        condition.remove(exit);
+
+        current = body;
+        lowerStatement(node.getBody());
+        if (current != null) {
+            jump(current, header);
+        }
+        seal(header);
+        layOutAfterBody(condition, exit);
+        current = exit;
+    }
+
+    // Counted loop over an int iterator: the range is evaluated once, start before end, then the
+    // step; the body is entered through a test at the top and repeated through one at the bottom
+    private void lowerForLoop(ForLoopNode node) {
+        IrInstruction start = lowerExpression(node.getStart());
+        IrInstruction end = lowerExpression(node.getEnd());
+        IrInstruction step = node.getStep() != null ? lowerExpression(node.getStep()) : constant(1, IntegerTypeNode.INSTANCE);
+        if (!(start.getType() instanceof IntegerTypeNode) || !(end.getType() instanceof IntegerTypeNode)
+                || !(step.getType() instanceof IntegerTypeNode)) {
+            throw new UnsupportedException();
+        }
+        IrInstruction first = node.isReverse() ? end : start;
+        IrInstruction bound = node.isReverse() ? start : end;
+
+        String sourceName = node.getIterator().getName();
+        String iterator = sourceName + "#" + (iteratorCount++);
+        variableTypes.put(iterator, IntegerTypeNode.INSTANCE);
+        writeVariable(iterator, current, first);
+        String outerName = scope.put(sourceName, iterator);
+
+        // The loop goes on while another step stays within the bound. Tested on the advanced
+        // iterator, so that the old one is dead by then, but without comparing the advanced one
+        // with the bound, since it may have wrapped around past the int limits. A unit step goes
+        // on until the iterator passes the bound by one, which is wrapped the same way. Otherwise
+        // the distance left to the bound, less the step, must not have gone below zero: as an
+        // unsigned value it is then at most ~step, compared signed with the sign bits flipped.
+        boolean unitStep = step.getOp() == IrInstruction.Op.CONST && step.getConstant().equals(1);
+        String direction = node.isReverse() ? "-" : "+";
+        IrInstruction limit;
+        IrInstruction signBit = null;
+        if (unitStep) {
+            limit = bound.getOp() == IrInstruction.Op.CONST
+                    ? constant((Integer) bound.getConstant() + (node.isReverse() ? -1 : 1), IntegerTypeNode.INSTANCE)
+                    : binary(direction, IntegerTypeNode.INSTANCE, bound, step);
+        } else {
+            signBit = constant(Integer.MIN_VALUE, IntegerTypeNode.INSTANCE);
+            limit = step.getOp() == IrInstruction.Op.CONST
+                    ? constant((Integer) step.getConstant() ^ Integer.MAX_VALUE, IntegerTypeNode.INSTANCE)
+                    : binary("XOR", IntegerTypeNode.INSTANCE, step, constant(Integer.MAX_VALUE, IntegerTypeNode.INSTANCE));
+        }
+
+        // A step that is not a positive constant is checked once the range is known not to be empty
+        boolean positiveStep = step.getOp() == IrInstruction.Op.CONST && (Integer) step.getConstant() > 0;
+        IrBlock check = positiveStep ? null : function.newBlock();
+        IrBlock body = function.newBlock();
+        IrBlock exit = function.newBlock();
+        branch(binary(node.isReverse() ? ">=" : "<=", BooleanTypeNode.INSTANCE, first, bound),
+                positiveStep ? body : check, exit);
+        if (!positiveStep) {
+            seal(check);
+            current = check;
+            IrInstruction stepCheck = new IrInstruction(function, IrInstruction.Op.CHECK, null,
+                    binary(">", BooleanTypeNode.INSTANCE, step, constant(0, IntegerTypeNode.INSTANCE)));
+            stepCheck.setName(CodeGenerator.FOR_LOOP_STEP_ERROR);
+            add(stepCheck);
+            jump(check, body);
+        }
+
+        current = body;
+        lowerStatement(node.getBody());
+        if (current != null) {
+            IrInstruction next = binary(direction, IntegerTypeNode.INSTANCE, readVariable(iterator, current), step);
+            writeVariable(iterator, current, next);
+            IrInstruction more;
+            if (unitStep) {
+                more = binary("/=", BooleanTypeNode.INSTANCE, next, limit);
+            } else {
+                IrInstruction distance = node.isReverse() ? binary("-", IntegerTypeNode.INSTANCE, next, bound)
+                        : binary("-", IntegerTypeNode.INSTANCE, bound, next);
+                more = binary("<=", BooleanTypeNode.INSTANCE, binary("XOR", IntegerTypeNode.INSTANCE, distance, signBit),
+                        limit);
+            }
+            branch(more, body, exit);
+        }
+        seal(body);
+        seal(exit);
+        moveToEnd(exit);
+
+        if (outerName != null) {
+            scope.put(sourceName, outerName);
+        } else {
+            scope.remove(sourceName);
+        }
+        current = exit;
+    }
+
+    // Moves the blocks that test a loop condition after its body, followed by the block after the loop
+    private void layOutAfterBody(List<IrBlock> condition, IrBlock exit) {
+        for (IrBlock block : condition) {
+            moveToEnd(block);
+        }
+        moveToEnd(exit);
+    }
+
+    // Blocks are moved just after their successors have been added, so they are found from the end
+    private void moveToEnd(IrBlock block) {
+        List<IrBlock> blocks = function.getBlocks();
+        blocks.remove(blocks.lastIndexOf(block));
+        blocks.add(block);
+    }
+
+    /* Conditions */
+
+    // Ends the current block with jumps to ifTrue when condition holds and to ifFalse otherwise
+    private void lowerCondition(ExpressionNode condition, IrBlock ifTrue, IrBlock ifFalse) {
+        if (condition instanceof BooleanNode) {
+            jump(current, ((BooleanNode) condition).isValue() ? ifTrue : ifFalse);
+        } else if (condition instanceof UnaryOpNode && ((UnaryOpNode) condition).getOperator().equals("NOT")) {
+            lowerCondition(((UnaryOpNode) condition).getExpr(), ifFalse, ifTrue);
+        } else if (condition instanceof BinaryOpNode && isLogical(((BinaryOpNode) condition).getOperator())) {
+            BinaryOpNode binOp = (BinaryOpNode) condition;
+            // The right operand is only tested when the left one does not decide the result
+            IrBlock right = function.newBlock();
+            if (binOp.getOperator().equals("AND")) {
+                lowerCondition(binOp.getLeft(), right, ifFalse);
+            } else {
+                lowerCondition(binOp.getLeft(), ifTrue, right);
+            }
+            seal(right);
+            current = right;
+            lowerCondition(binOp.getRight(), ifTrue, ifFalse);
+        } else {
+            IrInstruction value = lowerExpression(condition);
+            if (!(value.getType() instanceof BooleanTypeNode || value.getType() instanceof IntegerTypeNode)) {
+                throw new UnsupportedException();
+            }
+            branch(value, ifTrue, ifFalse);
+        }
+    }
+
+    /* Expressions */
+
+    private IrInstruction lowerExpression(ExpressionNode node) {
+        if (node instanceof NumberNode) {
+            return constant(((NumberNode) node).getValue(), IntegerTypeNode.INSTANCE);
+        } else if (node instanceof RealNode) {
+            return constant(((RealNode) node).getValue(), RealTypeNode.INSTANCE);
+        } else if (node instanceof BooleanNode) {
+            return constant(((BooleanNode) node).isValue(), BooleanTypeNode.INSTANCE);
+        } else if (node instanceof StringNode) {
+            return constant(((StringNode) node).getValue(), StringTypeNode.INSTANCE);
+        } else if (node instanceof IdentifierNode) {
+            String name = variableName(((IdentifierNode) node).getName());
+            if (!variableTypes.containsKey(name)) {
+                throw new UnsupportedException();
+            }
+            return readVariable(name, current);
+        } else if (node instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) node;
+            if (isLogical(binOp.getOperator())) {
+                return lowerShortCircuit(binOp);
+            }
+            IrInstruction left = lowerExpression(binOp.getLeft());
+            IrInstruction right = lowerExpression(binOp.getRight());
+            TypeNode type = left.getType();
+            if (!isScalar(type) || !sameType(type, right.getType())
+                    || (type instanceof RealTypeNode && (binOp.getOperator().equals("mod") || binOp.getOperator().equals("XOR")))) {
+                throw new UnsupportedException();
+            }
+            IrInstruction instruction = new IrInstruction(function, IrInstruction.Op.BINARY,
+                    isComparison(binOp.getOperator()) ? BooleanTypeNode.INSTANCE : type, left, right);
+            instruction.setName(binOp.getOperator());
+            instruction.setDivisorNonZero(binOp.isDivisorNonZero());
+            return add(instruction);
+        } else if (node instanceof UnaryOpNode) {
+            UnaryOpNode unOp = (UnaryOpNode) node;
+            IrInstruction operand = lowerExpression(unOp.getExpr());
+            boolean isNot = unOp.getOperator().equals("NOT");
+            if (isNot ? !(operand.getType() instanceof BooleanTypeNode || operand.getType() instanceof IntegerTypeNode)
+                    : !(operand.getType() instanceof IntegerTypeNode || operand.getType() instanceof RealTypeNode)) {
+                throw new UnsupportedException();
+            }
+            IrInstruction instruction = new IrInstruction(function, IrInstruction.Op.UNARY, operand.getType(), operand);
+            instruction.setName(unOp.getOperator());
+            return add(instruction);
+        } else if (node instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) node;
+            FunctionNode callee = functions.apply(call.getFunctionName());
+            if (callee == null || callee.getReturnType() == null) {
+                throw new UnsupportedException();
+            }
+            List<ExpressionNode> arguments = call.getArguments() != null ? call.getArguments() : Collections.emptyList();
+            List<DeclarationNode> parameters = callee.getParameters() != null ? callee.getParameters() : Collections.emptyList();
+            if (arguments.size() != parameters.size()) {
+                throw new UnsupportedException();
+            }
+            IrInstruction instruction = new IrInstruction(function, IrInstruction.Op.CALL, callee.getReturnType());
+            instruction.setName(call.getFunctionName());
+            for (int i = 0; i < arguments.size(); i++) {
+                IrInstruction argument = lowerExpression(arguments.get(i));
+                if (!sameType(parameters.get(i).getType(), argument.getType())) {
+                    throw new UnsupportedException();
+                }
+                instruction.getOperands().add(argument);
+            }
+            return add(instruction);
+        } else if (node instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) node;
+            IrInstruction array = lowerExpression(access.getArray());
+            TypeNode elementType = elementType(array.getType());
+            IrInstruction index = lowerExpression(access.getIndex());
+            if (!(index.getType() instanceof IntegerTypeNode)) {
+                throw new UnsupportedException();
+            }
+            return add(new IrInstruction(function, IrInstruction.Op.LOAD_ELEMENT, elementType, array, index));
+        } else if (node instanceof FieldAccessNode) {
+            FieldAccessNode access = (FieldAccessNode) node;
+            IrInstruction record = lowerExpression(access.getRecord());
+            RecordField field = field(record.getType(), access.getFieldName());
+            IrInstruction instruction = new IrInstruction(function, IrInstruction.Op.LOAD_FIELD, field.getType(), record);
+            instruction.setName(field.getName());
+            instruction.setRecordType((RecordTypeNode) record.getType());
+            return add(instruction);
+        } else if (node instanceof SavedValueNode) {
+            // The saved value is simply the value; later reads of its name find it like any variable
+            SavedValueNode saved = (SavedValueNode) node;
+            IrInstruction value = lowerExpression(saved.getExpression());
+            variableTypes.put(saved.getName(), value.getType());
+            writeVariable(saved.getName(), current, value);
+            return value;
+        }
+        throw new UnsupportedException();
+    }
+
+    // AND and OR as values: the right operand is only evaluated when the left one does not decide the result
+    private IrInstruction lowerShortCircuit(BinaryOpNode node) {
+        boolean isAnd = node.getOperator().equals("AND");
+        IrInstruction left = lowerExpression(node.getLeft());
+        if (!(left.getType() instanceof BooleanTypeNode)) {
+            throw new UnsupportedException();
+        }
+        IrInstruction decided = constant(!isAnd, BooleanTypeNode.INSTANCE);
+        IrBlock decidedEnd = current;
+        IrBlock right = function.newBlock();
+        IrBlock join = function.newBlock();
+        if (isAnd) {
+            branch(left, right, join);
+        } else {
+            branch(left, join, right);
+        }
+        seal(right);
+        current = right;
+        IrInstruction rightValue = lowerExpression(node.getRight());
+        if (!(rightValue.getType() instanceof BooleanTypeNode)) {
+            throw new UnsupportedException();
+        }
+        IrBlock rightEnd = current;
+        jump(rightEnd, join);
+        seal(join);
+        // Keep the join after the blocks of the right operand, so that they fall through to it
+        moveToEnd(join);
+        current = join;
+
+        IrInstruction phi = new IrInstruction(function, IrInstruction.Op.PHI, BooleanTypeNode.INSTANCE);
+        for (IrBlock predecessor : join.getPredecessors()) {
+            phi.getOperands().add(predecessor == decidedEnd ? decided : rightValue);
+        }
+        use(phi);
+        join.add(phi);
+        return phi;
+    }
+
+    /* SSA Construction */
+
+    private void writeVariable(String name, IrBlock block, IrInstruction value) {
+        definitions.computeIfAbsent(block, b -> new HashMap<>()).put(name, value);
+    }
+
+    // Reads that reach a merge recurse into its predecessors in the algorithm; here the phis being
+    // filled are kept on an explicit stack, so that long routines cannot run out of thread stack.
+    // Every read it leads to is of the same variable
+    private IrInstruction readVariable(String name, IrBlock block) {
+        Deque<PhiLookup> lookups = new ArrayDeque<>();
+        IrInstruction value = lookUp(name, block, lookups);
+        return lookups.isEmpty() ? value : fillPhis(name, lookups);
+    }
+
+    // A phi getting its operands, the next predecessor to read them from, and the blocks whose
+    // value it is once it is complete; null for a phi completed when its block is sealed
+    private static class PhiLookup {
+        final IrInstruction phi;
+        final List<IrBlock> blocks;
+        int next = 0;
+
+        PhiLookup(IrInstruction phi, List<IrBlock> blocks) {
+            this.phi = phi;
+            this.blocks = blocks;
+        }
+    }
+
+    // The value of the variable at the end of the block if it is known without reading another
+    // merge; otherwise pushes a phi for the merge and returns null
+    private IrInstruction lookUp(String name, IrBlock block, Deque<PhiLookup> lookups) {
+        Map<String, IrInstruction> local = definitions.get(block);
+        if (local != null && local.containsKey(name)) {
+            return resolve(local.get(name));
+        }
+        // Straight-line code leads back to a single block
+        List<IrBlock> blocks = new ArrayList<>();
+        blocks.add(block);
+        while (sealed.contains(block) && block.getPredecessors().size() == 1) {
+            block = block.getPredecessors().get(0);
+            local = definitions.get(block);
+            if (local != null && local.containsKey(name)) {
+                return define(name, blocks, resolve(local.get(name)));
+            }
+            blocks.add(block);
+        }
+        if (!sealed.contains(block)) {
+            // Not all predecessors are known yet; the operands are added when the block is sealed
+            IrInstruction phi = newPhi(name, block);
+            incompletePhis.computeIfAbsent(block, b -> new LinkedHashMap<>()).put(name, phi);
+            return define(name, blocks, phi);
+        } else if (block.getPredecessors().isEmpty()) {
+            if (block == function.getEntry()) {
+                // Read before any assignment
+                throw new UnsupportedException();
+            }
+            // Code that cannot be reached; any value will do
+            IrInstruction value = new IrInstruction(function, IrInstruction.Op.CONST, variableTypes.get(name));
+            value.setConstant(defaultValue(variableTypes.get(name)));
+            block.add(value);
+            return define(name, blocks, value);
+        }
+        // Break cycles through loops with an operandless phi first
+        IrInstruction phi = newPhi(name, block);
+        writeVariable(name, block, phi);
+        filling.add(phi);
+        lookups.push(new PhiLookup(phi, blocks));
+        return null;
+    }
+
+    // Reads the operands of the phis on the stack, the last pushed first, and returns the value of the first
+    private IrInstruction fillPhis(String name, Deque<PhiLookup> lookups) {
+        IrInstruction value = null;
+        while (true) {
+            PhiLookup lookup = lookups.peek();
+            IrInstruction phi = lookup.phi;
+            if (value != null) {
+                phi.getOperands().add(value);
+                users.computeIfAbsent(value, v -> new ArrayList<>()).add(phi);
+                lookup.next++;
+            }
+            List<IrBlock> predecessors = phi.getBlock().getPredecessors();
+            if (lookup.next < predecessors.size()) {
+                value = lookUp(name, predecessors.get(lookup.next), lookups);
+                continue;
+            }
+            lookups.pop();
+            filling.remove(phi);
+            value = removeTrivialPhi(phi);
+            if (lookup.blocks != null) {
+                define(name, lookup.blocks, value);
+            }
+            if (lookups.isEmpty()) {
+                return value;
+            }
+        }
+    }
+
+    private IrInstruction define(String name, List<IrBlock> blocks, IrInstruction value) {
+        for (IrBlock block : blocks) {
+            writeVariable(name, block, value);
+        }
+        return value;
+    }
+
+    private IrInstruction newPhi(String name, IrBlock block) {
+        IrInstruction phi = new IrInstruction(function, IrInstruction.Op.PHI, variableTypes.get(name));
+        phi.setName(name);
+        block.add(phi);
+        return phi;
+    }
+
+    private void addPhiOperands(String name, IrInstruction phi) {
+        Deque<PhiLookup> lookups = new ArrayDeque<>();
+        filling.add(phi);
+        lookups.push(new PhiLookup(phi, null));
+        fillPhis(name, lookups);
+    }
+
+    // A phi whose operands are all one value, or itself, is that value. Phis using it may become
+    // trivial in turn; they are checked from a worklist
+    private IrInstruction removeTrivialPhi(IrInstruction phi) {
+        IrInstruction value = trivialValue(phi);
+        if (value == phi) {
+            return phi;
+        }
+        Deque<IrInstruction> worklist = new ArrayDeque<>();
+        replacePhi(phi, value, worklist);
+        while (!worklist.isEmpty()) {
+            IrInstruction user = worklist.pop();
+            if (filling.contains(user) || replaced.containsKey(user)) {
+                continue;
+            }
+            IrInstruction same = trivialValue(user);
+            if (same != user) {
+                replacePhi(user, same, worklist);
+            }
+        }
+        return resolve(value);
+    }
+
+    // The one value the phi stands for, or the phi itself if its operands differ
+    private IrInstruction trivialValue(IrInstruction phi) {
+        IrInstruction same = null;
+        for (IrInstruction operand : phi.getOperands()) {
+            if (operand == same || operand == phi) {
+                continue;
+            }
+            if (same != null) {
+                return phi;
+            }
+            same = operand;
+        }
+        if (same == null) {
+            // Only reachable from itself
+            throw new UnsupportedException();
+        }
+        return same;
+    }
+
+    private void replacePhi(IrInstruction phi, IrInstruction value, Deque<IrInstruction> worklist) {
+        phi.getBlock().getPhis().remove(phi);
+        replaced.put(phi, value);
+        List<IrInstruction> phiUsers = users.remove(phi);
+        if (phiUsers == null) {
+            return;
+        }
+        for (IrInstruction user : phiUsers) {
+            user.getOperands().replaceAll(operand -> operand == phi ? value : operand);
+            users.computeIfAbsent(value, v -> new ArrayList<>()).add(user);
+        }
+        for (IrInstruction user : phiUsers) {
+            if (user.getOp() == IrInstruction.Op.PHI && user != phi) {
+                worklist.push(user);
+            }
+        }
+    }
+
+    // The value a removed phi stands for, following the phis removed after it
+    private IrInstruction resolve(IrInstruction value) {
+        while (replaced.containsKey(value)) {
+            value = replaced.get(value);
+        }
+        return value;
+    }
+
+    // Records the instruction as a user of its operands, which are brought up to date first
+    private void use(IrInstruction user) {
+        user.getOperands().replaceAll(this::resolve);
+        for (IrInstruction operand : user.getOperands()) {
+            users.computeIfAbsent(operand, v -> new ArrayList<>()).add(user);
+        }
+    }
+
+    private void seal(IrBlock block) {
+        Map<String, IrInstruction> phis = incompletePhis.remove(block);
+        sealed.add(block);
+        if (phis != null) {
+            for (Map.Entry<String, IrInstruction> entry : phis.entrySet()) {
+                addPhiOperands(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /* Helpers */
+
+    private IrInstruction add(IrInstruction instruction) {
+        use(instruction);
+        current.add(instruction);
+        return instruction;
+    }
+
+    private void terminate(IrInstruction terminator) {
+        use(terminator);
+        current.setTerminator(terminator);
+    }
+
+    private IrInstruction binary(String operator, TypeNode type, IrInstruction left, IrInstruction right) {
+        IrInstruction instruction = new IrInstruction(function, IrInstruction.Op.BINARY, type, left, right);
+        instruction.setName(operator);
+        return add(instruction);
+    }
+
+    private IrInstruction constant(Object value, TypeNode type) {
+        IrInstruction instruction = new IrInstruction(function, IrInstruction.Op.CONST, type);
+        instruction.setConstant(value);
+        return add(instruction);
+    }
+
+    private void jump(IrBlock from, IrBlock to) {
+        IrInstruction jump = new IrInstruction(function, IrInstruction.Op.JUMP, null);
+        jump.getTargets().add(to);
+        from.setTerminator(jump);
+    }
+
+    private void branch(IrInstruction condition, IrBlock ifTrue, IrBlock ifFalse) {
+        IrInstruction branch = new IrInstruction(function, IrInstruction.Op.BRANCH, null, condition);
+        branch.getTargets().add(ifTrue);
+        branch.getTargets().add(ifFalse);
+        terminate(branch);
+    }
+
+    private String variableName(String name) {
+        return scope.getOrDefault(name, name);
+    }
+
+    private Object defaultValue(TypeNode type) {
+        if (type instanceof IntegerTypeNode) {
+            return 0;
+        } else if (type instanceof RealTypeNode) {
+            return 0.0;
+        } else if (type instanceof BooleanTypeNode) {
+            return false;
+        }
+        return null;
+    }
+
+    private TypeNode elementType(TypeNode arrayType) {
+        if (!(arrayType instanceof ArrayTypeNode) || !isScalar(((ArrayTypeNode) arrayType).getElementType())) {
+            throw new UnsupportedException();
+        }
+        return ((ArrayTypeNode) arrayType).getElementType();
+    }
+
+    private RecordField field(TypeNode recordType, String name) {
+        if (!(recordType instanceof RecordTypeNode)) {
+            throw new UnsupportedException();
+        }
+        RecordField field = ((RecordTypeNode) recordType).getField(name);
+        if (field == null || !isValueType(field.getType())) {
+            throw new UnsupportedException();
+        }
+        return field;
+    }
+
+    private static boolean isScalar(TypeNode type) {
+        return type instanceof IntegerTypeNode || type instanceof RealTypeNode || type instanceof BooleanTypeNode;
+    }
+
+    // Types the SSA form keeps in values: scalars, arrays of scalars and records
+    private static boolean isValueType(TypeNode type) {
+        return isScalar(type) || type instanceof RecordTypeNode
+                || (type instanceof ArrayTypeNode && isScalar(((ArrayTypeNode) type).getElementType()));
+    }
+
+    // Integer and boolean values share one representation, as in the tree-based code
+    private static boolean sameType(TypeNode expected, TypeNode actual) {
+        if (expected instanceof IntegerTypeNode || expected instanceof BooleanTypeNode) {
+            return actual instanceof IntegerTypeNode || actual instanceof BooleanTypeNode;
+        } else if (expected instanceof RealTypeNode) {
+            return actual instanceof RealTypeNode;
+        } else if (expected instanceof ArrayTypeNode) {
+            return actual instanceof ArrayTypeNode
+                    && sameType(((ArrayTypeNode) expected).getElementType(), ((ArrayTypeNode) actual).getElementType());
+        }
+        return expected instanceof RecordTypeNode && expected.equals(actual);
+    }
+
+    private static boolean isLogical(String operator) {
+        return operator.equals("AND") || operator.equals("OR");
+    }
+
+    private static boolean isComparison(String operator) {
+        return operator.equals("==") || operator.equals("/=") || operator.equals(">") || operator.equals("<")
+                || operator.equals(">=") || operator.equals("<=");
+    }
+}
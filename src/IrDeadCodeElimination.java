@@ -0,0 +1,69 @@
+import java.util.*;
+
+/*
+ * Dead code elimination over the SSA form. Blocks that cannot be reached from the entry are
+ * removed first, together with the phi operands for the edges leaving them. Then every
+ * instruction that has an effect is marked live: stores, prints, calls, loads and divisions that
+ * may fail, and terminators, followed by everything they use. Unmarked instructions and phis
+ * compute values nobody needs and are removed.
+ */
+public class IrDeadCodeElimination implements IrPass {
+
+    @Override
+    public String getName() {
+        return "deadCodeElimination";
+    }
+
+    @Override
+    public void run(IrFunction function) {
+        removeUnreachableBlocks(function);
+
+        Set<IrInstruction> live = new HashSet<>();
+        Deque<IrInstruction> worklist = new ArrayDeque<>();
+        for (IrBlock block : function.getBlocks()) {
+            for (IrInstruction instruction : block.getInstructions()) {
+                if (!instruction.isPure() && live.add(instruction)) {
+                    worklist.add(instruction);
+                }
+            }
+            if (live.add(block.getTerminator())) {
+                worklist.add(block.getTerminator());
+            }
+        }
+        while (!worklist.isEmpty()) {
+            for (IrInstruction operand : worklist.poll().getOperands()) {
+                if (live.add(operand)) {
+                    worklist.add(operand);
+                }
+            }
+        }
+
+        for (IrBlock block : function.getBlocks()) {
+            block.getPhis().removeIf(phi -> !live.contains(phi));
+            // Parameters stay, since they say which argument slot holds which parameter
+            block.getInstructions().removeIf(instruction -> !live.contains(instruction)
+                    && instruction.getOp() != IrInstruction.Op.PARAM);
+        }
+    }
+
+    private void removeUnreachableBlocks(IrFunction function) {
+        Set<IrBlock> reachable = new HashSet<>(function.reversePostorder());
+        for (IrBlock block : function.getBlocks()) {
+            if (reachable.contains(block)) {
+                continue;
+            }
+            for (IrBlock successor : block.getSuccessors()) {
+                List<IrBlock> predecessors = successor.getPredecessors();
+                for (int i = predecessors.size() - 1; i >= 0; i--) {
+                    if (predecessors.get(i) == block) {
+                        predecessors.remove(i);
+                        for (IrInstruction phi : successor.getPhis()) {
+                            phi.getOperands().remove(i);
+                        }
+                    }
+                }
+            }
+        }
+        function.getBlocks().retainAll(reachable);
+    }
+}
@@ -0,0 +1,49 @@
+import java.util.*;
+
+/*
+ * Runs optimization passes over the SSA form of each routine, in the order they were added, and
+ * keeps the time spent in every pass and how often it ran. The times add up across routines
+ * until reset() is called.
+ */
+public class IrPassManager {
+    private List<IrPass> passes = new ArrayList<>();
+    private Map<String, Long> nanos = new LinkedHashMap<>();
+    private Map<String, Integer> runs = new LinkedHashMap<>();
+
+    public IrPassManager add(IrPass pass) {
+        passes.add(pass);
+        nanos.putIfAbsent(pass.getName(), 0L);
+        runs.putIfAbsent(pass.getName(), 0);
+        return this;
+    }
+
+    public void run(IrFunction function) {
+        for (IrPass pass : passes) {
+            long start = System.nanoTime();
+            pass.run(function);
+            nanos.merge(pass.getName(), System.nanoTime() - start, Long::sum);
+            runs.merge(pass.getName(), 1, Integer::sum);
+        }
+    }
+
+    // Time spent in each pass, in the order the passes run
+    public Map<String, Long> getNanos() {
+        return Collections.unmodifiableMap(nanos);
+    }
+
+    public Map<String, Integer> getRuns() {
+        return Collections.unmodifiableMap(runs);
+    }
+
+    public void reset() {
+        nanos.replaceAll((name, time) -> 0L);
+        runs.replaceAll((name, count) -> 0);
+    }
+}
+
+/* An optimization over the SSA form of one routine */
+interface IrPass {
+    String getName();
+
+    void run(IrFunction function);
+}
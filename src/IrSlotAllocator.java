@@ -0,0 +1,279 @@
+import java.util.*;
+
+/*
+ * Assigns JVM locals to the values of a routine in SSA form. Every value that is kept in a local
+ * starts in a class of its own; a phi is then merged with the classes of its operands unless some
+ * value of one class is still needed where a value of the other is written. A merged phi needs no
+ * copy on the edges its operands come from, so a variable updated in a loop stays in one local, as
+ * does a parameter the routine assigns to.
+ *
+ * Values are written where they are computed, parameters on entry, and phis by the copies at the
+ * end of each predecessor. A value computed at its use reads its operands there too.
+ */
+class IrSlotAllocator {
+    private final IrFunction function;
+    // Values computed where they are used; they have no local
+    private final Set<IrInstruction> inlined;
+    // Values that get a local: phis, parameters, and the other values used after they are computed
+    private final Set<IrInstruction> values = new HashSet<>();
+    private final Map<IrBlock, Set<IrInstruction>> liveAtTop = new HashMap<>();
+    private final Map<IrInstruction, Set<IrInstruction>> interference = new HashMap<>();
+    private final Map<IrInstruction, IrInstruction> parent = new HashMap<>();
+    private final Map<IrInstruction, List<IrInstruction>> members = new HashMap<>();
+    // Roots of the classes a parameter has joined
+    private final Set<IrInstruction> parameterClasses = new HashSet<>();
+
+    IrSlotAllocator(IrFunction function, Set<IrInstruction> inlined) {
+        this.function = function;
+        this.inlined = inlined;
+    }
+
+    // Local of every value that needs one; parameters stay in their argument slots
+    Map<IrInstruction, Integer> allocate(List<Integer> parameterSlots, int firstFreeSlot) {
+        Set<IrInstruction> used = new HashSet<>();
+        for (IrBlock block : function.getBlocks()) {
+            for (IrInstruction user : users(block)) {
+                used.addAll(user.getOperands());
+            }
+        }
+        for (IrBlock block : function.getBlocks()) {
+            values.addAll(block.getPhis());
+            for (IrInstruction instruction : block.getInstructions()) {
+                if (instruction.getOp() == IrInstruction.Op.PARAM || (used.contains(instruction)
+                        && instruction.getOp() != IrInstruction.Op.CONST && !inlined.contains(instruction))) {
+                    values.add(instruction);
+                }
+            }
+        }
+        computeLiveness();
+        computeInterference();
+        coalesce();
+
+        Map<IrInstruction, Integer> slots = new HashMap<>();
+        int nextSlot = firstFreeSlot;
+        for (IrBlock block : function.getBlocks()) {
+            List<IrInstruction> defined = new ArrayList<>(block.getPhis());
+            defined.addAll(block.getInstructions());
+            for (IrInstruction value : defined) {
+                if (!values.contains(value) || slots.containsKey(value)) {
+                    continue;
+                }
+                List<IrInstruction> group = members.getOrDefault(find(value), Collections.singletonList(value));
+                int slot = -1;
+                for (IrInstruction member : group) {
+                    if (member.getOp() == IrInstruction.Op.PARAM) {
+                        slot = parameterSlots.get(member.getIndex());
+                    }
+                }
+                if (slot < 0) {
+                    slot = nextSlot;
+                    nextSlot += value.getType() instanceof RealTypeNode ? 2 : 1;
+                }
+                for (IrInstruction member : group) {
+                    slots.put(member, slot);
+                }
+            }
+        }
+        return slots;
+    }
+
+    /* Liveness */
+
+    private void computeLiveness() {
+        List<IrBlock> blocks = function.getBlocks();
+        for (IrBlock block : blocks) {
+            liveAtTop.put(block, new HashSet<>());
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = blocks.size() - 1; i >= 0; i--) {
+                IrBlock block = blocks.get(i);
+                Set<IrInstruction> live = walk(block, false);
+                if (!live.equals(liveAtTop.get(block))) {
+                    liveAtTop.put(block, live);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    private void computeInterference() {
+        for (IrBlock block : function.getBlocks()) {
+            walk(block, true);
+        }
+        // Parameters are all written on entry
+        Set<IrInstruction> entry = new HashSet<>(liveAtTop.get(function.getEntry()));
+        for (IrInstruction instruction : function.getEntry().getInstructions()) {
+            if (instruction.getOp() == IrInstruction.Op.PARAM) {
+                entry.add(instruction);
+            }
+        }
+        for (IrInstruction instruction : function.getEntry().getInstructions()) {
+            if (instruction.getOp() == IrInstruction.Op.PARAM) {
+                interfere(instruction, entry);
+            }
+        }
+    }
+
+    // Walks a block backwards from its end and returns what is live at its top, recording
+    // interference at every write on the way when asked to
+    private Set<IrInstruction> walk(IrBlock block, boolean record) {
+        Set<IrInstruction> live = new HashSet<>();
+        for (IrBlock successor : block.getSuccessors()) {
+            Set<IrInstruction> afterCopies = liveAtTop.get(successor);
+            List<IrInstruction> written = copyTargets(block, successor);
+            if (record) {
+                for (IrInstruction phi : written) {
+                    interfere(phi, afterCopies);
+                    interfere(phi, written);
+                }
+            }
+            Set<IrInstruction> beforeCopies = new HashSet<>(afterCopies);
+            beforeCopies.removeAll(written);
+            int predecessor = successor.getPredecessors().indexOf(block);
+            for (IrInstruction phi : written) {
+                addReads(phi.getOperand(predecessor), beforeCopies);
+            }
+            live.addAll(beforeCopies);
+        }
+        for (IrInstruction operand : block.getTerminator().getOperands()) {
+            addReads(operand, live);
+        }
+        List<IrInstruction> instructions = block.getInstructions();
+        for (int i = instructions.size() - 1; i >= 0; i--) {
+            IrInstruction instruction = instructions.get(i);
+            if (inlined.contains(instruction) || instruction.getOp() == IrInstruction.Op.CONST
+                    || instruction.getOp() == IrInstruction.Op.PARAM) {
+                continue;
+            }
+            if (values.contains(instruction)) {
+                if (record) {
+                    interfere(instruction, live);
+                }
+                live.remove(instruction);
+            }
+            for (IrInstruction operand : instruction.getOperands()) {
+                addReads(operand, live);
+            }
+        }
+        if (block == function.getEntry()) {
+            for (IrInstruction instruction : instructions) {
+                live.remove(instruction);
+            }
+        }
+        return live;
+    }
+
+    // Locals read to push a value: its own, or those of the operands it is computed from
+    private void addReads(IrInstruction value, Set<IrInstruction> live) {
+        if (values.contains(value)) {
+            live.add(value);
+        } else if (inlined.contains(value)) {
+            for (IrInstruction operand : value.getOperands()) {
+                addReads(operand, live);
+            }
+        }
+    }
+
+    private void interfere(IrInstruction value, Collection<IrInstruction> others) {
+        for (IrInstruction other : others) {
+            if (other != value) {
+                interference.computeIfAbsent(value, v -> new HashSet<>()).add(other);
+                interference.computeIfAbsent(other, v -> new HashSet<>()).add(value);
+            }
+        }
+    }
+
+    /* Coalescing */
+
+    private void coalesce() {
+        for (IrBlock block : function.getBlocks()) {
+            for (IrInstruction phi : block.getPhis()) {
+                for (IrInstruction operand : phi.getOperands()) {
+                    if (values.contains(operand)) {
+                        union(phi, operand);
+                    }
+                }
+            }
+        }
+    }
+
+    private void union(IrInstruction a, IrInstruction b) {
+        IrInstruction rootA = find(a);
+        IrInstruction rootB = find(b);
+        if (rootA == rootB || isWide(a) != isWide(b) || isReference(a) != isReference(b)) {
+            return;
+        }
+        List<IrInstruction> membersA = members.computeIfAbsent(rootA, r -> new ArrayList<>(Collections.singletonList(r)));
+        List<IrInstruction> membersB = members.computeIfAbsent(rootB, r -> new ArrayList<>(Collections.singletonList(r)));
+        // The smaller class is checked against the other and joins it, so classes that keep
+        // growing, like a variable updated all through a long routine, are not walked every time
+        if (membersA.size() < membersB.size()) {
+            IrInstruction root = rootA;
+            rootA = rootB;
+            rootB = root;
+            List<IrInstruction> list = membersA;
+            membersA = membersB;
+            membersB = list;
+        }
+        for (IrInstruction member : membersB) {
+            for (IrInstruction other : interference.getOrDefault(member, Collections.emptySet())) {
+                if (find(other) == rootA) {
+                    return;
+                }
+            }
+        }
+        if (isParameterClass(rootA) && isParameterClass(rootB)) {
+            return;
+        }
+        if (isParameterClass(rootB)) {
+            parameterClasses.add(rootA);
+        }
+        parent.put(rootB, rootA);
+        membersA.addAll(membersB);
+        members.remove(rootB);
+    }
+
+    private boolean isParameterClass(IrInstruction root) {
+        return root.getOp() == IrInstruction.Op.PARAM || parameterClasses.contains(root);
+    }
+
+    private IrInstruction find(IrInstruction value) {
+        IrInstruction root = value;
+        while (parent.containsKey(root)) {
+            root = parent.get(root);
+        }
+        return root;
+    }
+
+    /* Helpers */
+
+    // Phis of the target written on the edge from the given block; a phi that takes its own value is not
+    static List<IrInstruction> copyTargets(IrBlock from, IrBlock to) {
+        int predecessor = to.getPredecessors().indexOf(from);
+        List<IrInstruction> phis = new ArrayList<>();
+        for (IrInstruction phi : to.getPhis()) {
+            if (phi.getOperand(predecessor) != phi) {
+                phis.add(phi);
+            }
+        }
+        return phis;
+    }
+
+    private static List<IrInstruction> users(IrBlock block) {
+        List<IrInstruction> users = new ArrayList<>(block.getPhis());
+        users.addAll(block.getInstructions());
+        users.add(block.getTerminator());
+        return users;
+    }
+
+    private static boolean isWide(IrInstruction value) {
+        return value.getType() instanceof RealTypeNode;
+    }
+
+    private static boolean isReference(IrInstruction value) {
+        TypeNode type = value.getType();
+        return !(type instanceof IntegerTypeNode || type instanceof BooleanTypeNode || type instanceof RealTypeNode);
+    }
+}
@@ -0,0 +1,168 @@
+import java.util.*;
+
+/*
+ * Global value numbering over the SSA form. Blocks are visited down the dominator tree, keeping
+ * the pure values computed in the blocks that dominate the current one. An instruction that
+ * computes the same operation on the same operands as one of them is replaced by it, wherever in
+ * the routine the first one is. Constants are numbered too, and so are phis of the same block
+ * with the same operands. Loads are left alone, since a store or call may change what they read.
+ */
+public class IrValueNumbering implements IrPass {
+    private Map<IrInstruction, IrInstruction> replacements;
+    private Map<String, IrInstruction> available;
+    private Map<IrBlock, List<IrBlock>> dominated;
+
+    @Override
+    public String getName() {
+        return "valueNumbering";
+    }
+
+    @Override
+    public void run(IrFunction function) {
+        replacements = new HashMap<>();
+        available = new HashMap<>();
+        dominated = dominatorTree(function.reversePostorder());
+        number(function.getEntry());
+
+        if (replacements.isEmpty()) {
+            return;
+        }
+        for (IrBlock block : function.getBlocks()) {
+            block.getPhis().removeIf(replacements::containsKey);
+            block.getInstructions().removeIf(replacements::containsKey);
+            for (IrInstruction phi : block.getPhis()) {
+                replaceOperands(phi);
+            }
+            for (IrInstruction instruction : block.getInstructions()) {
+                replaceOperands(instruction);
+            }
+            if (block.getTerminator() != null) {
+                replaceOperands(block.getTerminator());
+            }
+        }
+    }
+
+    // Walks the dominator tree without recursion, which a long routine would make too deep
+    private void number(IrBlock entry) {
+        Deque<IrBlock> path = new ArrayDeque<>();
+        Deque<Iterator<IrBlock>> children = new ArrayDeque<>();
+        Deque<List<String>> scopes = new ArrayDeque<>();
+        enter(entry, path, children, scopes);
+        while (!path.isEmpty()) {
+            if (children.peek().hasNext()) {
+                enter(children.peek().next(), path, children, scopes);
+                continue;
+            }
+            // Values of this block are not available in the blocks it does not dominate
+            for (String key : scopes.pop()) {
+                available.remove(key);
+            }
+            path.pop();
+            children.pop();
+        }
+    }
+
+    private void enter(IrBlock block, Deque<IrBlock> path, Deque<Iterator<IrBlock>> children, Deque<List<String>> scopes) {
+        List<String> added = new ArrayList<>();
+        number(block.getPhis(), added);
+        number(block.getInstructions(), added);
+        path.push(block);
+        children.push(dominated.getOrDefault(block, Collections.emptyList()).iterator());
+        scopes.push(added);
+    }
+
+    private void number(List<IrInstruction> instructions, List<String> added) {
+        for (IrInstruction instruction : instructions) {
+            if (!instruction.isPure() || instruction.getOp() == IrInstruction.Op.PARAM) {
+                continue;
+            }
+            String key = key(instruction);
+            IrInstruction existing = available.get(key);
+            if (existing != null) {
+                replacements.put(instruction, existing);
+            } else {
+                available.put(key, instruction);
+                added.add(key);
+            }
+        }
+    }
+
+    // Operation, type and operands; operands of commutative operators are put in a fixed order
+    private String key(IrInstruction instruction) {
+        StringBuilder key = new StringBuilder(instruction.getOp().name());
+        key.append(':').append(instruction.getType() != null ? instruction.getType().getClass().getSimpleName() : "");
+        key.append(':').append(instruction.getName());
+        if (instruction.getOp() == IrInstruction.Op.CONST) {
+            Object constant = instruction.getConstant();
+            key.append(':').append(constant != null ? constant.getClass().getSimpleName() + constant : "null");
+        } else if (instruction.getOp() == IrInstruction.Op.PHI) {
+            key.append(":b").append(instruction.getBlock().getId());
+        }
+        List<Integer> operands = new ArrayList<>();
+        for (IrInstruction operand : instruction.getOperands()) {
+            operands.add(replacements.getOrDefault(operand, operand).getId());
+        }
+        if (instruction.getOp() == IrInstruction.Op.BINARY && isCommutative(instruction.getName())) {
+            Collections.sort(operands);
+        }
+        for (int operand : operands) {
+            key.append(":v").append(operand);
+        }
+        return key.toString();
+    }
+
+    private void replaceOperands(IrInstruction instruction) {
+        instruction.getOperands().replaceAll(operand -> replacements.getOrDefault(operand, operand));
+    }
+
+    private static boolean isCommutative(String operator) {
+        return operator.equals("+") || operator.equals("*") || operator.equals("==") || operator.equals("/=")
+                || operator.equals("XOR");
+    }
+
+    // Children of every block in the dominator tree, from the immediate dominators computed as in
+    // Cooper, Harvey and Kennedy, "A Simple, Fast Dominance Algorithm"
+    static Map<IrBlock, List<IrBlock>> dominatorTree(List<IrBlock> reversePostorder) {
+        Map<IrBlock, Integer> order = new HashMap<>();
+        for (int i = 0; i < reversePostorder.size(); i++) {
+            order.put(reversePostorder.get(i), i);
+        }
+        IrBlock entry = reversePostorder.get(0);
+        Map<IrBlock, IrBlock> idom = new HashMap<>();
+        idom.put(entry, entry);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (IrBlock block : reversePostorder.subList(1, reversePostorder.size())) {
+                IrBlock dominator = null;
+                for (IrBlock predecessor : block.getPredecessors()) {
+                    if (!idom.containsKey(predecessor)) {
+                        continue;
+                    }
+                    dominator = dominator == null ? predecessor : intersect(predecessor, dominator, idom, order);
+                }
+                if (dominator != idom.get(block)) {
+                    idom.put(block, dominator);
+                    changed = true;
+                }
+            }
+        }
+        Map<IrBlock, List<IrBlock>> children = new HashMap<>();
+        for (IrBlock block : reversePostorder.subList(1, reversePostorder.size())) {
+            children.computeIfAbsent(idom.get(block), b -> new ArrayList<>()).add(block);
+        }
+        return children;
+    }
+
+    private static IrBlock intersect(IrBlock a, IrBlock b, Map<IrBlock, IrBlock> idom, Map<IrBlock, Integer> order) {
+        while (a != b) {
+            while (order.get(a) > order.get(b)) {
+                a = idom.get(a);
+            }
+            while (order.get(b) > order.get(a)) {
+                b = idom.get(b);
+            }
+        }
+        return a;
+    }
+}
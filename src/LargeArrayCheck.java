@@ -0,0 +1,141 @@
+import java.io.*;
+import java.util.*;
+
+/*
+ * Check for integer constants and large arrays in generated code. Compiles programs that print
+ * literals on both sides of every ICONST/BIPUSH/SIPUSH/LDC boundary, and programs that allocate
+ * an integer array of each given size, fill it and sum it, then runs them in memory and compares
+ * their output with the values computed here. For loops over ranges that end within one step of
+ * the int limits are checked too, since their iterator must stop instead of wrapping around.
+ *
+ * Usage: java LargeArrayCheck [size]...
+ * Defaults to sizes 10^3 to 10^7; 10^8 needs a heap of at least 512 MB (-Xmx1g).
+ */
+public class LargeArrayCheck {
+
+    private static final int[] CONSTANTS = {
+        -1, 0, 5, 6, 127, 128, -128, -129, 32767, 32768, -32768, -32769,
+        Integer.MAX_VALUE, Integer.MIN_VALUE + 1
+    };
+
+    // {start, end, step} of for loops run forwards and in reverse
+    private static final int[][] LIMIT_RANGES = {
+        {Integer.MAX_VALUE - 2, Integer.MAX_VALUE, 1},
+        {Integer.MAX_VALUE - 7, Integer.MAX_VALUE, 5},
+        {Integer.MAX_VALUE - 7, Integer.MAX_VALUE, 7},
+        {Integer.MIN_VALUE, Integer.MIN_VALUE + 2, 1},
+        {Integer.MIN_VALUE, Integer.MIN_VALUE + 7, 3},
+        {Integer.MIN_VALUE, Integer.MIN_VALUE, 1},
+        {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE},
+        {5, 4, 1}
+    };
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> sizes = new ArrayList<>();
+        for (String arg : args) {
+            sizes.add(Integer.parseInt(arg));
+        }
+        if (sizes.isEmpty()) {
+            for (int size = 1000; size <= 10_000_000; size *= 10) {
+                sizes.add(size);
+            }
+        }
+
+        int failures = 0;
+
+        StringBuilder source = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int value : CONSTANTS) {
+            // The grammar has no negative literals; constant folding turns 0 - n back into one
+            source.append("print ").append(value < 0 ? "0 - " + (-(long) value) : value).append(";\n");
+            expected.append(value).append('\n');
+        }
+        failures += check("constants", source.toString(), expected.toString());
+
+        source = new StringBuilder();
+        expected = new StringBuilder();
+        for (int[] range : LIMIT_RANGES) {
+            String bounds = "[" + literal(range[0]) + " .. " + literal(range[1]) + "]"
+                    + (range[2] != 1 ? " by " + range[2] : "");
+            source.append("for i in ").append(bounds).append(" loop\n  print i;\nend\n");
+            source.append("for i in reverse ").append(bounds).append(" loop\n  print i;\nend\n");
+            for (long i = range[0]; i <= range[1]; i += range[2]) {
+                expected.append(i).append('\n');
+            }
+            for (long i = range[1]; i >= range[0]; i -= range[2]) {
+                expected.append(i).append('\n');
+            }
+        }
+        failures += check("for loops at int limits", source.toString(), expected.toString());
+
+        for (int size : sizes) {
+            String program = "var a : array [" + size + "] integer;\n"
+                    + "var s : integer is 0;\n"
+                    + "for i in [0 .. " + (size - 1) + "] loop\n"
+                    + "  a[i] := i;\n"
+                    + "end\n"
+                    + "for i in reverse [0 .. " + (size - 1) + "] loop\n"
+                    + "  s := s + a[i];\n"
+                    + "end\n"
+                    + "print s;\n";
+            // The generated code sums in int arithmetic, so the expected value wraps the same way
+            int sum = (int) ((long) size * (size - 1) / 2);
+            failures += check("array of " + size, program, sum + "\n");
+        }
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    // The grammar has no negative literals, and 0 - 2147483648 does not fit in an int
+    private static String literal(int value) {
+        if (value == Integer.MIN_VALUE) {
+            return "0 - " + Integer.MAX_VALUE + " - 1";
+        }
+        return value < 0 ? "0 - " + (-value) : String.valueOf(value);
+    }
+
+    // Compiles and runs one program and returns 1 if its output differs from expected
+    static int check(String name, String source, String expected) throws Exception {
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        try {
+            // The analyzer reports optimizations and diagnostics; only the program's own output is compared
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+            CompilationResult result = new Compiler().compile(new StringReader(source));
+            System.setErr(originalErr);
+            if (!result.isSuccess()) {
+                System.setOut(originalOut);
+                System.out.println("FAIL " + name + ": "
+                        + (result.getError() != null ? result.getError() : String.join(" ", result.getDiagnostics())));
+                return 1;
+            }
+            Map<String, byte[]> classes = result.getClasses();
+            String mainClassName = classes.keySet().iterator().next();
+            InMemoryClassLoader loader = new InMemoryClassLoader(classes, LargeArrayCheck.class.getClassLoader());
+            CompiledProgram program = new CompiledProgram(mainClassName, classes, loader.loadClass(mainClassName));
+            System.setOut(new PrintStream(output, true));
+            program.run();
+        } catch (RuntimeException | Error e) {
+            System.setOut(originalOut);
+            System.out.println("FAIL " + name + ": " + e);
+            return 1;
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+
+        String actual = output.toString().replace("\r\n", "\n");
+        if (!actual.equals(expected)) {
+            System.out.println("FAIL " + name + ": expected " + expected.trim().replace('\n', ' ')
+                    + ", got " + actual.trim().replace('\n', ' '));
+            return 1;
+        }
+        System.out.printf("ok   %s (%.1f ms)%n", name, (System.nanoTime() - start) / 1e6);
+        return 0;
+    }
+}
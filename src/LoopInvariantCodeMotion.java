@@ -0,0 +1,315 @@
+import java.util.*;
+import java.util.function.Predicate;
+
+/*
+ * Loop-invariant code motion. For every while and for loop, outermost first, the largest scalar
+ * subexpressions of its body (and of a while condition) whose value cannot change while the loop
+ * runs are computed once into temporaries placed right before the loop. An expression is invariant
+ * when it only combines constants, variables the loop never assigns, fields of records the loop
+ * never writes, and calls to pure routines. Only expressions that cannot fail or have side effects
+ * are moved, since a hoisted expression is evaluated even when the loop body never runs.
+ */
+public class LoopInvariantCodeMotion {
+    // Whether a routine is free of side effects and always returns normally
+    private Predicate<String> pureFunction;
+    // Number of temporaries created so far; keeps their names unique within the program
+    private int temporaryCount = 0;
+
+    // What the loop being optimized may change
+    private Set<String> assignedVariables;
+    private Set<String> writtenFields;
+    private boolean callsImpureFunction;
+    // Temporaries hoisted out of the loop being optimized, and the expressions they hold by key
+    private List<StatementNode> hoisted;
+    private Map<String, TemporaryNode> hoistedByKey;
+
+    public void optimize(ProgramNode ast, Predicate<String> pureFunction) {
+        this.pureFunction = pureFunction;
+        temporaryCount = 0;
+        List<ASTNode> children = new ArrayList<>();
+        for (ASTNode child : ast.getChildren()) {
+            if (child instanceof FunctionNode) {
+                FunctionNode function = (FunctionNode) child;
+                if (function.getBody() != null) {
+                    function.setBody(single(processStatement(function.getBody())));
+                }
+                children.add(function);
+            } else if (child instanceof StatementNode) {
+                for (StatementNode stmt : processStatement((StatementNode) child)) {
+                    stmt.setParent(ast);
+                    children.add(stmt);
+                }
+            } else {
+                children.add(child);
+            }
+        }
+        ast.setChildren(children);
+    }
+
+    // Optimizes the loops in node and returns the statements that replace it: node itself,
+    // preceded by the temporaries hoisted out of it when it is a loop
+    private List<StatementNode> processStatement(StatementNode node) {
+        List<StatementNode> result = new ArrayList<>();
+        if (node instanceof WhileLoopNode || node instanceof ForLoopNode) {
+            result.addAll(hoistInvariants(node));
+        }
+        if (node instanceof StatementBlockNode) {
+            List<StatementNode> statements = ((StatementBlockNode) node).getStatements();
+            List<StatementNode> processed = new ArrayList<>();
+            for (StatementNode stmt : statements) {
+                processed.addAll(processStatement(stmt));
+            }
+            statements.clear();
+            for (StatementNode stmt : processed) {
+                stmt.setParent(node);
+                statements.add(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            ifNode.setThenStmt(single(processStatement(ifNode.getThenStmt())));
+            if (ifNode.getElseStmt() != null) {
+                ifNode.setElseStmt(single(processStatement(ifNode.getElseStmt())));
+            }
+        } else if (node instanceof WhileLoopNode) {
+            WhileLoopNode whileNode = (WhileLoopNode) node;
+            whileNode.setBody(single(processStatement(whileNode.getBody())));
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            forNode.setBody(single(processStatement(forNode.getBody())));
+        }
+        result.add(node);
+        return result;
+    }
+
+    // Statements that take the place of one statement; several become a block
+    private StatementNode single(List<StatementNode> statements) {
+        if (statements.size() == 1) {
+            return statements.get(0);
+        }
+        return new StatementBlockNode(statements);
+    }
+
+    // Replaces the invariant expressions of a loop with temporaries and returns their definitions
+    private List<StatementNode> hoistInvariants(StatementNode loop) {
+        assignedVariables = new HashSet<>();
+        writtenFields = new HashSet<>();
+        callsImpureFunction = false;
+        collectEffects(loop);
+
+        hoisted = new ArrayList<>();
+        hoistedByKey = new HashMap<>();
+        if (loop instanceof WhileLoopNode) {
+            WhileLoopNode whileNode = (WhileLoopNode) loop;
+            whileNode.setCondition(hoist(whileNode.getCondition()));
+            hoistStatement(whileNode.getBody());
+        } else {
+            hoistStatement(((ForLoopNode) loop).getBody());
+        }
+        return hoisted;
+    }
+
+    private void hoistStatement(StatementNode node) {
+        if (node instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) node;
+            // The target itself is written, but an index into it is read
+            if (assignNode.getVariable() instanceof ArrayAccessNode) {
+                ArrayAccessNode access = (ArrayAccessNode) assignNode.getVariable();
+                access.setIndex(hoist(access.getIndex()));
+            }
+            assignNode.setExpression(hoist(assignNode.getExpression()));
+        } else if (node instanceof ReturnNode) {
+            ReturnNode returnNode = (ReturnNode) node;
+            returnNode.setExpr(hoist(returnNode.getExpr()));
+        } else if (node instanceof PrintNode) {
+            PrintNode printNode = (PrintNode) node;
+            printNode.setExpression(hoist(printNode.getExpression()));
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                hoistStatement(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            ifNode.setCondition(hoist(ifNode.getCondition()));
+            hoistStatement(ifNode.getThenStmt());
+            hoistStatement(ifNode.getElseStmt());
+        } else if (node instanceof WhileLoopNode) {
+            WhileLoopNode whileNode = (WhileLoopNode) node;
+            whileNode.setCondition(hoist(whileNode.getCondition()));
+            hoistStatement(whileNode.getBody());
+        } else if (node instanceof ForLoopNode) {
+            // An inner loop's range is evaluated on every iteration of the outer one
+            ForLoopNode forNode = (ForLoopNode) node;
+            forNode.setStart(hoist(forNode.getStart()));
+            forNode.setEnd(hoist(forNode.getEnd()));
+            if (forNode.getStep() != null) {
+                forNode.setStep(hoist(forNode.getStep()));
+            }
+            hoistStatement(forNode.getBody());
+        }
+    }
+
+    // Returns expr, or the temporary that now holds its value, after hoisting its invariant parts
+    private ExpressionNode hoist(ExpressionNode expr) {
+        if (expr == null) {
+            return null;
+        }
+        TypeNode type = expr.getResolvedType();
+        boolean scalar = type instanceof IntegerTypeNode || type instanceof RealTypeNode || type instanceof BooleanTypeNode;
+        if (scalar && !isLeaf(expr) && isInvariant(expr)) {
+            String key = ValueNumbering.key(expr);
+            TemporaryNode temporary = hoistedByKey.get(key);
+            if (temporary == null) {
+                temporary = new TemporaryNode("$licm" + temporaryCount++, type, expr);
+                hoistedByKey.put(key, temporary);
+                hoisted.add(temporary);
+                System.out.println("Optimization: Hoisted " + RangeAnalyzer.describe(expr) + " out of loop into "
+                        + temporary.getName() + ".");
+            }
+            IdentifierNode use = new IdentifierNode(temporary.getName());
+            use.setResolvedType(type);
+            return use;
+        }
+
+        if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            binOp.setLeft(hoist(binOp.getLeft()));
+            binOp.setRight(hoist(binOp.getRight()));
+        } else if (expr instanceof UnaryOpNode) {
+            UnaryOpNode unOp = (UnaryOpNode) expr;
+            unOp.setExpr(hoist(unOp.getExpr()));
+        } else if (expr instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) expr;
+            access.setIndex(hoist(access.getIndex()));
+        } else if (expr instanceof FunctionCallNode) {
+            hoistAll(((FunctionCallNode) expr).getArguments(), expr);
+        } else if (expr instanceof ExpressionListNode) {
+            hoistAll(((ExpressionListNode) expr).getExpressions(), expr);
+        }
+        return expr;
+    }
+
+    private void hoistAll(List<ExpressionNode> expressions, ExpressionNode parent) {
+        if (expressions == null) {
+            return;
+        }
+        for (int i = 0; i < expressions.size(); i++) {
+            ExpressionNode replacement = hoist(expressions.get(i));
+            replacement.setParent(parent);
+            expressions.set(i, replacement);
+        }
+    }
+
+    // Constants and variables are as cheap to use as a temporary
+    private boolean isLeaf(ExpressionNode expr) {
+        return expr instanceof NumberNode || expr instanceof RealNode || expr instanceof BooleanNode
+                || expr instanceof StringNode || expr instanceof IdentifierNode;
+    }
+
+    // True if expr has the same value on every iteration, and evaluating it cannot fail or have effects
+    private boolean isInvariant(ExpressionNode expr) {
+        if (expr instanceof NumberNode || expr instanceof RealNode || expr instanceof BooleanNode
+                || expr instanceof StringNode) {
+            return true;
+        } else if (expr instanceof IdentifierNode) {
+            return !assignedVariables.contains(((IdentifierNode) expr).getName());
+        } else if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            boolean mayFail = (binOp.getOperator().equals("/") || binOp.getOperator().equals("mod"))
+                    && !(binOp.getRight().getResolvedType() instanceof RealTypeNode)
+                    && !(binOp.getRight() instanceof NumberNode && ((NumberNode) binOp.getRight()).getValue() != 0);
+            return !mayFail && isInvariant(binOp.getLeft()) && isInvariant(binOp.getRight());
+        } else if (expr instanceof UnaryOpNode) {
+            return isInvariant(((UnaryOpNode) expr).getExpr());
+        } else if (expr instanceof FieldAccessNode) {
+            // Only fields of a record variable, which is allocated where it is declared; a routine
+            // that is not pure may write any record passed to it
+            FieldAccessNode access = (FieldAccessNode) expr;
+            return access.getRecord() instanceof IdentifierNode
+                    && access.getRecord().getResolvedType() instanceof RecordTypeNode
+                    && isInvariant(access.getRecord())
+                    && !writtenFields.contains(access.getFieldName())
+                    && !callsImpureFunction;
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            if (call.getArguments() != null) {
+                for (ExpressionNode arg : call.getArguments()) {
+                    if (!isInvariant(arg)) {
+                        return false;
+                    }
+                }
+            }
+            return pureFunction.test(call.getFunctionName());
+        }
+        // Array elements are not tracked
+        return false;
+    }
+
+    // Records the variables, record fields and routines the statement may assign, write or call
+    private void collectEffects(StatementNode node) {
+        if (node instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) node;
+            ExpressionNode target = assignNode.getVariable();
+            if (target instanceof IdentifierNode) {
+                assignedVariables.add(((IdentifierNode) target).getName());
+            } else if (target instanceof FieldAccessNode) {
+                // Records may be aliased, so a write to r.x may change the x of any record
+                writtenFields.add(((FieldAccessNode) target).getFieldName());
+            }
+            collectEffects(target);
+            collectEffects(assignNode.getExpression());
+        } else if (node instanceof ReturnNode) {
+            collectEffects(((ReturnNode) node).getExpr());
+        } else if (node instanceof PrintNode) {
+            collectEffects(((PrintNode) node).getExpression());
+        } else if (node instanceof TemporaryNode) {
+            collectEffects(((TemporaryNode) node).getExpression());
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                collectEffects(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            collectEffects(ifNode.getCondition());
+            collectEffects(ifNode.getThenStmt());
+            collectEffects(ifNode.getElseStmt());
+        } else if (node instanceof WhileLoopNode) {
+            collectEffects(((WhileLoopNode) node).getCondition());
+            collectEffects(((WhileLoopNode) node).getBody());
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            assignedVariables.add(forNode.getIterator().getName());
+            collectEffects(forNode.getStart());
+            collectEffects(forNode.getEnd());
+            collectEffects(forNode.getStep());
+            collectEffects(forNode.getBody());
+        }
+    }
+
+    private void collectEffects(ExpressionNode expr) {
+        if (expr instanceof BinaryOpNode) {
+            collectEffects(((BinaryOpNode) expr).getLeft());
+            collectEffects(((BinaryOpNode) expr).getRight());
+        } else if (expr instanceof UnaryOpNode) {
+            collectEffects(((UnaryOpNode) expr).getExpr());
+        } else if (expr instanceof ArrayAccessNode) {
+            collectEffects(((ArrayAccessNode) expr).getArray());
+            collectEffects(((ArrayAccessNode) expr).getIndex());
+        } else if (expr instanceof FieldAccessNode) {
+            collectEffects(((FieldAccessNode) expr).getRecord());
+        } else if (expr instanceof ExpressionListNode) {
+            for (ExpressionNode element : ((ExpressionListNode) expr).getExpressions()) {
+                collectEffects(element);
+            }
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            if (!pureFunction.test(call.getFunctionName())) {
+                callsImpureFunction = true;
+            }
+            if (call.getArguments() != null) {
+                for (ExpressionNode arg : call.getArguments()) {
+                    collectEffects(arg);
+                }
+            }
+        }
+    }
+}
@@ -2,16 +2,56 @@ import java.io.*;
 
 public class Main {
     static public void main(String argv[]) {
+        // --in-memory compiles and runs the program without writing .class files
+        // --trace-tokens prints every token as the lexer produces it
+        // --metrics <file> writes per-phase timings, allocations and counts as JSON
+        // --production-parser parses without recording the drawable parse tree
+        boolean inMemory = false;
+        boolean traceTokens = false;
+        boolean productionParser = false;
+        String metricsFile = null;
+        String inputFile = null;
+        for (int i = 0; i < argv.length; i++) {
+            String arg = argv[i];
+            if (arg.equals("--in-memory")) {
+                inMemory = true;
+            } else if (arg.equals("--trace-tokens")) {
+                traceTokens = true;
+            } else if (arg.equals("--production-parser")) {
+                productionParser = true;
+            } else if (arg.equals("--metrics")) {
+                metricsFile = argv[++i];
+            } else {
+                inputFile = arg;
+            }
+        }
+        CompilationMetrics metrics = metricsFile != null ? new CompilationMetrics() : null;
+
         try {
             /* Scanner instantiation */
-            Yylex l = new Yylex(new FileReader(argv[0]));
+            Yylex l = new Yylex(new FileReader(inputFile));
+            if (traceTokens) {
+                l.setTrace(true);
+            }
             /* Parser instantiation */
-            parser p = new parser(l);
+            java_cup.runtime.Scanner scanner = l;
+            if (metrics != null) {
+                // Read all tokens up front so lexing and parsing are measured separately
+                metrics.startPhase("lexing");
+                TokenBuffer tokens = TokenBuffer.readAll(l);
+                metrics.endPhase();
+                metrics.setCount("tokens", tokens.size());
+                scanner = tokens;
+            }
+            java_cup.runtime.lr_parser p = productionParser ? new ProductionParser(scanner) : new parser(scanner);
+            if (metrics != null) metrics.startPhase("parsing");
             /* Start the parser */
             ProgramNode ast = (ProgramNode) p.parse().value;
+            if (metrics != null) metrics.endPhase();
             if (ast != null) {
                 // Create the semantic analyzer
                 SemanticAnalyzer analyzer = new SemanticAnalyzer();
+                if (metrics != null) metrics.setCount("astNodes", analyzer.countNodes(ast));
 
                 // Print AST before optimization
                 System.out.println("AST before optimization:");
@@ -19,18 +59,43 @@ public class Main {
 
                 // Analyze the AST for semantic errors and optimizations
                 System.out.println("Running semantic analysis and optimizations...");
-                analyzer.analyze(ast);
+                analyzer.analyze(ast, metrics);
 
                 // Print AST after optimization
                 System.out.println("AST after optimization:");
                 analyzer.printAST(ast, 0);
-                
-                // Generate code
-                System.out.println("Generating code...");
-                // CodeGenerator codeGen = new CodeGenerator();
-                // codeGen.generateCode(ast);
 
-                System.out.println("Compilation finished.");
+                // A program with semantic or type errors gets no code, as in Compiler
+                int errors = analyzer.getDiagnostics().size();
+                if (errors > 0) {
+                    System.out.println("Compilation failed: " + errors + " error(s).");
+                } else {
+                    // Generate code
+                    System.out.println("Generating code...");
+                    if (inMemory) {
+                        CodeGenerator codeGen = new CodeGenerator();
+                        if (metrics != null) metrics.startPhase("bytecodeEmission");
+                        CompiledProgram program = codeGen.generateInMemory(ast);
+                        if (metrics != null) {
+                            metrics.endPhase();
+                            Compiler.recordOutputCounts(metrics, ast, program.getClasses());
+                            Compiler.recordIrCounts(metrics, codeGen);
+                        }
+                        System.out.println("Running " + program.getMainClassName() + " in memory:");
+                        program.run();
+                    } else {
+                        // CodeGenerator codeGen = new CodeGenerator();
+                        // codeGen.generateCode(ast);
+                    }
+
+                    System.out.println("Compilation finished.");
+                }
+                if (metrics != null) {
+                    try (Writer writer = new FileWriter(metricsFile)) {
+                        writer.write(metrics.toJson());
+                    }
+                    System.out.println("Metrics written to " + metricsFile);
+                }
             } else {
                 System.out.println("Parsing failed: AST is null.");
             }
@@ -39,4 +104,3 @@ public class Main {
         }
     }
 }
-
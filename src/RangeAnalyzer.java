@@ -0,0 +1,296 @@
+import java.util.*;
+import java.util.function.Consumer;
+
+/*
+ * Integer range analysis for array indexes. Every for-loop iterator that its body does not assign
+ * ranges over [start, end] of the loop, and index expressions built from iterators and constants
+ * with + - *, mod, and division by a positive constant get an interval. Accesses whose index interval
+ * lies inside the array are marked in bounds so the code generator can drop its own index checks;
+ * accesses whose interval lies entirely outside the array are reported as errors. Integer divisions
+ * and remainders whose divisor interval excludes zero are marked so their zero check is dropped.
+ */
+public class RangeAnalyzer {
+    // Receives every error found
+    private final Consumer<String> errors;
+    // Value interval of every iterator, hoisted temporary and saved value in scope, by name
+    private Map<String, long[]> ranges = new HashMap<>();
+    // Declared types of the variables and parameters in scope, for expressions the analyzer left untyped
+    private Map<String, TypeNode> variableTypes = new HashMap<>();
+
+    public RangeAnalyzer() {
+        this(System.err::println);
+    }
+
+    public RangeAnalyzer(Consumer<String> errors) {
+        this.errors = errors;
+    }
+
+    public void analyze(ProgramNode ast) {
+        ranges.clear();
+        variableTypes.clear();
+        for (ASTNode child : ast.getChildren()) {
+            if (child instanceof FunctionNode) {
+                FunctionNode function = (FunctionNode) child;
+                Map<String, TypeNode> globalTypes = new HashMap<>(variableTypes);
+                if (function.getParameters() != null) {
+                    for (DeclarationNode param : function.getParameters()) {
+                        variableTypes.put(param.getIdentifier(), param.getType());
+                    }
+                }
+                analyzeStatement(function.getBody());
+                variableTypes = globalTypes;
+            } else if (child instanceof DeclarationNode) {
+                DeclarationNode declaration = (DeclarationNode) child;
+                analyzeExpression(declaration.getExpression());
+                variableTypes.put(declaration.getIdentifier(), declaration.getType());
+            } else if (child instanceof StatementNode) {
+                analyzeStatement((StatementNode) child);
+            }
+        }
+    }
+
+    private void analyzeStatement(StatementNode node) {
+        if (node instanceof AssignmentNode) {
+            analyzeExpression(((AssignmentNode) node).getVariable());
+            analyzeExpression(((AssignmentNode) node).getExpression());
+        } else if (node instanceof ReturnNode) {
+            analyzeExpression(((ReturnNode) node).getExpr());
+        } else if (node instanceof PrintNode) {
+            analyzeExpression(((PrintNode) node).getExpression());
+        } else if (node instanceof TemporaryNode) {
+            // A temporary keeps the range of the expression it was hoisted from
+            TemporaryNode temporary = (TemporaryNode) node;
+            analyzeExpression(temporary.getExpression());
+            variableTypes.put(temporary.getName(), temporary.getType());
+            long[] range = rangeOf(temporary.getExpression());
+            if (range != null) {
+                ranges.put(temporary.getName(), range);
+            }
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                analyzeStatement(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            analyzeExpression(ifNode.getCondition());
+            analyzeStatement(ifNode.getThenStmt());
+            analyzeStatement(ifNode.getElseStmt());
+        } else if (node instanceof WhileLoopNode) {
+            analyzeExpression(((WhileLoopNode) node).getCondition());
+            analyzeStatement(((WhileLoopNode) node).getBody());
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            analyzeExpression(forNode.getStart());
+            analyzeExpression(forNode.getEnd());
+            analyzeExpression(forNode.getStep());
+
+            // Whichever way the loop counts, every value the body sees lies in [start, end], as long as
+            // the step is positive and the last increment cannot wrap the iterator around
+            String iteratorName = forNode.getIterator().getName();
+            long[] start = rangeOf(forNode.getStart());
+            long[] end = rangeOf(forNode.getEnd());
+            long[] step = forNode.getStep() == null ? new long[] {1, 1} : rangeOf(forNode.getStep());
+            if (start != null && end != null && step != null && step[0] > 0 && !isAssigned(forNode.getBody(), iteratorName)) {
+                boolean mayWrap = forNode.isReverse()
+                        ? start[0] - step[1] < Integer.MIN_VALUE
+                        : end[1] + step[1] > Integer.MAX_VALUE;
+                if (!mayWrap) {
+                    ranges.put(iteratorName, new long[] {start[0], end[1]});
+                }
+            }
+            analyzeStatement(forNode.getBody());
+            ranges.remove(iteratorName);
+        }
+    }
+
+    private void analyzeExpression(ExpressionNode node) {
+        if (node instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) node;
+            analyzeExpression(binOp.getLeft());
+            analyzeExpression(binOp.getRight());
+            if (binOp.getOperator().equals("/") || binOp.getOperator().equals("mod")) {
+                checkDivisor(binOp);
+            }
+        } else if (node instanceof UnaryOpNode) {
+            analyzeExpression(((UnaryOpNode) node).getExpr());
+        } else if (node instanceof FunctionCallNode) {
+            if (((FunctionCallNode) node).getArguments() != null) {
+                for (ExpressionNode arg : ((FunctionCallNode) node).getArguments()) {
+                    analyzeExpression(arg);
+                }
+            }
+        } else if (node instanceof FieldAccessNode) {
+            analyzeExpression(((FieldAccessNode) node).getRecord());
+        } else if (node instanceof ExpressionListNode) {
+            for (ExpressionNode expr : ((ExpressionListNode) node).getExpressions()) {
+                analyzeExpression(expr);
+            }
+        } else if (node instanceof SavedValueNode) {
+            // Later reads of the saved value have the range of the expression
+            SavedValueNode saved = (SavedValueNode) node;
+            analyzeExpression(saved.getExpression());
+            long[] range = rangeOf(saved.getExpression());
+            if (range != null) {
+                ranges.put(saved.getName(), range);
+            }
+        } else if (node instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) node;
+            analyzeExpression(access.getArray());
+            analyzeExpression(access.getIndex());
+            checkAccess(access);
+        }
+    }
+
+    private void checkAccess(ArrayAccessNode access) {
+        TypeNode arrayType = typeOf(access.getArray());
+        long[] range = rangeOf(access.getIndex());
+        if (!(arrayType instanceof ArrayTypeNode) || range == null) {
+            return;
+        }
+        int size = ((ArrayTypeNode) arrayType).getSize();
+        if (range[0] >= 0 && range[1] < size) {
+            access.setIndexInBounds(true);
+            if (!(access.getIndex() instanceof NumberNode)) {
+                System.out.println("Optimization: Index of " + describe(access) + " is within bounds ["
+                        + range[0] + ", " + range[1] + "] of " + size + " elements.");
+            }
+        } else if ((range[1] < 0 || range[0] >= size) && !(access.getIndex() instanceof NumberNode)) {
+            // Constant indexes are already reported by the semantic checks
+            errors.accept("Semantic Error: Array index out of bounds: index of " + describe(access)
+                    + " ranges over [" + range[0] + ", " + range[1] + "] but the array has " + size + " elements.");
+        }
+    }
+
+    private void checkDivisor(BinaryOpNode division) {
+        long[] range = rangeOf(division.getRight());
+        if (range != null && (range[0] > 0 || range[1] < 0)) {
+            division.setDivisorNonZero(true);
+            if (!(division.getRight() instanceof NumberNode)) {
+                System.out.println("Optimization: Divisor of " + describe(division) + " is never zero.");
+            }
+        }
+    }
+
+    private TypeNode typeOf(ExpressionNode expr) {
+        if (expr.getResolvedType() != null) {
+            return expr.getResolvedType();
+        } else if (expr instanceof IdentifierNode) {
+            return variableTypes.get(((IdentifierNode) expr).getName());
+        } else if (expr instanceof ArrayAccessNode) {
+            TypeNode arrayType = typeOf(((ArrayAccessNode) expr).getArray());
+            return arrayType instanceof ArrayTypeNode ? ((ArrayTypeNode) arrayType).getElementType() : null;
+        }
+        return null;
+    }
+
+    // Interval of the values expr can take, or null when it is not known or may overflow an int
+    private long[] rangeOf(ExpressionNode expr) {
+        if (expr instanceof NumberNode) {
+            int value = ((NumberNode) expr).getValue();
+            return new long[] {value, value};
+        } else if (expr instanceof IdentifierNode) {
+            return ranges.get(((IdentifierNode) expr).getName());
+        } else if (expr instanceof SavedValueNode) {
+            return rangeOf(((SavedValueNode) expr).getExpression());
+        } else if (!(expr instanceof BinaryOpNode)) {
+            return null;
+        }
+
+        BinaryOpNode binOp = (BinaryOpNode) expr;
+        long[] left = rangeOf(binOp.getLeft());
+        long[] right = rangeOf(binOp.getRight());
+        if (left == null || right == null) {
+            return null;
+        }
+        long[] result;
+        switch (binOp.getOperator()) {
+            case "+":
+                result = new long[] {left[0] + right[0], left[1] + right[1]};
+                break;
+            case "-":
+                result = new long[] {left[0] - right[1], left[1] - right[0]};
+                break;
+            case "*": {
+                long a = left[0] * right[0], b = left[0] * right[1], c = left[1] * right[0], d = left[1] * right[1];
+                result = new long[] {Math.min(Math.min(a, b), Math.min(c, d)), Math.max(Math.max(a, b), Math.max(c, d))};
+                break;
+            }
+            case "/":
+                // Truncating division by a positive constant preserves order
+                if (right[0] != right[1] || right[0] <= 0) {
+                    return null;
+                }
+                result = new long[] {left[0] / right[0], left[1] / right[0]};
+                break;
+            case "mod": {
+                // The remainder is smaller than the divisor and takes the sign of the dividend
+                if (right[0] <= 0 && right[1] >= 0) {
+                    return null;
+                }
+                long limit = Math.max(Math.abs(right[0]), Math.abs(right[1])) - 1;
+                result = new long[] {left[0] >= 0 ? 0 : Math.max(left[0], -limit), left[1] <= 0 ? 0 : Math.min(left[1], limit)};
+                break;
+            }
+            default:
+                return null;
+        }
+        if (result[0] < Integer.MIN_VALUE || result[1] > Integer.MAX_VALUE) {
+            return null;
+        }
+        return result;
+    }
+
+    // Whether any statement under node assigns the variable name
+    private boolean isAssigned(StatementNode node, String name) {
+        if (node instanceof AssignmentNode) {
+            ExpressionNode variable = ((AssignmentNode) node).getVariable();
+            return variable instanceof IdentifierNode && ((IdentifierNode) variable).getName().equals(name);
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                if (isAssigned(stmt, name)) {
+                    return true;
+                }
+            }
+        } else if (node instanceof IfElseNode) {
+            return isAssigned(((IfElseNode) node).getThenStmt(), name) || isAssigned(((IfElseNode) node).getElseStmt(), name);
+        } else if (node instanceof WhileLoopNode) {
+            return isAssigned(((WhileLoopNode) node).getBody(), name);
+        } else if (node instanceof ForLoopNode) {
+            return isAssigned(((ForLoopNode) node).getBody(), name);
+        }
+        return false;
+    }
+
+    // Source-like text of an expression for messages
+    static String describe(ExpressionNode expr) {
+        if (expr instanceof NumberNode) {
+            return String.valueOf(((NumberNode) expr).getValue());
+        } else if (expr instanceof RealNode) {
+            return String.valueOf(((RealNode) expr).getValue());
+        } else if (expr instanceof BooleanNode) {
+            return String.valueOf(((BooleanNode) expr).isValue());
+        } else if (expr instanceof IdentifierNode) {
+            return ((IdentifierNode) expr).getName();
+        } else if (expr instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) expr;
+            return describe(access.getArray()) + "[" + describe(access.getIndex()) + "]";
+        } else if (expr instanceof FieldAccessNode) {
+            return describe(((FieldAccessNode) expr).getRecord()) + "." + ((FieldAccessNode) expr).getFieldName();
+        } else if (expr instanceof FunctionCallNode) {
+            return ((FunctionCallNode) expr).getFunctionName() + "(...)";
+        } else if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            String left = describe(binOp.getLeft());
+            String right = describe(binOp.getRight());
+            if (binOp.getRight() instanceof BinaryOpNode) {
+                right = "(" + right + ")";
+            }
+            return left + " " + binOp.getOperator() + " " + right;
+        } else if (expr instanceof SavedValueNode) {
+            return describe(((SavedValueNode) expr).getExpression());
+        } else if (expr instanceof UnaryOpNode) {
+            return ((UnaryOpNode) expr).getOperator().toLowerCase() + " " + describe(((UnaryOpNode) expr).getExpr());
+        }
+        return "...";
+    }
+}
@@ -6,18 +6,120 @@ public class SemanticAnalyzer {
     private Set<String> usedVariables = new HashSet<>();
     private Set<String> declaredVariables = new HashSet<>();
     private Set<String> unusedVariables = new HashSet<>();
+    // Names declared in the current scope: the program, or the routine being checked
+    private Set<String> scopeNames = new HashSet<>();
     private boolean insideLoop = false;
     private boolean insideFunction = false;
+    // Errors found in the current program, in the order they were reported
+    private List<String> diagnostics = new ArrayList<>();
+    private boolean printDiagnostics = true;
+    private TypeResolver typeResolver = new TypeResolver(this::report);
+    private RangeAnalyzer rangeAnalyzer = new RangeAnalyzer(this::report);
+    private LoopInvariantCodeMotion loopInvariantCodeMotion = new LoopInvariantCodeMotion();
+    private ValueNumbering valueNumbering = new ValueNumbering();
+    private ConditionalConstantPropagation conditionalConstantPropagation = new ConditionalConstantPropagation();
+    private boolean hoistLoopInvariants = true;
+    private boolean propagateConditionalConstants = true;
+    // Whether a routine is free of side effects and always returns normally, by name
+    private Map<String, Boolean> pureFunctions = new HashMap<>();
+    // Constants and copies known at the current point of performOptimizations
+    private KnownValues knownValues = new KnownValues();
 
     public void analyze(ProgramNode ast) {
+        analyze(ast, null);
+    }
+
+    // Records every analysis step as a separate phase when metrics are given
+    public void analyze(ProgramNode ast, CompilationMetrics metrics) {
+        // Replace type names with the types they declare
+        if (metrics != null) metrics.startPhase("typeResolution");
+        typeResolver.resolve(ast);
+
         // Perform semantic analysis checks
+        if (metrics != null) metrics.startPhase("performSemanticChecks");
         performSemanticChecks(ast);
 
         // Remove unused variables
+        if (metrics != null) metrics.startPhase("removeUnusedVariables");
         removeUnusedVariables(ast);
 
         // Perform optimizations
+        if (metrics != null) metrics.startPhase("performOptimizations");
         performOptimizations(ast);
+
+        // Remove code that only the propagated constants show to be unreachable
+        if (propagateConditionalConstants) {
+            if (metrics != null) metrics.startPhase("conditionalConstantPropagation");
+            conditionalConstantPropagation.optimize(ast, this::evaluateConstant);
+        }
+
+        // Move expressions that do not change inside a loop out of it
+        if (hoistLoopInvariants) {
+            if (metrics != null) metrics.startPhase("loopInvariantCodeMotion");
+            loopInvariantCodeMotion.optimize(ast, this::isPureFunction);
+        }
+
+        // Reuse values computed earlier in the same routine instead of computing them again
+        if (metrics != null) metrics.startPhase("valueNumbering");
+        valueNumbering.optimize(ast, this::isPureFunction);
+
+        // Prove array indexes in bounds on the optimized tree
+        if (metrics != null) metrics.startPhase("rangeAnalysis");
+        rangeAnalyzer.analyze(ast);
+        if (metrics != null) metrics.endPhase();
+    }
+
+    // Loop-invariant code motion is on by default; turning it off lets its effect be measured
+    public void setHoistLoopInvariants(boolean hoistLoopInvariants) {
+        this.hoistLoopInvariants = hoistLoopInvariants;
+    }
+
+    // Conditional constant propagation is on by default; turning it off lets its effect be measured
+    public void setPropagateConditionalConstants(boolean propagateConditionalConstants) {
+        this.propagateConditionalConstants = propagateConditionalConstants;
+    }
+
+    // Errors are printed to System.err as they are found by default; either way they are collected
+    public void setPrintDiagnostics(boolean printDiagnostics) {
+        this.printDiagnostics = printDiagnostics;
+    }
+
+    // Semantic and type errors of the last analyzed program; empty when it is valid
+    public List<String> getDiagnostics() {
+        return Collections.unmodifiableList(diagnostics);
+    }
+
+    private void report(String message) {
+        diagnostics.add(message);
+        if (printDiagnostics) {
+            System.err.println(message);
+        }
+    }
+
+    // Number of nodes in the tree rooted at node
+    public int countNodes(ASTNode node) {
+        int count = 1;
+        for (ASTNode child : getChildren(node)) {
+            if (child != null) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    // Clears all per-unit state so the same analyzer can check another program
+    public void reset() {
+        symbolTable.clear();
+        functionTable.clear();
+        usedVariables.clear();
+        declaredVariables.clear();
+        unusedVariables.clear();
+        scopeNames.clear();
+        insideLoop = false;
+        insideFunction = false;
+        pureFunctions.clear();
+        knownValues = new KnownValues();
+        diagnostics.clear();
     }
 
     /* Semantic Analysis Methods */
@@ -44,7 +146,7 @@ private void performSemanticChecks(ProgramNode node) {
         if (child instanceof FunctionNode) {
             FunctionNode functionNode = (FunctionNode) child;
             if (functionTable.containsKey(functionNode.getIdentifier())) {
-                System.err.println("Semantic Error: Function '" + functionNode.getIdentifier() + "' is already declared.");
+                report("Semantic Error: Function '" + functionNode.getIdentifier() + "' is already declared.");
             } else {
                 functionTable.put(functionNode.getIdentifier(), functionNode);
             }
@@ -59,14 +161,15 @@ private void performSemanticChecks(ProgramNode node) {
 
 
     private void performSemanticChecks(FunctionNode node) {
-        if (functionTable.containsKey(node.getIdentifier())) {
-            System.err.println("Semantic Error: Function '" + node.getIdentifier() + "' is already declared.");
-        } else {
-            functionTable.put(node.getIdentifier(), node);
-        }
+        // Registered, and duplicates reported, by the first pass over the program
+        functionTable.putIfAbsent(node.getIdentifier(), node);
 
         boolean previousInsideFunction = insideFunction;
         insideFunction = true;
+        // Parameters and locals are visible in the routine only
+        Map<String, TypeNode> outerSymbols = new HashMap<>(symbolTable);
+        Set<String> outerScopeNames = scopeNames;
+        scopeNames = new HashSet<>();
 
         // Check function parameters
         if (node.getParameters() != null) {
@@ -81,17 +184,22 @@ private void performSemanticChecks(ProgramNode node) {
         }
 
         insideFunction = previousInsideFunction;
+        symbolTable = outerSymbols;
+        scopeNames = outerScopeNames;
     }
 
     private void performSemanticChecks(DeclarationNode node) {
         String id = node.getIdentifier();
-        if (symbolTable.containsKey(id)) {
-            System.err.println("Semantic Error: Variable '" + id + "' is already declared.");
+        if (scopeNames.contains(id)) {
+            report("Semantic Error: Variable '" + id + "' is already declared.");
         } else {
-            // Add the variable to the symbol table
+            // Add the variable to the symbol table, hiding a global of the same name inside a routine
             symbolTable.put(id, node.getType());
-            declaredVariables.add(id);
-            unusedVariables.add(id);
+            scopeNames.add(id);
+            // Unused variables are tracked by name, so only the first declaration of a name is
+            if (declaredVariables.add(id)) {
+                unusedVariables.add(id);
+            }
         }
 
         // Perform semantic checks on the expression assigned
@@ -99,9 +207,8 @@ private void performSemanticChecks(ProgramNode node) {
             performSemanticChecks(node.getExpression());
 
             // Type checking: check that the type of the expression matches the declared type
-            TypeNode exprType = getType(node.getExpression());
-            if (!typeEquals(node.getType(), exprType)) {
-                System.err.println("Type Error: Cannot assign expression of type " + typeName(exprType) +
+            if (!isAssignable(node.getType(), node.getExpression())) {
+                report("Type Error: Cannot assign expression of type " + typeName(getType(node.getExpression())) +
                         " to variable '" + id + "' of type " + typeName(node.getType()));
             }
         }
@@ -132,28 +239,30 @@ private void performSemanticChecks(ProgramNode node) {
                     id = ((IdentifierNode) fieldAccess.getRecord()).getName();
                 }
             } else {
-                System.err.println("Semantic Error: Invalid assignment target.");
+                report("Semantic Error: Invalid assignment target.");
             }
 
             if (id != null) {
                 if (!symbolTable.containsKey(id)) {
-                    System.err.println("Semantic Error: Variable '" + id + "' is not declared.");
+                    report("Semantic Error: Variable '" + id + "' is not declared.");
                 } else {
                     unusedVariables.remove(id);
                     usedVariables.add(id);
 
-                    // Type checking
-                    TypeNode varType = symbolTable.get(id);
-                    TypeNode exprType = getType(assignNode.getExpression());
-                    if (!typeEquals(varType, exprType)) {
-                        System.err.println("Type Error: Cannot assign expression of type " + typeName(exprType) +
+                    // Type checking against the element or field assigned, not the whole variable
+                    TypeNode varType = assignNode.getVariable() instanceof IdentifierNode
+                            ? symbolTable.get(id) : getType(assignNode.getVariable());
+                    if (!isAssignable(varType, assignNode.getExpression())) {
+                        report("Type Error: Cannot assign expression of type " + typeName(getType(assignNode.getExpression())) +
                                 " to variable '" + id + "' of type " + typeName(varType));
                     }
                 }
             }
+        } else if (node instanceof PrintNode) {
+            performSemanticChecks(((PrintNode) node).getExpression());
         } else if (node instanceof ReturnNode) {
             if (!insideFunction) {
-                System.err.println("Semantic Error: 'return' statement not inside a function.");
+                report("Semantic Error: 'return' statement not inside a function.");
             } else {
                 performSemanticChecks(((ReturnNode) node).getExpr());
             }
@@ -164,7 +273,7 @@ private void performSemanticChecks(ProgramNode node) {
             // Type checking: condition must be boolean
             TypeNode conditionType = getType(ifNode.getCondition());
             if (!(conditionType instanceof BooleanTypeNode)) {
-                System.err.println("Type Error: Condition in 'if' statement must be boolean.");
+                report("Type Error: Condition in 'if' statement must be boolean.");
             }
 
             performSemanticChecks(ifNode.getThenStmt());
@@ -181,7 +290,7 @@ private void performSemanticChecks(ProgramNode node) {
             // Type checking: condition must be boolean
             TypeNode conditionType = getType(whileNode.getCondition());
             if (!(conditionType instanceof BooleanTypeNode)) {
-                System.err.println("Type Error: Condition in 'while' loop must be boolean.");
+                report("Type Error: Condition in 'while' loop must be boolean.");
             }
 
             performSemanticChecks(whileNode.getBody());
@@ -193,13 +302,10 @@ private void performSemanticChecks(ProgramNode node) {
 
             ForLoopNode forNode = (ForLoopNode) node;
 
-            // Declare loop variable
+            // Declare loop variable; it hides a variable of the same name until the loop ends
             String iteratorName = forNode.getIterator().getName();
-            if (symbolTable.containsKey(iteratorName)) {
-                System.err.println("Semantic Error: Variable '" + iteratorName + "' is already declared.");
-            } else {
-                symbolTable.put(iteratorName, new IntegerTypeNode());
-                declaredVariables.add(iteratorName);
+            TypeNode outerType = symbolTable.put(iteratorName, IntegerTypeNode.INSTANCE);
+            if (declaredVariables.add(iteratorName)) {
                 unusedVariables.add(iteratorName);
             }
 
@@ -210,13 +316,26 @@ private void performSemanticChecks(ProgramNode node) {
             TypeNode startType = getType(forNode.getStart());
             TypeNode endType = getType(forNode.getEnd());
             if (!(startType instanceof IntegerTypeNode) || !(endType instanceof IntegerTypeNode)) {
-                System.err.println("Type Error: Start and end expressions in 'for' loop must be integers.");
+                report("Type Error: Start and end expressions in 'for' loop must be integers.");
+            }
+
+            if (forNode.getStep() != null) {
+                performSemanticChecks(forNode.getStep());
+                if (!(getType(forNode.getStep()) instanceof IntegerTypeNode)) {
+                    report("Type Error: Step expression in 'for' loop must be an integer.");
+                } else if (forNode.getStep() instanceof NumberNode && ((NumberNode) forNode.getStep()).getValue() <= 0) {
+                    report("Semantic Error: Step of 'for' loop must be positive.");
+                }
             }
 
             performSemanticChecks(forNode.getBody());
 
             // Remove loop variable from symbol table after loop
-            symbolTable.remove(iteratorName);
+            if (outerType != null) {
+                symbolTable.put(iteratorName, outerType);
+            } else {
+                symbolTable.remove(iteratorName);
+            }
 
             insideLoop = previousInsideLoop;
         } else if (node instanceof StatementBlockNode) {
@@ -238,16 +357,17 @@ private void performSemanticChecks(ProgramNode node) {
             TypeNode leftType = getType(binOp.getLeft());
             TypeNode rightType = getType(binOp.getRight());
             if (!typeEquals(leftType, rightType)) {
-                System.err.println("Type Error: Mismatched types in binary operation: " +
+                report("Type Error: Mismatched types in binary operation: " +
                         typeName(leftType) + " and " + typeName(rightType));
             } else {
                 String operator = binOp.getOperator();
-                if ((operator.equals("+") || operator.equals("-") || operator.equals("*") || operator.equals("/"))
+                if (operator.equals("mod") && !(leftType instanceof IntegerTypeNode)) {
+                    report("Type Error: 'mod' requires integer operands.");
+                } else if ((operator.equals("+") || operator.equals("-") || operator.equals("*") || operator.equals("/"))
                         && !(leftType instanceof IntegerTypeNode || leftType instanceof RealTypeNode)) {
-                    System.err.println("Type Error: Arithmetic operations require numeric types.");
-                } else if ((operator.equals("==") || operator.equals(">") || operator.equals("<"))
-                        && !(leftType instanceof IntegerTypeNode || leftType instanceof RealTypeNode)) {
-                    System.err.println("Type Error: Comparison operations require numeric types.");
+                    report("Type Error: Arithmetic operations require numeric types.");
+                } else if (isComparison(operator) && !isComparable(operator, leftType)) {
+                    report("Type Error: Comparison operations require numeric types.");
                 }
             }
         } else if (node instanceof UnaryOpNode) {
@@ -257,15 +377,15 @@ private void performSemanticChecks(ProgramNode node) {
             // Type checking for unary operations
             TypeNode exprType = getType(unOp.getExpr());
             if (unOp.getOperator().equals("NOT") && !(exprType instanceof BooleanTypeNode)) {
-                System.err.println("Type Error: 'NOT' operator requires boolean type.");
+                report("Type Error: 'NOT' operator requires boolean type.");
             } else if (unOp.getOperator().equals("-") && !(exprType instanceof IntegerTypeNode || exprType instanceof RealTypeNode)) {
-                System.err.println("Type Error: Unary minus requires numeric type.");
+                report("Type Error: Unary minus requires numeric type.");
             }
         } else if (node instanceof IdentifierNode) {
             IdentifierNode idNode = (IdentifierNode) node;
             String id = idNode.getName();
             if (!symbolTable.containsKey(id)) {
-                System.err.println("Semantic Error: Variable '" + id + "' is not declared.");
+                report("Semantic Error: Variable '" + id + "' is not declared.");
             } else {
                 unusedVariables.remove(id);
                 usedVariables.add(id);
@@ -278,19 +398,19 @@ private void performSemanticChecks(ProgramNode node) {
             // Type checking: array must be an array type
             TypeNode arrayType = getType(arrayNode.getArray());
             if (!(arrayType instanceof ArrayTypeNode)) {
-                System.err.println("Type Error: Attempting to index a non-array type.");
+                report("Type Error: Attempting to index a non-array type.");
             } else {
                 // Check index type
                 TypeNode indexType = getType(arrayNode.getIndex());
                 if (!(indexType instanceof IntegerTypeNode)) {
-                    System.err.println("Type Error: Array index must be of integer type.");
+                    report("Type Error: Array index must be of integer type.");
                 } else {
                     // Array bounds checking if index is constant
                     if (arrayNode.getIndex() instanceof NumberNode) {
                         int indexValue = ((NumberNode) arrayNode.getIndex()).getValue();
                         int arraySize = ((ArrayTypeNode) arrayType).getSize();
                         if (indexValue < 0 || indexValue >= arraySize) {
-                            System.err.println("Semantic Error: Array index out of bounds.");
+                            report("Semantic Error: Array index out of bounds.");
                         }
                     }
                 }
@@ -301,18 +421,11 @@ private void performSemanticChecks(ProgramNode node) {
 
             TypeNode recordType = getType(fieldNode.getRecord());
             if (!(recordType instanceof RecordTypeNode)) {
-                System.err.println("Type Error: Attempting to access field of non-record type.");
+                report("Type Error: Attempting to access field of non-record type.");
             } else {
                 RecordTypeNode recType = (RecordTypeNode) recordType;
-                boolean fieldExists = false;
-                for (DeclarationNode field : recType.getFields()) {
-                    if (field.getIdentifier().equals(fieldNode.getFieldName())) {
-                        fieldExists = true;
-                        break;
-                    }
-                }
-                if (!fieldExists) {
-                    System.err.println("Semantic Error: Field '" + fieldNode.getFieldName() + "' does not exist in record.");
+                if (recType.getField(fieldNode.getFieldName()) == null) {
+                    report("Semantic Error: Field '" + fieldNode.getFieldName() + "' does not exist in record.");
                 }
             }
         }
@@ -322,7 +435,7 @@ private void performSemanticChecks(ProgramNode node) {
 
             // Check if the function is declared
             if (!functionTable.containsKey(functionName)) {
-                System.err.println("Semantic Error: Function '" + functionName + "' is not declared.");
+                report("Semantic Error: Function '" + functionName + "' is not declared.");
             } else {
                 FunctionNode function = functionTable.get(functionName);
                 List<DeclarationNode> params = function.getParameters();
@@ -330,7 +443,7 @@ private void performSemanticChecks(ProgramNode node) {
 
                 // Check if the number of arguments matches
                 if (params.size() != args.size()) {
-                    System.err.println("Semantic Error: Function '" + functionName + "' expects " +
+                    report("Semantic Error: Function '" + functionName + "' expects " +
                             params.size() + " arguments but got " + args.size() + ".");
                 } else {
                     // Check if argument types match parameter types
@@ -344,7 +457,7 @@ private void performSemanticChecks(ProgramNode node) {
                         TypeNode argType = getType(arg);
 
                         if (!typeEquals(paramType, argType)) {
-                            System.err.println("Type Error: Argument " + (i + 1) + " of function '" + functionName +
+                            report("Type Error: Argument " + (i + 1) + " of function '" + functionName +
                                     "' expects type " + typeName(paramType) + " but got " + typeName(argType) + ".");
                         }
                     }
@@ -355,19 +468,29 @@ private void performSemanticChecks(ProgramNode node) {
         // Handle other expression types if necessary
     }
 
+    // Types are computed once per expression and stored on the node for the later phases
     private TypeNode getType(ExpressionNode expr) {
+        TypeNode type = expr.getResolvedType();
+        if (type == null) {
+            type = computeType(expr);
+            expr.setResolvedType(type);
+        }
+        return type;
+    }
+
+    private TypeNode computeType(ExpressionNode expr) {
         if (expr instanceof NumberNode) {
-            return new IntegerTypeNode();
+            return IntegerTypeNode.INSTANCE;
         } else if (expr instanceof RealNode) {
-            return new RealTypeNode();
+            return RealTypeNode.INSTANCE;
         } else if (expr instanceof BooleanNode) {
-            return new BooleanTypeNode();
+            return BooleanTypeNode.INSTANCE;
         } else if (expr instanceof IdentifierNode) {
             String id = ((IdentifierNode) expr).getName();
             if (symbolTable.containsKey(id)) {
                 return symbolTable.get(id);
             } else {
-                System.err.println("Semantic Error: Variable '" + id + "' is not declared.");
+                report("Semantic Error: Variable '" + id + "' is not declared.");
                 return null;
             }
         } else if (expr instanceof BinaryOpNode) {
@@ -378,9 +501,9 @@ private void performSemanticChecks(ProgramNode node) {
                 return null;
             }
             String operator = binOp.getOperator();
-            if (operator.equals("==") || operator.equals(">") || operator.equals("<")
+            if (isComparison(operator)
                     || operator.equals("AND") || operator.equals("OR") || operator.equals("XOR")) {
-                return new BooleanTypeNode();
+                return BooleanTypeNode.INSTANCE;
             }
             return leftType;
         } else if (expr instanceof UnaryOpNode) {
@@ -396,11 +519,9 @@ private void performSemanticChecks(ProgramNode node) {
         } else if (expr instanceof FieldAccessNode) {
             TypeNode recordType = getType(((FieldAccessNode) expr).getRecord());
             if (recordType instanceof RecordTypeNode) {
-                RecordTypeNode recType = (RecordTypeNode) recordType;
-                for (DeclarationNode field : recType.getFields()) {
-                    if (field.getIdentifier().equals(((FieldAccessNode) expr).getFieldName())) {
-                        return field.getType();
-                    }
+                RecordField field = ((RecordTypeNode) recordType).getField(((FieldAccessNode) expr).getFieldName());
+                if (field != null) {
+                    return field.getType();
                 }
             }
             return null;
@@ -410,7 +531,7 @@ private void performSemanticChecks(ProgramNode node) {
 
             // Check if the function is declared
             if (!functionTable.containsKey(functionName)) {
-                System.err.println("Semantic Error: Function '" + functionName + "' is not declared.");
+                report("Semantic Error: Function '" + functionName + "' is not declared.");
                 return null;
             } else {
                 FunctionNode function = functionTable.get(functionName);
@@ -420,6 +541,17 @@ private void performSemanticChecks(ProgramNode node) {
         return null;
     }
 
+    private boolean isComparison(String operator) {
+        return operator.equals("==") || operator.equals("/=") || operator.equals(">") || operator.equals("<")
+                || operator.equals(">=") || operator.equals("<=");
+    }
+
+    // Integers and reals can be ordered; booleans can only be compared for equality
+    private boolean isComparable(String operator, TypeNode type) {
+        return type instanceof IntegerTypeNode || type instanceof RealTypeNode
+                || (type instanceof BooleanTypeNode && (operator.equals("==") || operator.equals("/=")));
+    }
+
     private boolean typeEquals(TypeNode t1, TypeNode t2) {
         if (t1 == null || t2 == null) {
             return false;
@@ -427,6 +559,26 @@ private void performSemanticChecks(ProgramNode node) {
         return t1.getClass().equals(t2.getClass());
     }
 
+    // Array literals are checked element by element and string literals have no computed type
+    private boolean isAssignable(TypeNode target, ExpressionNode expr) {
+        if (expr instanceof ExpressionListNode) {
+            if (!(target instanceof ArrayTypeNode)) {
+                return false;
+            }
+            TypeNode elementType = ((ArrayTypeNode) target).getElementType();
+            for (ExpressionNode element : ((ExpressionListNode) expr).getExpressions()) {
+                if (!isAssignable(elementType, element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (expr instanceof StringNode) {
+            return target instanceof StringTypeNode;
+        }
+        return typeEquals(target, getType(expr));
+    }
+
     private String typeName(TypeNode type) {
         if (type == null) {
             return "Unknown";
@@ -529,6 +681,8 @@ private void performSemanticChecks(ProgramNode node) {
                 ForLoopNode forNode = (ForLoopNode) node;
                 children.add(forNode.getStart());
                 children.add(forNode.getEnd());
+                if (forNode.getStep() != null)
+                    children.add(forNode.getStep());
                 if (forNode.getBody() != null)
                     children.add(forNode.getBody());
             } else if (node instanceof AssignmentNode) {
@@ -542,6 +696,10 @@ private void performSemanticChecks(ProgramNode node) {
             } else if (node instanceof StatementBlockNode) {
                 StatementBlockNode blockNode = (StatementBlockNode) node;
                 children.addAll(blockNode.getStatements());
+            } else if (node instanceof PrintNode) {
+                children.add(((PrintNode) node).getExpression());
+            } else if (node instanceof TemporaryNode) {
+                children.add(((TemporaryNode) node).getExpression());
             }
         } else if (node instanceof ExpressionNode) {
             if (node instanceof BinaryOpNode) {
@@ -558,6 +716,12 @@ private void performSemanticChecks(ProgramNode node) {
             } else if (node instanceof FieldAccessNode) {
                 FieldAccessNode fieldNode = (FieldAccessNode) node;
                 children.add(fieldNode.getRecord());
+            } else if (node instanceof FunctionCallNode) {
+                children.addAll(((FunctionCallNode) node).getArguments());
+            } else if (node instanceof ExpressionListNode) {
+                children.addAll(((ExpressionListNode) node).getExpressions());
+            } else if (node instanceof SavedValueNode) {
+                children.add(((SavedValueNode) node).getExpression());
             }
         } else if (node instanceof TypeNode) {
             if (node instanceof ArrayTypeNode) {
@@ -590,9 +754,13 @@ private void performSemanticChecks(ProgramNode node) {
     }
 
     private void performOptimizations(ProgramNode node) {
+        // Statements may replace themselves in the list, so walk it by position
+        List<ASTNode> children = node.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            performOptimizations(children.get(i));
+        }
         List<ASTNode> optimizedChildren = new ArrayList<>();
-        for (ASTNode child : node.getChildren()) {
-            performOptimizations(child);
+        for (ASTNode child : children) {
             if (!(child instanceof EmptyNode)) {
                 optimizedChildren.add(child);
             }
@@ -602,7 +770,11 @@ private void performSemanticChecks(ProgramNode node) {
 
     private void performOptimizations(FunctionNode node) {
         if (node.getBody() != null) {
+            // Nothing is known about the parameters; the main program's values are restored afterwards
+            KnownValues mainValues = knownValues;
+            knownValues = new KnownValues();
             performOptimizations(node.getBody());
+            knownValues = mainValues;
         }
     }
 
@@ -610,14 +782,31 @@ private void performSemanticChecks(ProgramNode node) {
     private void performOptimizations(DeclarationNode node) {
         if (node.getExpression() != null) {
             node.setExpression(optimizeExpression(node.getExpression()));
+            recordAssignment(node.getIdentifier(), node.getExpression());
+        } else {
+            // Scalars start out as zero
+            TypeNode type = node.getType();
+            ExpressionNode initial = type instanceof IntegerTypeNode ? new NumberNode(0)
+                    : type instanceof RealTypeNode ? new RealNode(0.0)
+                    : type instanceof BooleanTypeNode ? new BooleanNode(false) : null;
+            recordAssignment(node.getIdentifier(), initial);
         }
     }
 
     private void performOptimizations(StatementNode node) {
-        if (node instanceof IfElseNode) {
+        if (node instanceof StatementBlockNode) {
+            List<StatementNode> statements = ((StatementBlockNode) node).getStatements();
+            for (int i = 0; i < statements.size(); i++) {
+                performOptimizations(statements.get(i));
+            }
+            statements.removeIf(stmt -> stmt instanceof EmptyNode);
+        } else if (node instanceof IfElseNode) {
             IfElseNode ifNode = (IfElseNode) node;
             ifNode.setCondition(optimizeExpression(ifNode.getCondition()));
+            KnownValues beforeBranches = knownValues.copy();
             performOptimizations(ifNode.getThenStmt());
+            KnownValues afterThen = knownValues;
+            knownValues = beforeBranches;
             if (ifNode.getElseStmt() != null) {
                 performOptimizations(ifNode.getElseStmt());
             }
@@ -626,6 +815,7 @@ private void performSemanticChecks(ProgramNode node) {
                 boolean conditionValue = ((BooleanNode) ifNode.getCondition()).isValue();
                 if (conditionValue) {
                     // Replace the if-else node with the then statement
+                    knownValues = afterThen;
                     replaceNodeInParent(ifNode, ifNode.getThenStmt());
                     System.out.println("Optimization: Simplified if-else statement with constant true condition.");
                 } else if (ifNode.getElseStmt() != null) {
@@ -637,11 +827,26 @@ private void performSemanticChecks(ProgramNode node) {
                     replaceNodeInParent(ifNode, new EmptyNode());
                     System.out.println("Optimization: Removed if-else statement with constant false condition and no else branch.");
                 }
+            } else {
+                knownValues.retainCommon(afterThen);
             }
         } else if (node instanceof WhileLoopNode) {
             WhileLoopNode whileNode = (WhileLoopNode) node;
+            // A loop whose condition is false with the values known on entry never runs
+            ExpressionNode onEntry = evaluateConstant(whileNode.getCondition(), knownValues.constants);
+            if (onEntry instanceof BooleanNode && !((BooleanNode) onEntry).isValue()) {
+                replaceNodeInParent(whileNode, new EmptyNode());
+                System.out.println("Optimization: Removed while loop whose condition is false on entry.");
+                return;
+            }
+            // Values the loop changes are unknown in its condition, in its body and after it
+            Set<String> assigned = new HashSet<>();
+            collectAssignedVariables(whileNode.getBody(), assigned);
+            knownValues.killAll(assigned);
             whileNode.setCondition(optimizeExpression(whileNode.getCondition()));
+            KnownValues afterCondition = knownValues.copy();
             performOptimizations(whileNode.getBody());
+            knownValues = afterCondition;
 
             // Remove unreachable code if condition is constant false
             if (whileNode.getCondition() instanceof BooleanNode) {
@@ -656,20 +861,57 @@ private void performSemanticChecks(ProgramNode node) {
             ForLoopNode forNode = (ForLoopNode) node;
             forNode.setStart(optimizeExpression(forNode.getStart()));
             forNode.setEnd(optimizeExpression(forNode.getEnd()));
+            if (forNode.getStep() != null) {
+                boolean literalStep = forNode.getStep() instanceof NumberNode;
+                forNode.setStep(optimizeExpression(forNode.getStep()));
+                // A literal step was checked with the rest of the loop; one that folds or propagates to a constant is checked here
+                if (!literalStep && forNode.getStep() instanceof NumberNode
+                        && ((NumberNode) forNode.getStep()).getValue() <= 0) {
+                    report("Semantic Error: Step of 'for' loop must be positive.");
+                }
+            }
+            if (forNode.getStart() instanceof NumberNode && forNode.getEnd() instanceof NumberNode
+                    && ((NumberNode) forNode.getStart()).getValue() > ((NumberNode) forNode.getEnd()).getValue()) {
+                replaceNodeInParent(forNode, new EmptyNode());
+                System.out.println("Optimization: Removed 'for' loop with empty range.");
+                return;
+            }
+            // The iterator hides any variable of the same name, which the body therefore cannot change
+            String iteratorName = forNode.getIterator().getName();
+            KnownValues outer = knownValues.copy();
+            Set<String> assigned = new HashSet<>();
+            collectAssignedVariables(forNode.getBody(), assigned);
+            assigned.add(iteratorName);
+            knownValues.killAll(assigned);
+            KnownValues afterLoop = knownValues.copy();
             performOptimizations(forNode.getBody());
+            knownValues = afterLoop;
+            knownValues.restore(iteratorName, outer);
         } else if (node instanceof AssignmentNode) {
             AssignmentNode assignNode = (AssignmentNode) node;
+            if (assignNode.getVariable() instanceof ArrayAccessNode) {
+                ArrayAccessNode access = (ArrayAccessNode) assignNode.getVariable();
+                access.setIndex(optimizeExpression(access.getIndex()));
+            }
             assignNode.setExpression(optimizeExpression(assignNode.getExpression()));
+            if (assignNode.getVariable() instanceof IdentifierNode) {
+                recordAssignment(((IdentifierNode) assignNode.getVariable()).getName(), assignNode.getExpression());
+            }
         } else if (node instanceof ReturnNode) {
             ReturnNode returnNode = (ReturnNode) node;
             returnNode.setExpr(optimizeExpression(returnNode.getExpr()));
             // Remove unreachable code after return
             removeUnreachableCode(returnNode);
+        } else if (node instanceof PrintNode) {
+            PrintNode printNode = (PrintNode) node;
+            printNode.setExpression(optimizeExpression(printNode.getExpression()));
         }
     }
 
     private ExpressionNode optimizeExpression(ExpressionNode node) {
-        if (node instanceof BinaryOpNode) {
+        if (node instanceof IdentifierNode) {
+            return propagateKnownValue((IdentifierNode) node);
+        } else if (node instanceof BinaryOpNode) {
             BinaryOpNode binOp = (BinaryOpNode) node;
             binOp.setLeft(optimizeExpression(binOp.getLeft()));
             binOp.setRight(optimizeExpression(binOp.getRight()));
@@ -677,11 +919,14 @@ private void performSemanticChecks(ProgramNode node) {
             // Constant folding
             if (isConstant(binOp.getLeft()) && isConstant(binOp.getRight())) {
                 ExpressionNode result = foldConstants(binOp);
-                if (result != null) {
+                if (result != null && result != binOp) {
                     System.out.println("Optimization: Simplified binary operation '" + binOp.getOperator() + "' with constants.");
                     return result;
                 }
             }
+            if (binOp.getOperator().equals("AND") || binOp.getOperator().equals("OR")) {
+                return optimizeShortCircuit(binOp);
+            }
         } else if (node instanceof UnaryOpNode) {
             UnaryOpNode unOp = (UnaryOpNode) node;
             unOp.setExpr(optimizeExpression(unOp.getExpr()));
@@ -693,10 +938,477 @@ private void performSemanticChecks(ProgramNode node) {
                     return result;
                 }
             }
+        } else if (node instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) node;
+            access.setIndex(optimizeExpression(access.getIndex()));
+        } else if (node instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) node;
+            boolean constantArguments = true;
+            List<ExpressionNode> arguments = call.getArguments();
+            for (int i = 0; arguments != null && i < arguments.size(); i++) {
+                ExpressionNode argument = optimizeExpression(arguments.get(i));
+                argument.setParent(call);
+                arguments.set(i, argument);
+                constantArguments &= isConstant(argument);
+            }
+            // A routine that only computes with its scalar arguments can be run now
+            if (constantArguments) {
+                ExpressionNode result = evaluateConstant(call, Collections.emptyMap());
+                if (result != null) {
+                    System.out.println("Optimization: Evaluated call to '" + call.getFunctionName() + "' with constant arguments.");
+                    return result;
+                }
+            }
         }
         return node;
     }
 
+    /* Constant and Copy Propagation */
+
+    // Values of scalar variables known at the current point of the optimizations: variables that
+    // hold a constant, and variables that hold the same value as another variable
+    private static class KnownValues {
+        final Map<String, ExpressionNode> constants = new HashMap<>();
+        final Map<String, IdentifierNode> copies = new HashMap<>();
+
+        KnownValues copy() {
+            KnownValues copy = new KnownValues();
+            copy.constants.putAll(constants);
+            copy.copies.putAll(copies);
+            return copy;
+        }
+
+        // The variable changes: forget its value and every copy of it
+        void kill(String name) {
+            constants.remove(name);
+            copies.remove(name);
+            copies.values().removeIf(source -> source.getName().equals(name));
+        }
+
+        void killAll(Set<String> names) {
+            for (String name : names) {
+                kill(name);
+            }
+        }
+
+        // Keeps only what is also known, with the same value, on the other path
+        void retainCommon(KnownValues other) {
+            constants.entrySet().removeIf(entry -> !sameConstant(entry.getValue(), other.constants.get(entry.getKey())));
+            copies.entrySet().removeIf(entry -> other.copies.get(entry.getKey()) == null
+                    || !other.copies.get(entry.getKey()).getName().equals(entry.getValue().getName()));
+        }
+
+        // Takes the constant value of name from another point, where it referred to a different variable
+        void restore(String name, KnownValues other) {
+            kill(name);
+            if (other.constants.containsKey(name)) {
+                constants.put(name, other.constants.get(name));
+            }
+        }
+
+        private static boolean sameConstant(ExpressionNode a, ExpressionNode b) {
+            if (a instanceof NumberNode && b instanceof NumberNode) {
+                return ((NumberNode) a).getValue() == ((NumberNode) b).getValue();
+            } else if (a instanceof RealNode && b instanceof RealNode) {
+                return Double.compare(((RealNode) a).getValue(), ((RealNode) b).getValue()) == 0;
+            } else if (a instanceof BooleanNode && b instanceof BooleanNode) {
+                return ((BooleanNode) a).isValue() == ((BooleanNode) b).isValue();
+            }
+            return a == null && b == null;
+        }
+    }
+
+    // Updates the known values after name is given the value of expr
+    private void recordAssignment(String name, ExpressionNode expr) {
+        knownValues.kill(name);
+        if (isConstant(expr)) {
+            knownValues.constants.put(name, expr);
+        } else if (expr instanceof IdentifierNode && !((IdentifierNode) expr).getName().equals(name)) {
+            TypeNode type = expr.getResolvedType();
+            if (type instanceof IntegerTypeNode || type instanceof RealTypeNode || type instanceof BooleanTypeNode) {
+                knownValues.copies.put(name, (IdentifierNode) expr);
+            }
+        }
+    }
+
+    // Replaces a variable with its constant value or with the variable it is a copy of
+    private ExpressionNode propagateKnownValue(IdentifierNode node) {
+        String name = node.getName();
+        TypeNode type = node.getResolvedType();
+        ExpressionNode constant = knownValues.constants.get(name);
+        if (constant != null && (type == null || typeEquals(type, computeType(constant)))) {
+            System.out.println("Optimization: Replaced variable '" + name + "' with its constant value.");
+            return copyConstant(constant);
+        }
+        IdentifierNode source = knownValues.copies.get(name);
+        if (source != null && (type == null || typeEquals(type, source.getResolvedType()))) {
+            System.out.println("Optimization: Replaced variable '" + name + "' with its copy '" + source.getName() + "'.");
+            IdentifierNode replacement = new IdentifierNode(source.getName());
+            replacement.setResolvedType(source.getResolvedType());
+            return replacement;
+        }
+        return node;
+    }
+
+    private ExpressionNode copyConstant(ExpressionNode constant) {
+        if (constant instanceof NumberNode) {
+            return new NumberNode(((NumberNode) constant).getValue());
+        } else if (constant instanceof RealNode) {
+            return new RealNode(((RealNode) constant).getValue());
+        }
+        return new BooleanNode(((BooleanNode) constant).isValue());
+    }
+
+    // Adds the names of all variables, including loop iterators, that node may assign
+    private void collectAssignedVariables(StatementNode node, Set<String> assigned) {
+        if (node instanceof AssignmentNode) {
+            ExpressionNode variable = ((AssignmentNode) node).getVariable();
+            if (variable instanceof IdentifierNode) {
+                assigned.add(((IdentifierNode) variable).getName());
+            }
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                collectAssignedVariables(stmt, assigned);
+            }
+        } else if (node instanceof IfElseNode) {
+            collectAssignedVariables(((IfElseNode) node).getThenStmt(), assigned);
+            collectAssignedVariables(((IfElseNode) node).getElseStmt(), assigned);
+        } else if (node instanceof WhileLoopNode) {
+            collectAssignedVariables(((WhileLoopNode) node).getBody(), assigned);
+        } else if (node instanceof ForLoopNode) {
+            assigned.add(((ForLoopNode) node).getIterator().getName());
+            collectAssignedVariables(((ForLoopNode) node).getBody(), assigned);
+        }
+    }
+
+    /* Compile-Time Evaluation */
+
+    // Thrown when an expression cannot be evaluated at compile time
+    private static class NotConstantException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        NotConstantException() {
+            super(null, null, false, false);
+        }
+    }
+
+    // Limits on compile-time evaluation, so that long-running or deeply recursive routines are left to run time
+    private static final int EVALUATION_STEPS = 100_000;
+    private static final int EVALUATION_DEPTH = 200;
+    private int evaluationSteps;
+    private int evaluationDepth;
+
+    // Value of expr given the values of the variables it reads, or null if it is not known at compile
+    // time. Calls are run when the routine only computes with scalars and finishes within the limits.
+    private ExpressionNode evaluateConstant(ExpressionNode expr, Map<String, ExpressionNode> values) {
+        evaluationSteps = 0;
+        evaluationDepth = 0;
+        try {
+            return evaluate(expr, new HashMap<>(values));
+        } catch (NotConstantException | StackOverflowError e) {
+            return null;
+        }
+    }
+
+    private ExpressionNode evaluate(ExpressionNode expr, Map<String, ExpressionNode> values) {
+        if (isConstant(expr)) {
+            return expr;
+        } else if (expr instanceof IdentifierNode) {
+            ExpressionNode value = values.get(((IdentifierNode) expr).getName());
+            if (value == null) {
+                throw new NotConstantException();
+            }
+            return value;
+        } else if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            ExpressionNode left = evaluate(binOp.getLeft(), values);
+            // AND and OR only evaluate their right operand when the left one does not decide the result
+            if (left instanceof BooleanNode && (binOp.getOperator().equals("AND") || binOp.getOperator().equals("OR"))
+                    && ((BooleanNode) left).isValue() == binOp.getOperator().equals("OR")) {
+                return left;
+            }
+            ExpressionNode right = evaluate(binOp.getRight(), values);
+            return requireConstant(foldConstants(new BinaryOpNode(left, right, binOp.getOperator())));
+        } else if (expr instanceof UnaryOpNode) {
+            UnaryOpNode unOp = (UnaryOpNode) expr;
+            ExpressionNode operand = evaluate(unOp.getExpr(), values);
+            return requireConstant(foldConstants(new UnaryOpNode(operand, unOp.getOperator())));
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            List<ExpressionNode> arguments = new ArrayList<>();
+            if (call.getArguments() != null) {
+                for (ExpressionNode arg : call.getArguments()) {
+                    arguments.add(evaluate(arg, values));
+                }
+            }
+            return evaluateCall(call.getFunctionName(), arguments);
+        }
+        throw new NotConstantException();
+    }
+
+    // Folding leaves divisions by zero alone, so that they fail at run time
+    private ExpressionNode requireConstant(ExpressionNode value) {
+        if (!isConstant(value)) {
+            throw new NotConstantException();
+        }
+        return value;
+    }
+
+    private ExpressionNode evaluateCall(String name, List<ExpressionNode> arguments) {
+        FunctionNode function = functionTable.get(name);
+        if (function == null || function.getBody() == null || evaluationDepth >= EVALUATION_DEPTH) {
+            throw new NotConstantException();
+        }
+        List<DeclarationNode> parameters = function.getParameters() == null ? new ArrayList<>() : function.getParameters();
+        if (parameters.size() != arguments.size()) {
+            throw new NotConstantException();
+        }
+        Map<String, ExpressionNode> locals = new HashMap<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            locals.put(parameters.get(i).getIdentifier(), ofType(arguments.get(i), parameters.get(i).getType()));
+        }
+        evaluationDepth++;
+        ExpressionNode result = execute(function.getBody(), locals);
+        evaluationDepth--;
+        if (result == null) {
+            throw new NotConstantException();
+        }
+        return ofType(result, function.getReturnType());
+    }
+
+    // Runs a statement; returns the returned value, or null if the statement completes normally
+    private ExpressionNode execute(StatementNode node, Map<String, ExpressionNode> locals) {
+        if (++evaluationSteps > EVALUATION_STEPS) {
+            throw new NotConstantException();
+        }
+        if (node == null || node instanceof EmptyNode) {
+            return null;
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                ExpressionNode result = execute(stmt, locals);
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        } else if (node instanceof ReturnNode) {
+            ExpressionNode expr = ((ReturnNode) node).getExpr();
+            if (expr == null) {
+                throw new NotConstantException();
+            }
+            return evaluate(expr, locals);
+        } else if (node instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) node;
+            if (!(assignNode.getVariable() instanceof IdentifierNode)) {
+                throw new NotConstantException();
+            }
+            String name = ((IdentifierNode) assignNode.getVariable()).getName();
+            ExpressionNode current = locals.get(name);
+            if (current == null) {
+                throw new NotConstantException();
+            }
+            locals.put(name, ofType(evaluate(assignNode.getExpression(), locals), computeType(current)));
+            return null;
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            return isTrue(evaluate(ifNode.getCondition(), locals))
+                    ? execute(ifNode.getThenStmt(), locals)
+                    : execute(ifNode.getElseStmt(), locals);
+        } else if (node instanceof WhileLoopNode) {
+            WhileLoopNode whileNode = (WhileLoopNode) node;
+            while (isTrue(evaluate(whileNode.getCondition(), locals))) {
+                ExpressionNode result = execute(whileNode.getBody(), locals);
+                if (result != null) {
+                    return result;
+                }
+                if (++evaluationSteps > EVALUATION_STEPS) {
+                    throw new NotConstantException();
+                }
+            }
+            return null;
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            int start = intValue(evaluate(forNode.getStart(), locals));
+            int end = intValue(evaluate(forNode.getEnd(), locals));
+            int step = forNode.getStep() == null ? 1 : intValue(evaluate(forNode.getStep(), locals));
+            if (step <= 0) {
+                throw new NotConstantException();
+            }
+            String iteratorName = forNode.getIterator().getName();
+            ExpressionNode outer = locals.get(iteratorName);
+            ExpressionNode result = null;
+            // Counted in long, as the generated loop stops before the iterator would wrap
+            for (long i = forNode.isReverse() ? end : start; forNode.isReverse() ? i >= start : i <= end;
+                 i += forNode.isReverse() ? -step : step) {
+                locals.put(iteratorName, new NumberNode((int) i));
+                result = execute(forNode.getBody(), locals);
+                if (result != null) {
+                    break;
+                }
+            }
+            locals.remove(iteratorName);
+            if (outer != null) {
+                locals.put(iteratorName, outer);
+            }
+            return result;
+        }
+        // Printing and anything touching arrays or records happens at run time
+        throw new NotConstantException();
+    }
+
+    private boolean isTrue(ExpressionNode value) {
+        if (!(value instanceof BooleanNode)) {
+            throw new NotConstantException();
+        }
+        return ((BooleanNode) value).isValue();
+    }
+
+    private int intValue(ExpressionNode value) {
+        if (!(value instanceof NumberNode)) {
+            throw new NotConstantException();
+        }
+        return ((NumberNode) value).getValue();
+    }
+
+    // Only values of the declared scalar type can be passed, assigned and returned
+    private ExpressionNode ofType(ExpressionNode value, TypeNode type) {
+        if (!(type instanceof IntegerTypeNode || type instanceof RealTypeNode || type instanceof BooleanTypeNode)
+                || !typeEquals(type, computeType(value))) {
+            throw new NotConstantException();
+        }
+        return value;
+    }
+
+    // AND and OR evaluate their right operand only when the left one does not decide the result
+    private ExpressionNode optimizeShortCircuit(BinaryOpNode binOp) {
+        boolean isAnd = binOp.getOperator().equals("AND");
+        ExpressionNode left = binOp.getLeft();
+        ExpressionNode right = binOp.getRight();
+
+        // A constant left operand either decides the result or leaves just the right operand
+        if (left instanceof BooleanNode) {
+            System.out.println("Optimization: Simplified '" + binOp.getOperator() + "' with constant left operand.");
+            return ((BooleanNode) left).isValue() == isAnd ? right : left;
+        }
+        // A constant right operand may only drop the left operand if evaluating it has no effect
+        if (right instanceof BooleanNode) {
+            if (((BooleanNode) right).isValue() == isAnd) {
+                System.out.println("Optimization: Simplified '" + binOp.getOperator() + "' with constant right operand.");
+                return left;
+            } else if (isPure(left)) {
+                System.out.println("Optimization: Simplified '" + binOp.getOperator() + "' with constant right operand.");
+                return right;
+            }
+        }
+        // When neither operand has side effects or can fail, evaluate the cheaper one first
+        if (estimateCost(left) > estimateCost(right) && isPure(left) && isPure(right)) {
+            binOp.setLeft(right);
+            binOp.setRight(left);
+            System.out.println("Optimization: Swapped operands of '" + binOp.getOperator() + "' to evaluate the cheaper one first.");
+        }
+        return binOp;
+    }
+
+    // True if evaluating the expression has no side effects and cannot fail, so it can be
+    // skipped or moved. Division, array and field accesses can fail at run time.
+    private boolean isPure(ExpressionNode node) {
+        if (node instanceof NumberNode || node instanceof RealNode || node instanceof BooleanNode
+                || node instanceof StringNode || node instanceof IdentifierNode) {
+            return true;
+        } else if (node instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) node;
+            boolean mayFail = (binOp.getOperator().equals("/") || binOp.getOperator().equals("mod"))
+                    && !(binOp.getRight() instanceof NumberNode && ((NumberNode) binOp.getRight()).getValue() != 0);
+            return !mayFail && isPure(binOp.getLeft()) && isPure(binOp.getRight());
+        } else if (node instanceof UnaryOpNode) {
+            return isPure(((UnaryOpNode) node).getExpr());
+        } else if (node instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) node;
+            if (call.getArguments() != null) {
+                for (ExpressionNode arg : call.getArguments()) {
+                    if (!isPure(arg)) {
+                        return false;
+                    }
+                }
+            }
+            return isPureFunction(call.getFunctionName());
+        }
+        return false;
+    }
+
+    // A routine is pure if its body only assigns its own scalar parameters, returns and branches on
+    // pure expressions, and calls pure routines. Loops and recursion may not terminate, so they are not.
+    private boolean isPureFunction(String name) {
+        Boolean known = pureFunctions.get(name);
+        if (known != null) {
+            return known;
+        }
+        FunctionNode function = functionTable.get(name);
+        if (function == null) {
+            return false;
+        }
+        // Recursive calls see false while the body is being checked
+        pureFunctions.put(name, false);
+        Set<String> parameters = new HashSet<>();
+        if (function.getParameters() != null) {
+            for (DeclarationNode param : function.getParameters()) {
+                TypeNode type = param.getType();
+                if (!(type instanceof ArrayTypeNode || type instanceof RecordTypeNode)) {
+                    parameters.add(param.getIdentifier());
+                }
+            }
+        }
+        boolean pure = isPureStatement(function.getBody(), parameters);
+        pureFunctions.put(name, pure);
+        return pure;
+    }
+
+    private boolean isPureStatement(StatementNode node, Set<String> parameters) {
+        if (node == null || node instanceof EmptyNode) {
+            return true;
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode statement : ((StatementBlockNode) node).getStatements()) {
+                if (!isPureStatement(statement, parameters)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (node instanceof ReturnNode) {
+            ExpressionNode expr = ((ReturnNode) node).getExpr();
+            return expr == null || isPure(expr);
+        } else if (node instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) node;
+            return assignNode.getVariable() instanceof IdentifierNode
+                    && parameters.contains(((IdentifierNode) assignNode.getVariable()).getName())
+                    && isPure(assignNode.getExpression());
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            return isPure(ifNode.getCondition())
+                    && isPureStatement(ifNode.getThenStmt(), parameters)
+                    && isPureStatement(ifNode.getElseStmt(), parameters);
+        }
+        return false;
+    }
+
+    // Rough evaluation cost of an expression; routine calls weigh more than operators
+    private int estimateCost(ExpressionNode node) {
+        if (node instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) node;
+            return 1 + estimateCost(binOp.getLeft()) + estimateCost(binOp.getRight());
+        } else if (node instanceof UnaryOpNode) {
+            return 1 + estimateCost(((UnaryOpNode) node).getExpr());
+        } else if (node instanceof FunctionCallNode) {
+            int cost = 10;
+            if (((FunctionCallNode) node).getArguments() != null) {
+                for (ExpressionNode arg : ((FunctionCallNode) node).getArguments()) {
+                    cost += estimateCost(arg);
+                }
+            }
+            return cost;
+        }
+        return 1;
+    }
+
     private boolean isConstant(ExpressionNode node) {
         return node instanceof NumberNode || node instanceof BooleanNode || node instanceof RealNode;
     }
@@ -723,19 +1435,31 @@ private void performSemanticChecks(ProgramNode node) {
                         result = leftVal * rightVal;
                         break;
                     case "/":
-                        if (leftVal % rightVal == 0) {
-                            result = leftVal / rightVal;
-                            break;
-                        } else {
-                            double res = leftVal / rightVal;
-                            return new RealNode(res);
+                        if (rightVal == 0) {
+                            // Leave it to fail at run time
+                            return node;
+                        }
+                        // Integer division truncates, as at run time
+                        result = leftVal / rightVal;
+                        break;
+                    case "mod":
+                        if (rightVal == 0) {
+                            return node;
                         }
+                        result = leftVal % rightVal;
+                        break;
                     case "==":
                         return new BooleanNode(leftVal == rightVal);
+                    case "/=":
+                        return new BooleanNode(leftVal != rightVal);
                     case ">":
                         return new BooleanNode(leftVal > rightVal);
                     case "<":
                         return new BooleanNode(leftVal < rightVal);
+                    case ">=":
+                        return new BooleanNode(leftVal >= rightVal);
+                    case "<=":
+                        return new BooleanNode(leftVal <= rightVal);
                 }
                 return new NumberNode(result);
 
@@ -758,10 +1482,16 @@ private void performSemanticChecks(ProgramNode node) {
                         break;
                     case "==":
                         return new BooleanNode(leftVal == rightVal);
+                    case "/=":
+                        return new BooleanNode(leftVal != rightVal);
                     case ">":
                         return new BooleanNode(leftVal > rightVal);
                     case "<":
                         return new BooleanNode(leftVal < rightVal);
+                    case ">=":
+                        return new BooleanNode(leftVal >= rightVal);
+                    case "<=":
+                        return new BooleanNode(leftVal <= rightVal);
                 }
                 return new RealNode(result);
 
@@ -779,6 +1509,15 @@ private void performSemanticChecks(ProgramNode node) {
                     case "XOR":
                         result = leftVal ^ rightVal;
                         break;
+                    case "==":
+                        result = leftVal == rightVal;
+                        break;
+                    case "/=":
+                        result = leftVal != rightVal;
+                        break;
+                    default:
+                        // Not a boolean operator; leave it unfolded
+                        return null;
                 }
                 return new BooleanNode(result);
             }
@@ -823,15 +1562,17 @@ private void performSemanticChecks(ProgramNode node) {
         if (parent instanceof ProgramNode) {
             List<ASTNode> children = ((ProgramNode) parent).getChildren();
             int index = children.indexOf(oldNode);
-            if (newNode instanceof EmptyNode) {
-                children.remove(index);
-            } else {
-                children.set(index, newNode);
-                newNode.setParent(parent);
-            }
+            // Removed statements stay in place as EmptyNodes until the program has been walked
+            children.set(index, newNode);
+            newNode.setParent(parent);
         } else if (parent instanceof StatementNode) {
             // Handle replacement in statements
-            if (parent instanceof IfElseNode) {
+            if (parent instanceof StatementBlockNode) {
+                // Removed statements stay in place as EmptyNodes until the block has been walked
+                List<StatementNode> statements = ((StatementBlockNode) parent).getStatements();
+                statements.set(statements.indexOf(oldNode), (StatementNode) newNode);
+                newNode.setParent(parent);
+            } else if (parent instanceof IfElseNode) {
                 IfElseNode ifNode = (IfElseNode) parent;
                 if (ifNode.getThenStmt() == oldNode) {
                     ifNode.setThenStmt((StatementNode) newNode);
@@ -930,6 +1671,11 @@ private void performSemanticChecks(ProgramNode node) {
             printAST(assign.getVariable(), indent + 4);
             System.out.println(indentation + "  Expression:");
             printAST(assign.getExpression(), indent + 4);
+        } else if (node instanceof TemporaryNode) {
+            TemporaryNode temporary = (TemporaryNode) node;
+            System.out.println(indentation + "Temporary: " + temporary.getName());
+            System.out.println(indentation + "  Expression:");
+            printAST(temporary.getExpression(), indent + 4);
         } else if (node instanceof ReturnNode) {
             ReturnNode retNode = (ReturnNode) node;
             System.out.println(indentation + "Return");
@@ -954,13 +1700,17 @@ private void performSemanticChecks(ProgramNode node) {
             printAST(whileNode.getBody(), indent + 4);
         } else if (node instanceof ForLoopNode) {
             ForLoopNode forNode = (ForLoopNode) node;
-            System.out.println(indentation + "ForLoop");
+            System.out.println(indentation + (forNode.isReverse() ? "ForLoop (reverse)" : "ForLoop"));
             System.out.println(indentation + "  Iterator:");
             printAST(forNode.getIterator(), indent + 4);
             System.out.println(indentation + "  Start:");
             printAST(forNode.getStart(), indent + 4);
             System.out.println(indentation + "  End:");
             printAST(forNode.getEnd(), indent + 4);
+            if (forNode.getStep() != null) {
+                System.out.println(indentation + "  Step:");
+                printAST(forNode.getStep(), indent + 4);
+            }
             System.out.println(indentation + "  Body:");
             printAST(forNode.getBody(), indent + 4);
         } else if (node instanceof ArrayTypeNode) {
@@ -982,6 +1732,10 @@ private void performSemanticChecks(ProgramNode node) {
             System.out.println(indentation + "  Record:");
             printAST(fieldAccess.getRecord(), indent + 4);
             System.out.println(indentation + "  Field: " + fieldAccess.getFieldName());
+        } else if (node instanceof SavedValueNode) {
+            SavedValueNode saved = (SavedValueNode) node;
+            System.out.println(indentation + "SavedValue: " + saved.getName());
+            printAST(saved.getExpression(), indent + 2);
         } else if (node instanceof RecordTypeNode) {
             RecordTypeNode recordType = (RecordTypeNode) node;
             System.out.println(indentation + "RecordType");
@@ -0,0 +1,41 @@
+import java.util.*;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/*
+ * Tokens read ahead from a lexer and replayed to the parser, so that lexing and parsing
+ * can be measured as separate phases.
+ */
+public class TokenBuffer implements Scanner {
+    private List<Symbol> tokens;
+    private int position = 0;
+
+    public TokenBuffer(List<Symbol> tokens) {
+        this.tokens = tokens;
+    }
+
+    // Reads every token up to and including EOF
+    public static TokenBuffer readAll(Scanner lexer) throws Exception {
+        List<Symbol> tokens = new ArrayList<>();
+        Symbol token;
+        do {
+            token = lexer.next_token();
+            tokens.add(token);
+        } while (token.sym != sym.EOF);
+        return new TokenBuffer(tokens);
+    }
+
+    // Number of tokens, not counting EOF
+    public int size() {
+        return tokens.size() - 1;
+    }
+
+    @Override
+    public Symbol next_token() {
+        if (position < tokens.size()) {
+            return tokens.get(position++);
+        }
+        // The parser reads past EOF and rejects symbols it has already seen, so hand out a fresh one
+        return new Symbol(sym.EOF);
+    }
+}
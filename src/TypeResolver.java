@@ -0,0 +1,120 @@
+import java.util.*;
+import java.util.function.Consumer;
+
+/*
+ * Replaces every TypeIdentifierNode in the tree with the TypeNode its declaration
+ * defines. All uses of a type name end up sharing one canonical TypeNode, so the
+ * later phases work with resolved types directly instead of looking names up.
+ * Cyclic and undefined type names are reported and left unresolved.
+ */
+public class TypeResolver {
+    // Receives every error found
+    private final Consumer<String> errors;
+    private Map<String, TypeDeclarationNode> declarations = new HashMap<>();
+    private Map<String, TypeNode> resolved = new HashMap<>();
+    // Type names currently being resolved, in order, for cycle detection
+    private LinkedHashSet<String> inProgress = new LinkedHashSet<>();
+    // Type names that could not be resolved and have already been reported
+    private Set<String> failed = new HashSet<>();
+
+    public TypeResolver() {
+        this(System.err::println);
+    }
+
+    public TypeResolver(Consumer<String> errors) {
+        this.errors = errors;
+    }
+
+    public void resolve(ProgramNode ast) {
+        declarations.clear();
+        resolved.clear();
+        inProgress.clear();
+        failed.clear();
+
+        for (TypeDeclarationNode typeDecl : ast.getTypeDeclarations()) {
+            if (declarations.containsKey(typeDecl.getIdentifier())) {
+                errors.accept("Semantic Error: Type '" + typeDecl.getIdentifier() + "' is already declared.");
+            } else {
+                declarations.put(typeDecl.getIdentifier(), typeDecl);
+            }
+        }
+
+        // Resolve the declarations themselves first so every use shares their result
+        for (TypeDeclarationNode typeDecl : ast.getTypeDeclarations()) {
+            TypeNode type = resolveName(typeDecl.getIdentifier());
+            if (type != null) {
+                typeDecl.setTypeDefinition(type);
+            }
+        }
+
+        for (ASTNode child : ast.getChildren()) {
+            if (child instanceof DeclarationNode) {
+                resolveDeclaration((DeclarationNode) child);
+            } else if (child instanceof FunctionNode) {
+                FunctionNode function = (FunctionNode) child;
+                if (function.getParameters() != null) {
+                    for (DeclarationNode param : function.getParameters()) {
+                        resolveDeclaration(param);
+                    }
+                }
+                if (function.getReturnType() != null) {
+                    function.setReturnType(resolveType(function.getReturnType()));
+                }
+            }
+        }
+    }
+
+    private void resolveDeclaration(DeclarationNode node) {
+        if (node.getType() != null) {
+            node.setType(resolveType(node.getType()));
+        }
+    }
+
+    // Returns the resolved form of type; type names are replaced, nested types are resolved in place
+    private TypeNode resolveType(TypeNode type) {
+        if (type instanceof TypeIdentifierNode) {
+            TypeNode target = resolveName(((TypeIdentifierNode) type).getTypeName());
+            return target != null ? target : type;
+        } else if (type instanceof ArrayTypeNode) {
+            ArrayTypeNode arrayType = (ArrayTypeNode) type;
+            arrayType.setElementType(resolveType(arrayType.getElementType()));
+        } else if (type instanceof RecordTypeNode) {
+            for (DeclarationNode field : ((RecordTypeNode) type).getFields()) {
+                resolveDeclaration(field);
+            }
+        }
+        return type;
+    }
+
+    private TypeNode resolveName(String typeName) {
+        TypeNode type = resolved.get(typeName);
+        if (type != null || failed.contains(typeName)) {
+            return type;
+        }
+        TypeDeclarationNode typeDecl = declarations.get(typeName);
+        if (typeDecl == null) {
+            errors.accept("Semantic Error: Type '" + typeName + "' is not declared.");
+            failed.add(typeName);
+            return null;
+        }
+        if (inProgress.contains(typeName)) {
+            List<String> chain = new ArrayList<>(inProgress);
+            List<String> cycle = chain.subList(chain.indexOf(typeName), chain.size());
+            errors.accept("Type Error: Cyclic type definition: " + String.join(" -> ", cycle) + " -> " + typeName);
+            failed.addAll(cycle);
+            return null;
+        }
+
+        inProgress.add(typeName);
+        type = resolveType(typeDecl.getTypeDefinition());
+        inProgress.remove(typeName);
+
+        if (type instanceof TypeIdentifierNode || failed.contains(typeName)) {
+            // Part of the definition could not be resolved; the error is already reported
+            failed.add(typeName);
+            return null;
+        }
+        resolved.put(typeName, type);
+        return type;
+    }
+}
@@ -0,0 +1,505 @@
+import java.util.*;
+import java.util.function.Predicate;
+
+/*
+ * Local value numbering. Walks routine and main bodies in evaluation order, keeping the scalar
+ * expressions whose value is known at each point: arithmetic, comparisons, array element and
+ * record field loads, and calls to pure routines. When the same expression is computed again
+ * while its value is still known, the second computation reads the value saved by the first
+ * instead. Assigning a variable forgets the values that read it, storing into an array or field
+ * forgets the loads that may alias it, and calling a routine that is not pure forgets every load.
+ * Values known before a branch or loop stay known inside it; values computed inside a branch or
+ * loop body are forgotten after it, since it may not run.
+ * Routines lowered by IrBuilder are numbered again by IrValueNumbering; this pass is still
+ * needed for main and for routines the SSA form does not cover, and goes once those are lowered.
+ */
+public class ValueNumbering {
+    // Whether a routine is free of side effects and always returns normally
+    private Predicate<String> pureFunction;
+    // Number of saved values so far; keeps their names unique within the program
+    private int savedCount = 0;
+
+    // Values known at the current point, by key
+    private Map<String, Value> available = new HashMap<>();
+    // First computations of the values that are used again; they save their result when evaluated
+    private Map<ExpressionNode, Value> reused = new IdentityHashMap<>();
+
+    private static class Value {
+        final ExpressionNode node;
+        // What the value depends on
+        final Set<String> variables = new HashSet<>();
+        final Set<String> fields = new HashSet<>();
+        boolean readsArray;
+        // Local that holds the value, once it is used again
+        String name;
+
+        Value(ExpressionNode node) {
+            this.node = node;
+        }
+    }
+
+    public void optimize(ProgramNode ast, Predicate<String> pureFunction) {
+        this.pureFunction = pureFunction;
+        savedCount = 0;
+        available.clear();
+        reused.clear();
+
+        // The top-level statements make up the main method; every routine starts with nothing known
+        for (ASTNode child : ast.getChildren()) {
+            if (child instanceof FunctionNode) {
+                Map<String, Value> mainValues = available;
+                available = new HashMap<>();
+                numberStatement(((FunctionNode) child).getBody());
+                available = mainValues;
+            } else if (child instanceof DeclarationNode) {
+                DeclarationNode declaration = (DeclarationNode) child;
+                declaration.setExpression(number(declaration.getExpression()));
+                killVariable(declaration.getIdentifier());
+            } else if (child instanceof StatementNode) {
+                numberStatement((StatementNode) child);
+            }
+        }
+
+        // Make the first computation of every reused value store it in its local
+        for (ASTNode child : ast.getChildren()) {
+            if (child instanceof FunctionNode) {
+                saveStatement(((FunctionNode) child).getBody());
+            } else if (child instanceof DeclarationNode) {
+                DeclarationNode declaration = (DeclarationNode) child;
+                declaration.setExpression(save(declaration.getExpression()));
+            } else if (child instanceof StatementNode) {
+                saveStatement((StatementNode) child);
+            }
+        }
+    }
+
+    private void numberStatement(StatementNode node) {
+        if (node instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) node;
+            ExpressionNode target = assignNode.getVariable();
+            if (target instanceof IdentifierNode) {
+                assignNode.setExpression(number(assignNode.getExpression()));
+                killVariable(((IdentifierNode) target).getName());
+            } else if (target instanceof ArrayAccessNode) {
+                // The code generator computes a row before its address, and an element after it
+                ArrayAccessNode access = (ArrayAccessNode) target;
+                if (access.getResolvedType() instanceof ArrayTypeNode) {
+                    assignNode.setExpression(number(assignNode.getExpression()));
+                    access.setArray(number(access.getArray()));
+                    access.setIndex(number(access.getIndex()));
+                } else {
+                    access.setArray(number(access.getArray()));
+                    access.setIndex(number(access.getIndex()));
+                    assignNode.setExpression(number(assignNode.getExpression()));
+                }
+                killArrays();
+            } else if (target instanceof FieldAccessNode) {
+                FieldAccessNode access = (FieldAccessNode) target;
+                access.setRecord(number(access.getRecord()));
+                assignNode.setExpression(number(assignNode.getExpression()));
+                killField(access.getFieldName());
+            }
+        } else if (node instanceof ReturnNode) {
+            ReturnNode returnNode = (ReturnNode) node;
+            returnNode.setExpr(number(returnNode.getExpr()));
+        } else if (node instanceof PrintNode) {
+            PrintNode printNode = (PrintNode) node;
+            printNode.setExpression(number(printNode.getExpression()));
+        } else if (node instanceof TemporaryNode) {
+            TemporaryNode temporary = (TemporaryNode) node;
+            temporary.setExpression(number(temporary.getExpression()));
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                numberStatement(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            ifNode.setCondition(number(ifNode.getCondition()));
+            Map<String, Value> before = new HashMap<>(available);
+            numberStatement(ifNode.getThenStmt());
+            Map<String, Value> afterThen = available;
+            available = new HashMap<>(before);
+            numberStatement(ifNode.getElseStmt());
+            available = meet(meet(before, afterThen), available);
+        } else if (node instanceof WhileLoopNode) {
+            // The code generator emits the body before the condition, so values first computed in
+            // the condition are only reused after the loop, where the condition has run last
+            WhileLoopNode whileNode = (WhileLoopNode) node;
+            kill(whileNode.getCondition());
+            kill(whileNode.getBody());
+            Map<String, Value> before = new HashMap<>(available);
+            whileNode.setCondition(number(whileNode.getCondition()));
+            Map<String, Value> afterCondition = available;
+            available = before;
+            numberStatement(whileNode.getBody());
+            available = afterCondition;
+        } else if (node instanceof ForLoopNode) {
+            // The range is evaluated once, start before end
+            ForLoopNode forNode = (ForLoopNode) node;
+            forNode.setStart(number(forNode.getStart()));
+            forNode.setEnd(number(forNode.getEnd()));
+            forNode.setStep(number(forNode.getStep()));
+            killVariable(forNode.getIterator().getName());
+            kill(forNode.getBody());
+            Map<String, Value> before = new HashMap<>(available);
+            numberStatement(forNode.getBody());
+            available = before;
+        }
+    }
+
+    // Returns expr, or a read of the local holding its value when it is already known
+    private ExpressionNode number(ExpressionNode expr) {
+        if (expr == null) {
+            return null;
+        }
+        String key = null;
+        Value value = null;
+        if (isCandidate(expr)) {
+            key = key(expr);
+            Value known = available.get(key);
+            if (known != null) {
+                if (known.name == null) {
+                    known.name = "$cse" + savedCount++;
+                    reused.put(known.node, known);
+                }
+                System.out.println("Optimization: Reused the value of " + RangeAnalyzer.describe(expr) + " computed earlier.");
+                IdentifierNode use = new IdentifierNode(known.name);
+                use.setResolvedType(expr.getResolvedType());
+                return use;
+            }
+            // Dependencies of the expression as written, before its parts are replaced
+            value = new Value(expr);
+            collectDependencies(expr, value);
+        }
+
+        if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            binOp.setLeft(number(binOp.getLeft()));
+            if (binOp.getOperator().equals("AND") || binOp.getOperator().equals("OR")) {
+                // The right operand may be skipped
+                Map<String, Value> before = new HashMap<>(available);
+                binOp.setRight(number(binOp.getRight()));
+                available = meet(before, available);
+            } else {
+                binOp.setRight(number(binOp.getRight()));
+            }
+        } else if (expr instanceof UnaryOpNode) {
+            UnaryOpNode unOp = (UnaryOpNode) expr;
+            unOp.setExpr(number(unOp.getExpr()));
+        } else if (expr instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) expr;
+            access.setArray(number(access.getArray()));
+            access.setIndex(number(access.getIndex()));
+        } else if (expr instanceof FieldAccessNode) {
+            FieldAccessNode access = (FieldAccessNode) expr;
+            access.setRecord(number(access.getRecord()));
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            List<ExpressionNode> arguments = call.getArguments();
+            if (arguments != null) {
+                for (int i = 0; i < arguments.size(); i++) {
+                    ExpressionNode argument = number(arguments.get(i));
+                    argument.setParent(call);
+                    arguments.set(i, argument);
+                }
+            }
+            // A routine may write any array or record passed to it
+            if (!pureFunction.test(call.getFunctionName())) {
+                killArrays();
+                killFields();
+            }
+        } else if (expr instanceof ExpressionListNode) {
+            List<ExpressionNode> elements = ((ExpressionListNode) expr).getExpressions();
+            for (int i = 0; i < elements.size(); i++) {
+                ExpressionNode element = number(elements.get(i));
+                element.setParent(expr);
+                elements.set(i, element);
+            }
+        }
+
+        if (value != null) {
+            available.put(key, value);
+        }
+        return expr;
+    }
+
+    // Scalar computations without side effects; constants and variables are as cheap to use as a saved value
+    private boolean isCandidate(ExpressionNode expr) {
+        TypeNode type = expr.getResolvedType();
+        if (!(type instanceof IntegerTypeNode || type instanceof RealTypeNode || type instanceof BooleanTypeNode)) {
+            return false;
+        }
+        if (!(expr instanceof BinaryOpNode || expr instanceof UnaryOpNode || expr instanceof ArrayAccessNode
+                || expr instanceof FieldAccessNode || expr instanceof FunctionCallNode)) {
+            return false;
+        }
+        return isPure(expr);
+    }
+
+    private boolean isPure(ExpressionNode expr) {
+        if (expr instanceof BinaryOpNode) {
+            return isPure(((BinaryOpNode) expr).getLeft()) && isPure(((BinaryOpNode) expr).getRight());
+        } else if (expr instanceof UnaryOpNode) {
+            return isPure(((UnaryOpNode) expr).getExpr());
+        } else if (expr instanceof ArrayAccessNode) {
+            return isPure(((ArrayAccessNode) expr).getArray()) && isPure(((ArrayAccessNode) expr).getIndex());
+        } else if (expr instanceof FieldAccessNode) {
+            return isPure(((FieldAccessNode) expr).getRecord());
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            if (call.getArguments() != null) {
+                for (ExpressionNode arg : call.getArguments()) {
+                    if (!isPure(arg)) {
+                        return false;
+                    }
+                }
+            }
+            return pureFunction.test(call.getFunctionName());
+        } else if (expr instanceof SavedValueNode) {
+            return isPure(((SavedValueNode) expr).getExpression());
+        }
+        return expr instanceof NumberNode || expr instanceof RealNode || expr instanceof BooleanNode
+                || expr instanceof StringNode || expr instanceof IdentifierNode;
+    }
+
+    private void collectDependencies(ExpressionNode expr, Value value) {
+        if (expr instanceof IdentifierNode) {
+            value.variables.add(((IdentifierNode) expr).getName());
+        } else if (expr instanceof BinaryOpNode) {
+            collectDependencies(((BinaryOpNode) expr).getLeft(), value);
+            collectDependencies(((BinaryOpNode) expr).getRight(), value);
+        } else if (expr instanceof UnaryOpNode) {
+            collectDependencies(((UnaryOpNode) expr).getExpr(), value);
+        } else if (expr instanceof ArrayAccessNode) {
+            value.readsArray = true;
+            collectDependencies(((ArrayAccessNode) expr).getArray(), value);
+            collectDependencies(((ArrayAccessNode) expr).getIndex(), value);
+        } else if (expr instanceof FieldAccessNode) {
+            value.fields.add(((FieldAccessNode) expr).getFieldName());
+            collectDependencies(((FieldAccessNode) expr).getRecord(), value);
+        } else if (expr instanceof FunctionCallNode) {
+            if (((FunctionCallNode) expr).getArguments() != null) {
+                for (ExpressionNode arg : ((FunctionCallNode) expr).getArguments()) {
+                    collectDependencies(arg, value);
+                }
+            }
+        } else if (expr instanceof SavedValueNode) {
+            collectDependencies(((SavedValueNode) expr).getExpression(), value);
+        }
+    }
+
+    // Values known at the end of both paths; a value recomputed on one of them is a different computation
+    private Map<String, Value> meet(Map<String, Value> first, Map<String, Value> second) {
+        Map<String, Value> result = new HashMap<>();
+        for (Map.Entry<String, Value> entry : first.entrySet()) {
+            if (second.get(entry.getKey()) == entry.getValue()) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    // Forgets every value that the statement may change, wherever it runs in it
+    private void kill(StatementNode node) {
+        if (node instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) node;
+            ExpressionNode target = assignNode.getVariable();
+            if (target instanceof IdentifierNode) {
+                killVariable(((IdentifierNode) target).getName());
+            } else if (target instanceof ArrayAccessNode) {
+                killArrays();
+            } else if (target instanceof FieldAccessNode) {
+                killField(((FieldAccessNode) target).getFieldName());
+            }
+            kill(target);
+            kill(assignNode.getExpression());
+        } else if (node instanceof ReturnNode) {
+            kill(((ReturnNode) node).getExpr());
+        } else if (node instanceof PrintNode) {
+            kill(((PrintNode) node).getExpression());
+        } else if (node instanceof TemporaryNode) {
+            kill(((TemporaryNode) node).getExpression());
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                kill(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            kill(ifNode.getCondition());
+            kill(ifNode.getThenStmt());
+            kill(ifNode.getElseStmt());
+        } else if (node instanceof WhileLoopNode) {
+            kill(((WhileLoopNode) node).getCondition());
+            kill(((WhileLoopNode) node).getBody());
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            killVariable(forNode.getIterator().getName());
+            kill(forNode.getStart());
+            kill(forNode.getEnd());
+            kill(forNode.getStep());
+            kill(forNode.getBody());
+        }
+    }
+
+    // Forgets every load if the expression calls a routine that is not pure
+    private void kill(ExpressionNode expr) {
+        if (expr instanceof BinaryOpNode) {
+            kill(((BinaryOpNode) expr).getLeft());
+            kill(((BinaryOpNode) expr).getRight());
+        } else if (expr instanceof UnaryOpNode) {
+            kill(((UnaryOpNode) expr).getExpr());
+        } else if (expr instanceof ArrayAccessNode) {
+            kill(((ArrayAccessNode) expr).getArray());
+            kill(((ArrayAccessNode) expr).getIndex());
+        } else if (expr instanceof FieldAccessNode) {
+            kill(((FieldAccessNode) expr).getRecord());
+        } else if (expr instanceof ExpressionListNode) {
+            for (ExpressionNode element : ((ExpressionListNode) expr).getExpressions()) {
+                kill(element);
+            }
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            if (!pureFunction.test(call.getFunctionName())) {
+                killArrays();
+                killFields();
+            }
+            if (call.getArguments() != null) {
+                for (ExpressionNode arg : call.getArguments()) {
+                    kill(arg);
+                }
+            }
+        }
+    }
+
+    private void killVariable(String name) {
+        available.values().removeIf(value -> value.variables.contains(name));
+    }
+
+    // Arrays may be aliased, so a store into one may change an element of any other
+    private void killArrays() {
+        available.values().removeIf(value -> value.readsArray);
+    }
+
+    // Records may be aliased, so a write to r.x may change the x of any record
+    private void killField(String name) {
+        available.values().removeIf(value -> value.fields.contains(name));
+    }
+
+    private void killFields() {
+        available.values().removeIf(value -> !value.fields.isEmpty());
+    }
+
+    private void saveStatement(StatementNode node) {
+        if (node instanceof AssignmentNode) {
+            AssignmentNode assignNode = (AssignmentNode) node;
+            ExpressionNode target = assignNode.getVariable();
+            if (target instanceof ArrayAccessNode) {
+                ((ArrayAccessNode) target).setArray(save(((ArrayAccessNode) target).getArray()));
+                ((ArrayAccessNode) target).setIndex(save(((ArrayAccessNode) target).getIndex()));
+            } else if (target instanceof FieldAccessNode) {
+                ((FieldAccessNode) target).setRecord(save(((FieldAccessNode) target).getRecord()));
+            }
+            assignNode.setExpression(save(assignNode.getExpression()));
+        } else if (node instanceof ReturnNode) {
+            ((ReturnNode) node).setExpr(save(((ReturnNode) node).getExpr()));
+        } else if (node instanceof PrintNode) {
+            ((PrintNode) node).setExpression(save(((PrintNode) node).getExpression()));
+        } else if (node instanceof TemporaryNode) {
+            ((TemporaryNode) node).setExpression(save(((TemporaryNode) node).getExpression()));
+        } else if (node instanceof StatementBlockNode) {
+            for (StatementNode stmt : ((StatementBlockNode) node).getStatements()) {
+                saveStatement(stmt);
+            }
+        } else if (node instanceof IfElseNode) {
+            IfElseNode ifNode = (IfElseNode) node;
+            ifNode.setCondition(save(ifNode.getCondition()));
+            saveStatement(ifNode.getThenStmt());
+            saveStatement(ifNode.getElseStmt());
+        } else if (node instanceof WhileLoopNode) {
+            WhileLoopNode whileNode = (WhileLoopNode) node;
+            whileNode.setCondition(save(whileNode.getCondition()));
+            saveStatement(whileNode.getBody());
+        } else if (node instanceof ForLoopNode) {
+            ForLoopNode forNode = (ForLoopNode) node;
+            forNode.setStart(save(forNode.getStart()));
+            forNode.setEnd(save(forNode.getEnd()));
+            forNode.setStep(save(forNode.getStep()));
+            saveStatement(forNode.getBody());
+        }
+    }
+
+    // Returns expr, wrapped so that it saves its value if it is used again
+    private ExpressionNode save(ExpressionNode expr) {
+        if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            binOp.setLeft(save(binOp.getLeft()));
+            binOp.setRight(save(binOp.getRight()));
+        } else if (expr instanceof UnaryOpNode) {
+            ((UnaryOpNode) expr).setExpr(save(((UnaryOpNode) expr).getExpr()));
+        } else if (expr instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) expr;
+            access.setArray(save(access.getArray()));
+            access.setIndex(save(access.getIndex()));
+        } else if (expr instanceof FieldAccessNode) {
+            ((FieldAccessNode) expr).setRecord(save(((FieldAccessNode) expr).getRecord()));
+        } else if (expr instanceof FunctionCallNode || expr instanceof ExpressionListNode) {
+            List<ExpressionNode> expressions = expr instanceof FunctionCallNode
+                    ? ((FunctionCallNode) expr).getArguments()
+                    : ((ExpressionListNode) expr).getExpressions();
+            if (expressions != null) {
+                for (int i = 0; i < expressions.size(); i++) {
+                    ExpressionNode saved = save(expressions.get(i));
+                    saved.setParent(expr);
+                    expressions.set(i, saved);
+                }
+            }
+        }
+
+        Value value = expr == null ? null : reused.get(expr);
+        if (value == null) {
+            return expr;
+        }
+        SavedValueNode saved = new SavedValueNode(value.name, expr);
+        saved.setResolvedType(expr.getResolvedType());
+        return saved;
+    }
+
+    // Structural key of an expression; expressions with equal keys compute equal values as long
+    // as nothing they read changes in between
+    static String key(ExpressionNode expr) {
+        if (expr instanceof NumberNode) {
+            return String.valueOf(((NumberNode) expr).getValue());
+        } else if (expr instanceof RealNode) {
+            return ((RealNode) expr).getValue() + "r";
+        } else if (expr instanceof BooleanNode) {
+            return String.valueOf(((BooleanNode) expr).isValue());
+        } else if (expr instanceof StringNode) {
+            return "\"" + ((StringNode) expr).getValue() + "\"";
+        } else if (expr instanceof IdentifierNode) {
+            return ((IdentifierNode) expr).getName();
+        } else if (expr instanceof BinaryOpNode) {
+            BinaryOpNode binOp = (BinaryOpNode) expr;
+            return "(" + binOp.getOperator() + " " + key(binOp.getLeft()) + " " + key(binOp.getRight()) + ")";
+        } else if (expr instanceof UnaryOpNode) {
+            UnaryOpNode unOp = (UnaryOpNode) expr;
+            return "(" + unOp.getOperator() + " " + key(unOp.getExpr()) + ")";
+        } else if (expr instanceof ArrayAccessNode) {
+            ArrayAccessNode access = (ArrayAccessNode) expr;
+            return key(access.getArray()) + "[" + key(access.getIndex()) + "]";
+        } else if (expr instanceof FieldAccessNode) {
+            return key(((FieldAccessNode) expr).getRecord()) + "." + ((FieldAccessNode) expr).getFieldName();
+        } else if (expr instanceof FunctionCallNode) {
+            FunctionCallNode call = (FunctionCallNode) expr;
+            StringBuilder key = new StringBuilder("(" + call.getFunctionName());
+            if (call.getArguments() != null) {
+                for (ExpressionNode arg : call.getArguments()) {
+                    key.append(' ').append(key(arg));
+                }
+            }
+            return key.append(')').toString();
+        } else if (expr instanceof SavedValueNode) {
+            return key(((SavedValueNode) expr).getExpression());
+        }
+        return expr.toString();
+    }
+}
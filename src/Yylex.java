@@ -68,8 +68,8 @@ class Yylex implements java_cup.runtime.Scanner {
     "\1\13\1\14\12\15\1\16\1\17\1\20\1\21\1\22"+
     "\2\0\32\23\1\24\1\0\1\25\1\0\1\26\1\0"+
     "\1\27\1\30\1\31\1\32\1\33\1\34\1\35\1\36"+
-    "\1\37\2\23\1\40\1\23\1\41\1\42\1\43\1\23"+
-    "\1\44\1\45\1\46\1\47\1\50\1\51\1\52\1\53"+
+    "\1\37\2\23\1\40\1\41\1\42\1\43\1\44\1\23"+
+    "\1\45\1\46\1\47\1\50\1\51\1\52\1\53\1\54"+
     "\1\23\u0185\0";
 
   private static int [] zzUnpackcmap_blocks() {
@@ -99,16 +99,17 @@ class Yylex implements java_cup.runtime.Scanner {
   private static final String ZZ_ACTION_PACKED_0 =
     "\1\0\1\1\1\0\1\2\1\3\1\4\1\5\1\6"+
     "\1\7\1\10\1\11\1\12\1\13\1\14\1\15\1\16"+
-    "\1\17\1\20\1\21\1\22\17\20\1\23\1\24\1\25"+
-    "\1\26\1\27\1\30\1\31\7\20\1\32\1\33\1\34"+
-    "\2\20\1\35\12\20\1\36\3\20\1\37\1\20\1\40"+
-    "\2\20\1\41\11\20\1\42\1\20\1\43\2\20\1\44"+
-    "\2\20\1\45\1\20\1\46\4\20\1\47\1\50\1\51"+
-    "\1\20\1\52\1\20\1\53\1\20\1\54\4\20\1\55"+
-    "\2\20\1\56\1\57\1\20\1\60\1\61\1\62\1\63";
+    "\1\17\1\20\1\21\1\22\20\20\1\23\1\24\1\25"+
+    "\1\26\1\27\1\30\1\31\1\32\3\20\1\33\4\20"+
+    "\1\34\1\35\1\36\3\20\1\37\12\20\1\40\3\20"+
+    "\1\41\1\20\1\42\2\20\1\43\1\44\12\20\1\45"+
+    "\1\20\1\46\2\20\1\47\2\20\1\50\1\20\1\51"+
+    "\5\20\1\52\1\53\1\54\1\20\1\55\1\20\1\56"+
+    "\1\20\1\57\5\20\1\60\2\20\1\61\1\62\2\20"+
+    "\1\63\1\64\1\65\1\66\1\67";
 
   private static int [] zzUnpackAction() {
-    int [] result = new int[122];
+    int [] result = new int[132];
     int offset = 0;
     offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
     return result;
@@ -133,25 +134,26 @@ class Yylex implements java_cup.runtime.Scanner {
   private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
 
   private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\54\0\130\0\204\0\204\0\204\0\204\0\204"+
-    "\0\204\0\260\0\334\0\u0108\0\u0134\0\204\0\u0160\0\204"+
-    "\0\u018c\0\u01b8\0\204\0\204\0\u01e4\0\u0210\0\u023c\0\u0268"+
-    "\0\u0294\0\u02c0\0\u02ec\0\u0318\0\u0344\0\u0370\0\u039c\0\u03c8"+
-    "\0\u03f4\0\u0420\0\u044c\0\204\0\204\0\u0478\0\u04a4\0\204"+
-    "\0\204\0\204\0\u04d0\0\u04fc\0\u0528\0\u0554\0\u0580\0\u05ac"+
-    "\0\u05d8\0\u01b8\0\u0604\0\u01b8\0\u0630\0\u065c\0\u01b8\0\u0688"+
-    "\0\u06b4\0\u06e0\0\u070c\0\u0738\0\u0764\0\u0790\0\u07bc\0\u07e8"+
-    "\0\u0814\0\u01b8\0\u0840\0\u086c\0\u0898\0\u01b8\0\u08c4\0\u01b8"+
-    "\0\u08f0\0\u091c\0\u01b8\0\u0948\0\u0974\0\u09a0\0\u09cc\0\u09f8"+
-    "\0\u0a24\0\u0a50\0\u0a7c\0\u0aa8\0\u01b8\0\u0ad4\0\u01b8\0\u0b00"+
-    "\0\u0b2c\0\u01b8\0\u0b58\0\u0b84\0\u01b8\0\u0bb0\0\u01b8\0\u0bdc"+
-    "\0\u0c08\0\u0c34\0\u0c60\0\u01b8\0\u01b8\0\u01b8\0\u0c8c\0\u01b8"+
-    "\0\u0cb8\0\u01b8\0\u0ce4\0\u01b8\0\u0d10\0\u0d3c\0\u0d68\0\u0d94"+
-    "\0\u01b8\0\u0dc0\0\u0dec\0\u01b8\0\u01b8\0\u0e18\0\u01b8\0\u01b8"+
-    "\0\u01b8\0\u01b8";
+    "\0\0\0\55\0\132\0\207\0\207\0\207\0\207\0\207"+
+    "\0\207\0\264\0\341\0\u010e\0\u013b\0\207\0\u0168\0\207"+
+    "\0\u0195\0\u01c2\0\207\0\207\0\u01ef\0\u021c\0\u0249\0\u0276"+
+    "\0\u02a3\0\u02d0\0\u02fd\0\u032a\0\u0357\0\u0384\0\u03b1\0\u03de"+
+    "\0\u040b\0\u0438\0\u0465\0\u0492\0\207\0\207\0\u04bf\0\207"+
+    "\0\u04ec\0\207\0\207\0\207\0\u0519\0\u0546\0\u0573\0\u01c2"+
+    "\0\u05a0\0\u05cd\0\u05fa\0\u0627\0\u01c2\0\u0654\0\u01c2\0\u0681"+
+    "\0\u06ae\0\u06db\0\u01c2\0\u0708\0\u0735\0\u0762\0\u078f\0\u07bc"+
+    "\0\u07e9\0\u0816\0\u0843\0\u0870\0\u089d\0\u01c2\0\u08ca\0\u08f7"+
+    "\0\u0924\0\u01c2\0\u0951\0\u01c2\0\u097e\0\u09ab\0\u01c2\0\u01c2"+
+    "\0\u09d8\0\u0a05\0\u0a32\0\u0a5f\0\u0a8c\0\u0ab9\0\u0ae6\0\u0b13"+
+    "\0\u0b40\0\u0b6d\0\u01c2\0\u0b9a\0\u01c2\0\u0bc7\0\u0bf4\0\u01c2"+
+    "\0\u0c21\0\u0c4e\0\u01c2\0\u0c7b\0\u01c2\0\u0ca8\0\u0cd5\0\u0d02"+
+    "\0\u0d2f\0\u0d5c\0\u01c2\0\u01c2\0\u01c2\0\u0d89\0\u01c2\0\u0db6"+
+    "\0\u01c2\0\u0de3\0\u01c2\0\u0e10\0\u0e3d\0\u0e6a\0\u0e97\0\u0ec4"+
+    "\0\u01c2\0\u0ef1\0\u0f1e\0\u01c2\0\u01c2\0\u0f4b\0\u0f78\0\u01c2"+
+    "\0\u01c2\0\u01c2\0\u01c2\0\u01c2";
 
   private static int [] zzUnpackRowMap() {
-    int [] result = new int[122];
+    int [] result = new int[132];
     int offset = 0;
     offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
     return result;
@@ -178,87 +180,93 @@ class Yylex implements java_cup.runtime.Scanner {
     "\1\11\1\12\1\13\1\14\1\15\1\16\1\17\1\20"+
     "\1\21\1\22\1\23\1\24\1\0\1\25\1\26\2\22"+
     "\1\27\1\30\2\22\1\31\1\32\1\33\1\34\1\35"+
-    "\1\36\1\37\1\40\1\22\1\41\1\42\1\43\1\22"+
-    "\1\0\3\2\50\0\2\3\2\0\1\44\47\3\67\0"+
-    "\1\45\54\0\1\46\52\0\1\47\1\0\1\14\57\0"+
-    "\1\50\53\0\1\51\53\0\1\52\47\0\1\22\5\0"+
-    "\1\22\2\0\26\22\15\0\1\22\5\0\1\22\2\0"+
-    "\13\22\1\53\2\22\1\54\7\22\15\0\1\22\5\0"+
-    "\1\22\2\0\14\22\1\55\11\22\15\0\1\22\5\0"+
-    "\1\22\2\0\12\22\1\56\1\57\12\22\15\0\1\22"+
-    "\5\0\1\22\2\0\1\22\1\60\12\22\1\61\11\22"+
-    "\15\0\1\22\5\0\1\22\2\0\6\22\1\62\4\22"+
-    "\1\63\3\22\1\64\6\22\15\0\1\22\5\0\1\22"+
-    "\2\0\14\22\1\65\11\22\15\0\1\22\5\0\1\22"+
-    "\2\0\14\22\1\66\11\22\15\0\1\22\5\0\1\22"+
-    "\2\0\16\22\1\67\7\22\15\0\1\22\5\0\1\22"+
-    "\2\0\16\22\1\70\7\22\15\0\1\22\5\0\1\22"+
-    "\2\0\5\22\1\71\6\22\1\72\11\22\15\0\1\22"+
-    "\5\0\1\22\2\0\20\22\1\73\5\22\15\0\1\22"+
-    "\5\0\1\22\2\0\10\22\1\74\5\22\1\75\6\22"+
-    "\1\76\15\0\1\22\5\0\1\22\2\0\1\22\1\77"+
-    "\24\22\15\0\1\22\5\0\1\22\2\0\10\22\1\100"+
-    "\15\22\15\0\1\22\5\0\1\22\2\0\14\22\1\101"+
-    "\11\22\2\46\1\0\51\46\15\0\1\47\53\0\1\22"+
-    "\5\0\1\22\2\0\4\22\1\102\21\22\15\0\1\22"+
-    "\5\0\1\22\2\0\16\22\1\103\7\22\15\0\1\22"+
-    "\5\0\1\22\2\0\14\22\1\104\11\22\15\0\1\22"+
-    "\5\0\1\22\2\0\17\22\1\105\6\22\15\0\1\22"+
-    "\5\0\1\22\2\0\4\22\1\106\21\22\15\0\1\22"+
-    "\5\0\1\22\2\0\12\22\1\107\13\22\15\0\1\22"+
-    "\5\0\1\22\2\0\16\22\1\110\7\22\15\0\1\22"+
-    "\5\0\1\22\2\0\20\22\1\111\5\22\15\0\1\22"+
-    "\5\0\1\22\2\0\14\22\1\112\11\22\15\0\1\22"+
-    "\5\0\1\22\2\0\20\22\1\113\5\22\15\0\1\22"+
-    "\5\0\1\22\2\0\11\22\1\114\14\22\15\0\1\22"+
-    "\5\0\1\22\2\0\1\22\1\115\1\22\1\116\14\22"+
-    "\1\117\5\22\15\0\1\22\5\0\1\22\2\0\21\22"+
-    "\1\120\4\22\15\0\1\22\5\0\1\22\2\0\16\22"+
-    "\1\121\7\22\15\0\1\22\5\0\1\22\2\0\5\22"+
-    "\1\122\20\22\15\0\1\22\5\0\1\22\2\0\21\22"+
-    "\1\123\4\22\15\0\1\22\5\0\1\22\2\0\15\22"+
-    "\1\124\10\22\15\0\1\22\5\0\1\22\2\0\16\22"+
-    "\1\125\7\22\15\0\1\22\5\0\1\22\2\0\11\22"+
-    "\1\126\14\22\15\0\1\22\5\0\1\22\2\0\16\22"+
-    "\1\127\7\22\15\0\1\22\5\0\1\22\2\0\1\22"+
-    "\1\130\24\22\15\0\1\22\5\0\1\22\2\0\12\22"+
-    "\1\131\13\22\15\0\1\22\5\0\1\22\2\0\5\22"+
-    "\1\132\20\22\15\0\1\22\5\0\1\22\2\0\17\22"+
-    "\1\133\6\22\15\0\1\22\5\0\1\22\2\0\5\22"+
-    "\1\134\20\22\15\0\1\22\5\0\1\22\2\0\15\22"+
-    "\1\135\10\22\15\0\1\22\5\0\1\22\2\0\13\22"+
-    "\1\136\12\22\15\0\1\22\5\0\1\22\2\0\12\22"+
-    "\1\137\13\22\15\0\1\22\5\0\1\22\2\0\14\22"+
-    "\1\140\11\22\15\0\1\22\5\0\1\22\2\0\21\22"+
-    "\1\141\4\22\15\0\1\22\5\0\1\22\2\0\20\22"+
-    "\1\142\5\22\15\0\1\22\5\0\1\22\2\0\11\22"+
-    "\1\143\14\22\15\0\1\22\5\0\1\22\2\0\13\22"+
-    "\1\144\12\22\15\0\1\22\5\0\1\22\2\0\5\22"+
-    "\1\145\20\22\15\0\1\22\5\0\1\22\2\0\5\22"+
-    "\1\146\20\22\15\0\1\22\5\0\1\22\2\0\12\22"+
-    "\1\147\13\22\15\0\1\22\5\0\1\22\2\0\25\22"+
-    "\1\150\15\0\1\22\5\0\1\22\2\0\5\22\1\151"+
-    "\20\22\15\0\1\22\5\0\1\22\2\0\5\22\1\152"+
-    "\20\22\15\0\1\22\5\0\1\22\2\0\7\22\1\153"+
-    "\16\22\15\0\1\22\5\0\1\22\2\0\20\22\1\154"+
-    "\5\22\15\0\1\22\5\0\1\22\2\0\16\22\1\155"+
-    "\7\22\15\0\1\22\5\0\1\22\2\0\16\22\1\156"+
-    "\7\22\15\0\1\22\5\0\1\22\2\0\11\22\1\157"+
-    "\14\22\15\0\1\22\5\0\1\22\2\0\13\22\1\160"+
-    "\12\22\15\0\1\22\5\0\1\22\2\0\5\22\1\161"+
-    "\20\22\15\0\1\22\5\0\1\22\2\0\1\22\1\162"+
-    "\24\22\15\0\1\22\5\0\1\22\2\0\5\22\1\163"+
-    "\20\22\15\0\1\22\5\0\1\22\2\0\4\22\1\164"+
-    "\21\22\15\0\1\22\5\0\1\22\2\0\13\22\1\165"+
-    "\12\22\15\0\1\22\5\0\1\22\2\0\13\22\1\166"+
-    "\12\22\15\0\1\22\5\0\1\22\2\0\7\22\1\167"+
-    "\16\22\15\0\1\22\5\0\1\22\2\0\13\22\1\170"+
-    "\12\22\15\0\1\22\5\0\1\22\2\0\16\22\1\171"+
-    "\7\22\15\0\1\22\5\0\1\22\2\0\5\22\1\172"+
-    "\20\22";
+    "\1\36\1\37\1\40\1\41\1\22\1\42\1\43\1\44"+
+    "\1\22\1\0\3\2\51\0\2\3\2\0\1\45\50\3"+
+    "\70\0\1\46\55\0\1\47\4\0\1\50\46\0\1\51"+
+    "\1\0\1\14\60\0\1\52\54\0\1\53\54\0\1\54"+
+    "\50\0\1\22\5\0\1\22\2\0\27\22\15\0\1\22"+
+    "\5\0\1\22\2\0\14\22\1\55\2\22\1\56\7\22"+
+    "\15\0\1\22\5\0\1\22\2\0\15\22\1\57\10\22"+
+    "\1\60\15\0\1\22\5\0\1\22\2\0\12\22\1\61"+
+    "\1\22\1\62\12\22\15\0\1\22\5\0\1\22\2\0"+
+    "\1\22\1\63\13\22\1\64\11\22\15\0\1\22\5\0"+
+    "\1\22\2\0\6\22\1\65\5\22\1\66\3\22\1\67"+
+    "\6\22\15\0\1\22\5\0\1\22\2\0\15\22\1\70"+
+    "\11\22\15\0\1\22\5\0\1\22\2\0\15\22\1\71"+
+    "\11\22\15\0\1\22\5\0\1\22\2\0\15\22\1\72"+
+    "\11\22\15\0\1\22\5\0\1\22\2\0\17\22\1\73"+
+    "\7\22\15\0\1\22\5\0\1\22\2\0\17\22\1\74"+
+    "\7\22\15\0\1\22\5\0\1\22\2\0\5\22\1\75"+
+    "\7\22\1\76\11\22\15\0\1\22\5\0\1\22\2\0"+
+    "\21\22\1\77\5\22\15\0\1\22\5\0\1\22\2\0"+
+    "\10\22\1\100\6\22\1\101\6\22\1\102\15\0\1\22"+
+    "\5\0\1\22\2\0\1\22\1\103\25\22\15\0\1\22"+
+    "\5\0\1\22\2\0\10\22\1\104\16\22\15\0\1\22"+
+    "\5\0\1\22\2\0\15\22\1\105\11\22\2\47\1\0"+
+    "\52\47\15\0\1\51\54\0\1\22\5\0\1\22\2\0"+
+    "\4\22\1\106\22\22\15\0\1\22\5\0\1\22\2\0"+
+    "\17\22\1\107\7\22\15\0\1\22\5\0\1\22\2\0"+
+    "\15\22\1\110\11\22\15\0\1\22\5\0\1\22\2\0"+
+    "\20\22\1\111\6\22\15\0\1\22\5\0\1\22\2\0"+
+    "\4\22\1\112\22\22\15\0\1\22\5\0\1\22\2\0"+
+    "\12\22\1\113\14\22\15\0\1\22\5\0\1\22\2\0"+
+    "\17\22\1\114\7\22\15\0\1\22\5\0\1\22\2\0"+
+    "\21\22\1\115\5\22\15\0\1\22\5\0\1\22\2\0"+
+    "\15\22\1\116\11\22\15\0\1\22\5\0\1\22\2\0"+
+    "\4\22\1\117\22\22\15\0\1\22\5\0\1\22\2\0"+
+    "\21\22\1\120\5\22\15\0\1\22\5\0\1\22\2\0"+
+    "\11\22\1\121\15\22\15\0\1\22\5\0\1\22\2\0"+
+    "\1\22\1\122\1\22\1\123\15\22\1\124\1\22\1\125"+
+    "\3\22\15\0\1\22\5\0\1\22\2\0\22\22\1\126"+
+    "\4\22\15\0\1\22\5\0\1\22\2\0\17\22\1\127"+
+    "\7\22\15\0\1\22\5\0\1\22\2\0\5\22\1\130"+
+    "\21\22\15\0\1\22\5\0\1\22\2\0\22\22\1\131"+
+    "\4\22\15\0\1\22\5\0\1\22\2\0\16\22\1\132"+
+    "\10\22\15\0\1\22\5\0\1\22\2\0\17\22\1\133"+
+    "\7\22\15\0\1\22\5\0\1\22\2\0\11\22\1\134"+
+    "\15\22\15\0\1\22\5\0\1\22\2\0\17\22\1\135"+
+    "\7\22\15\0\1\22\5\0\1\22\2\0\1\22\1\136"+
+    "\25\22\15\0\1\22\5\0\1\22\2\0\12\22\1\137"+
+    "\14\22\15\0\1\22\5\0\1\22\2\0\5\22\1\140"+
+    "\21\22\15\0\1\22\5\0\1\22\2\0\20\22\1\141"+
+    "\6\22\15\0\1\22\5\0\1\22\2\0\5\22\1\142"+
+    "\21\22\15\0\1\22\5\0\1\22\2\0\16\22\1\143"+
+    "\10\22\15\0\1\22\5\0\1\22\2\0\14\22\1\144"+
+    "\12\22\15\0\1\22\5\0\1\22\2\0\12\22\1\145"+
+    "\14\22\15\0\1\22\5\0\1\22\2\0\15\22\1\146"+
+    "\11\22\15\0\1\22\5\0\1\22\2\0\22\22\1\147"+
+    "\4\22\15\0\1\22\5\0\1\22\2\0\5\22\1\150"+
+    "\21\22\15\0\1\22\5\0\1\22\2\0\21\22\1\151"+
+    "\5\22\15\0\1\22\5\0\1\22\2\0\11\22\1\152"+
+    "\15\22\15\0\1\22\5\0\1\22\2\0\14\22\1\153"+
+    "\12\22\15\0\1\22\5\0\1\22\2\0\5\22\1\154"+
+    "\21\22\15\0\1\22\5\0\1\22\2\0\5\22\1\155"+
+    "\21\22\15\0\1\22\5\0\1\22\2\0\12\22\1\156"+
+    "\14\22\15\0\1\22\5\0\1\22\2\0\26\22\1\157"+
+    "\15\0\1\22\5\0\1\22\2\0\5\22\1\160\21\22"+
+    "\15\0\1\22\5\0\1\22\2\0\5\22\1\161\21\22"+
+    "\15\0\1\22\5\0\1\22\2\0\7\22\1\162\17\22"+
+    "\15\0\1\22\5\0\1\22\2\0\21\22\1\163\5\22"+
+    "\15\0\1\22\5\0\1\22\2\0\17\22\1\164\7\22"+
+    "\15\0\1\22\5\0\1\22\2\0\17\22\1\165\7\22"+
+    "\15\0\1\22\5\0\1\22\2\0\17\22\1\166\7\22"+
+    "\15\0\1\22\5\0\1\22\2\0\11\22\1\167\15\22"+
+    "\15\0\1\22\5\0\1\22\2\0\14\22\1\170\12\22"+
+    "\15\0\1\22\5\0\1\22\2\0\5\22\1\171\21\22"+
+    "\15\0\1\22\5\0\1\22\2\0\1\22\1\172\25\22"+
+    "\15\0\1\22\5\0\1\22\2\0\5\22\1\173\21\22"+
+    "\15\0\1\22\5\0\1\22\2\0\4\22\1\174\22\22"+
+    "\15\0\1\22\5\0\1\22\2\0\14\22\1\175\12\22"+
+    "\15\0\1\22\5\0\1\22\2\0\20\22\1\176\6\22"+
+    "\15\0\1\22\5\0\1\22\2\0\14\22\1\177\12\22"+
+    "\15\0\1\22\5\0\1\22\2\0\7\22\1\200\17\22"+
+    "\15\0\1\22\5\0\1\22\2\0\14\22\1\201\12\22"+
+    "\15\0\1\22\5\0\1\22\2\0\17\22\1\202\7\22"+
+    "\15\0\1\22\5\0\1\22\2\0\5\22\1\203\21\22"+
+    "\15\0\1\22\5\0\1\22\2\0\5\22\1\204\21\22";
 
   private static int [] zzUnpackTrans() {
-    int [] result = new int[3652];
+    int [] result = new int[4005];
     int offset = 0;
     offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
     return result;
@@ -302,10 +310,11 @@ class Yylex implements java_cup.runtime.Scanner {
 
   private static final String ZZ_ATTRIBUTE_PACKED_0 =
     "\1\0\1\1\1\0\6\11\4\1\1\11\1\1\1\11"+
-    "\2\1\2\11\17\1\2\11\2\1\3\11\120\1";
+    "\2\1\2\11\20\1\2\11\1\1\1\11\1\1\3\11"+
+    "\130\1";
 
   private static int [] zzUnpackAttribute() {
-    int [] result = new int[122];
+    int [] result = new int[132];
     int offset = 0;
     offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
     return result;
@@ -386,6 +395,32 @@ class Yylex implements java_cup.runtime.Scanner {
   /* user code: */
   /* User code section for imports, variable declarations, etc. */
 
+  /* Token tracing is off by default: enable it with setTrace(true) or -Dlexer.trace=true */
+  private boolean trace = Boolean.getBoolean("lexer.trace");
+
+  public void setTrace(boolean trace) {
+    this.trace = trace;
+  }
+
+  public boolean isTrace() {
+    return trace;
+  }
+
+  /* Builds a token; the trace line is only built and printed when tracing is on */
+  private Symbol symbol(int type, String name) {
+    if (trace) {
+      System.out.println(name);
+    }
+    return new Symbol(type);
+  }
+
+  private Symbol symbol(int type, String name, Object value) {
+    if (trace) {
+      System.out.println(name + ": " + yytext());
+    }
+    return new Symbol(type, value);
+  }
+
 
   /**
    * Creates a new scanner
@@ -739,257 +774,277 @@ class Yylex implements java_cup.runtime.Scanner {
             { /* Ignore whitespaces */
             }
             // fall through
-          case 52: break;
+          case 56: break;
           case 2:
-            { System.out.println("OPEN PAREN"); return new Symbol(sym.LPAREN);
+            { return symbol(sym.LPAREN, "OPEN PAREN");
             }
             // fall through
-          case 53: break;
+          case 57: break;
           case 3:
-            { System.out.println("CLOSE PAREN"); return new Symbol(sym.RPAREN);
+            { return symbol(sym.RPAREN, "CLOSE PAREN");
             }
             // fall through
-          case 54: break;
+          case 58: break;
           case 4:
-            { System.out.println("MULTIPLY"); return new Symbol(sym.MULTIPLY);
+            { return symbol(sym.MULTIPLY, "MULTIPLY");
             }
             // fall through
-          case 55: break;
+          case 59: break;
           case 5:
-            { System.out.println("PLUS"); return new Symbol(sym.PLUS);
+            { return symbol(sym.PLUS, "PLUS");
             }
             // fall through
-          case 56: break;
+          case 60: break;
           case 6:
-            { System.out.println("COMMA"); return new Symbol(sym.COMMA);
+            { return symbol(sym.COMMA, "COMMA");
             }
             // fall through
-          case 57: break;
+          case 61: break;
           case 7:
-            { System.out.println("MINUS"); return new Symbol(sym.MINUS);
+            { return symbol(sym.MINUS, "MINUS");
             }
             // fall through
-          case 58: break;
+          case 62: break;
           case 8:
-            { System.out.println("DOT"); return new Symbol(sym.DOT);
+            { return symbol(sym.DOT, "DOT");
             }
             // fall through
-          case 59: break;
+          case 63: break;
           case 9:
-            { System.out.println("DIVIDE"); return new Symbol(sym.DIVIDE);
+            { return symbol(sym.DIVIDE, "DIVIDE");
             }
             // fall through
-          case 60: break;
+          case 64: break;
           case 10:
-            { System.out.println("NUMBER: " + yytext()); return new Symbol(sym.NUMBER, Integer.parseInt(yytext()));
+            { return symbol(sym.NUMBER, "NUMBER", Integer.parseInt(yytext()));
             }
             // fall through
-          case 61: break;
+          case 65: break;
           case 11:
-            { System.out.println("COLON"); return new Symbol(sym.COLON);
+            { return symbol(sym.COLON, "COLON");
             }
             // fall through
-          case 62: break;
+          case 66: break;
           case 12:
-            { System.out.println("SEMICOLON"); return new Symbol(sym.SEMICOLON);
+            { return symbol(sym.SEMICOLON, "SEMICOLON");
             }
             // fall through
-          case 63: break;
+          case 67: break;
           case 13:
-            { System.out.println("LESS_THAN"); return new Symbol(sym.LESS_THAN);
+            { return symbol(sym.LESS_THAN, "LESS_THAN");
             }
             // fall through
-          case 64: break;
+          case 68: break;
           case 14:
-            { System.out.println("EQUAL"); return new Symbol(sym.EQUAL);
+            { return symbol(sym.EQUAL, "EQUAL");
             }
             // fall through
-          case 65: break;
+          case 69: break;
           case 15:
-            { System.out.println("GREATER_THAN"); return new Symbol(sym.GREATER_THAN);
+            { return symbol(sym.GREATER_THAN, "GREATER_THAN");
             }
             // fall through
-          case 66: break;
+          case 70: break;
           case 16:
-            { System.out.println("IDENTIFIER: " + yytext()); return new Symbol(sym.IDENTIFIER, yytext());
+            { return symbol(sym.IDENTIFIER, "IDENTIFIER", yytext());
             }
             // fall through
-          case 67: break;
+          case 71: break;
           case 17:
-            { System.out.println("OPEN BRACKET"); return new Symbol(sym.LBRACKET);
+            { return symbol(sym.LBRACKET, "OPEN BRACKET");
             }
             // fall through
-          case 68: break;
+          case 72: break;
           case 18:
-            { System.out.println("CLOSE BRACKET"); return new Symbol(sym.RBRACKET);
+            { return symbol(sym.RBRACKET, "CLOSE BRACKET");
             }
             // fall through
-          case 69: break;
+          case 73: break;
           case 19:
-            { System.out.println("STRING_LITERAL: " + yytext()); return new Symbol(sym.STRING_LITERAL, yytext().substring(1, yytext().length()-1));
+            { return symbol(sym.STRING_LITERAL, "STRING_LITERAL", yytext().substring(1, yytext().length()-1));
             }
             // fall through
-          case 70: break;
+          case 74: break;
           case 20:
-            { System.out.println("RANGE"); return new Symbol(sym.RANGE);
+            { return symbol(sym.RANGE, "RANGE");
             }
             // fall through
-          case 71: break;
+          case 75: break;
           case 21:
             { /* Ignore comments */
             }
             // fall through
-          case 72: break;
+          case 76: break;
           case 22:
-            { System.out.println("REAL: " + yytext()); return new Symbol(sym.REAL, Double.parseDouble(yytext()));
+            { return symbol(sym.NOT_EQUAL, "NOT_EQUAL");
             }
             // fall through
-          case 73: break;
+          case 77: break;
           case 23:
-            { System.out.println("ASSIGN"); return new Symbol(sym.ASSIGN);
+            { return symbol(sym.REAL, "REAL", Double.parseDouble(yytext()));
             }
             // fall through
-          case 74: break;
+          case 78: break;
           case 24:
-            { System.out.println("LESS_THAN_OR_EQUAL"); return new Symbol(sym.LESS_THAN_OR_EQUAL);
+            { return symbol(sym.ASSIGN, "ASSIGN");
             }
             // fall through
-          case 75: break;
+          case 79: break;
           case 25:
-            { System.out.println("GREATER_THAN_OR_EQUAL"); return new Symbol(sym.GREATER_THAN_OR_EQUAL);
+            { return symbol(sym.LESS_THAN_OR_EQUAL, "LESS_THAN_OR_EQUAL");
             }
             // fall through
-          case 76: break;
+          case 80: break;
           case 26:
-            { System.out.println("IF"); return new Symbol(sym.IF);
+            { return symbol(sym.GREATER_THAN_OR_EQUAL, "GREATER_THAN_OR_EQUAL");
             }
             // fall through
-          case 77: break;
+          case 81: break;
           case 27:
-            { System.out.println("IN"); return new Symbol(sym.IN);
+            { return symbol(sym.BY, "BY");
             }
             // fall through
-          case 78: break;
+          case 82: break;
           case 28:
-            { System.out.println("IS"); return new Symbol(sym.IS);
+            { return symbol(sym.IF, "IF");
             }
             // fall through
-          case 79: break;
+          case 83: break;
           case 29:
-            { System.out.println("OR"); return new Symbol(sym.OR);
+            { return symbol(sym.IN, "IN");
             }
             // fall through
-          case 80: break;
+          case 84: break;
           case 30:
-            { System.out.println("AND"); return new Symbol(sym.AND);
+            { return symbol(sym.IS, "IS");
             }
             // fall through
-          case 81: break;
+          case 85: break;
           case 31:
-            { System.out.println("END"); return new Symbol(sym.END);
+            { return symbol(sym.OR, "OR");
             }
             // fall through
-          case 82: break;
+          case 86: break;
           case 32:
-            { System.out.println("FOR"); return new Symbol(sym.FOR);
+            { return symbol(sym.AND, "AND");
             }
             // fall through
-          case 83: break;
+          case 87: break;
           case 33:
-            { System.out.println("NOT"); return new Symbol(sym.NOT);
+            { return symbol(sym.END, "END");
             }
             // fall through
-          case 84: break;
+          case 88: break;
           case 34:
-            { System.out.println("VAR"); return new Symbol(sym.VAR);
+            { return symbol(sym.FOR, "FOR");
             }
             // fall through
-          case 85: break;
+          case 89: break;
           case 35:
-            { System.out.println("XOR"); return new Symbol(sym.XOR);
+            { return symbol(sym.MOD, "MOD");
             }
             // fall through
-          case 86: break;
+          case 90: break;
           case 36:
-            { System.out.println("ELSE"); return new Symbol(sym.ELSE);
+            { return symbol(sym.NOT, "NOT");
             }
             // fall through
-          case 87: break;
+          case 91: break;
           case 37:
-            { System.out.println("LOOP"); return new Symbol(sym.LOOP);
+            { return symbol(sym.VAR, "VAR");
             }
             // fall through
-          case 88: break;
+          case 92: break;
           case 38:
-            { System.out.println("REAL_TYPE"); return new Symbol(sym.REAL_TYPE);
+            { return symbol(sym.XOR, "XOR");
             }
             // fall through
-          case 89: break;
+          case 93: break;
           case 39:
-            { System.out.println("THEN"); return new Symbol(sym.THEN);
+            { return symbol(sym.ELSE, "ELSE");
             }
             // fall through
-          case 90: break;
+          case 94: break;
           case 40:
-            { System.out.println("TRUE"); return new Symbol(sym.TRUE);
+            { return symbol(sym.LOOP, "LOOP");
             }
             // fall through
-          case 91: break;
+          case 95: break;
           case 41:
-            { System.out.println("TYPE"); return new Symbol(sym.TYPE);
+            { return symbol(sym.REAL_TYPE, "REAL_TYPE");
             }
             // fall through
-          case 92: break;
+          case 96: break;
           case 42:
-            { System.out.println("ARRAY"); return new Symbol(sym.ARRAY);
+            { return symbol(sym.THEN, "THEN");
             }
             // fall through
-          case 93: break;
+          case 97: break;
           case 43:
-            { System.out.println("FALSE"); return new Symbol(sym.FALSE);
+            { return symbol(sym.TRUE, "TRUE");
             }
             // fall through
-          case 94: break;
+          case 98: break;
           case 44:
-            { System.out.println("PRINT"); return new Symbol(sym.PRINT);
+            { return symbol(sym.TYPE, "TYPE");
             }
             // fall through
-          case 95: break;
+          case 99: break;
           case 45:
-            { System.out.println("WHILE"); return new Symbol(sym.WHILE);
+            { return symbol(sym.ARRAY, "ARRAY");
             }
             // fall through
-          case 96: break;
+          case 100: break;
           case 46:
-            { System.out.println("RECORD"); return new Symbol(sym.RECORD);
+            { return symbol(sym.FALSE, "FALSE");
             }
             // fall through
-          case 97: break;
+          case 101: break;
           case 47:
-            { System.out.println("RETURN"); return new Symbol(sym.RETURN);
+            { return symbol(sym.PRINT, "PRINT");
             }
             // fall through
-          case 98: break;
+          case 102: break;
           case 48:
-            { System.out.println("STRING_TYPE"); return new Symbol(sym.STRING_TYPE);
+            { return symbol(sym.WHILE, "WHILE");
             }
             // fall through
-          case 99: break;
+          case 103: break;
           case 49:
-            { System.out.println("BOOLEAN_TYPE"); return new Symbol(sym.BOOLEAN_TYPE);
+            { return symbol(sym.RECORD, "RECORD");
             }
             // fall through
-          case 100: break;
+          case 104: break;
           case 50:
-            { System.out.println("INTEGER_TYPE"); return new Symbol(sym.INTEGER_TYPE);
+            { return symbol(sym.RETURN, "RETURN");
             }
             // fall through
-          case 101: break;
+          case 105: break;
           case 51:
-            { System.out.println("ROUTINE"); return new Symbol(sym.ROUTINE);
+            { return symbol(sym.STRING_TYPE, "STRING_TYPE");
             }
             // fall through
-          case 102: break;
+          case 106: break;
+          case 52:
+            { return symbol(sym.BOOLEAN_TYPE, "BOOLEAN_TYPE");
+            }
+            // fall through
+          case 107: break;
+          case 53:
+            { return symbol(sym.INTEGER_TYPE, "INTEGER_TYPE");
+            }
+            // fall through
+          case 108: break;
+          case 54:
+            { return symbol(sym.REVERSE, "REVERSE");
+            }
+            // fall through
+          case 109: break;
+          case 55:
+            { return symbol(sym.ROUTINE, "ROUTINE");
+            }
+            // fall through
+          case 110: break;
           default:
             zzScanError(ZZ_NO_MATCH);
         }
@@ -30,7 +30,7 @@ public class parser extends java_cup.runtime.lr_parser {
   /** Production table. */
   protected static final short _production_table[][] = 
     unpackFromStrings(new String[] {
-    "\000\115\000\002\002\003\000\002\002\004\000\002\003" +
+    "\000\122\000\002\002\003\000\002\002\004\000\002\003" +
     "\004\000\002\003\003\000\002\004\003\000\002\004\004" +
     "\000\002\004\003\000\002\004\003\000\002\006\003\000" +
     "\002\006\003\000\002\006\003\000\002\006\003\000\002" +
@@ -43,17 +43,19 @@ public class parser extends java_cup.runtime.lr_parser {
     "\000\002\007\004\000\002\007\003\000\002\011\005\000" +
     "\002\011\004\000\002\016\005\000\002\016\006\000\002" +
     "\016\003\000\002\012\013\000\002\012\011\000\002\012" +
-    "\011\000\002\012\015\000\002\013\003\000\002\013\006" +
-    "\000\002\013\005\000\002\013\005\000\002\013\005\000" +
+    "\011\000\002\012\015\000\002\012\016\000\002\012\017" +
+    "\000\002\012\020\000\002\013\003\000\002\013\006\000" +
     "\002\013\005\000\002\013\005\000\002\013\005\000\002" +
     "\013\005\000\002\013\005\000\002\013\005\000\002\013" +
     "\005\000\002\013\005\000\002\013\005\000\002\013\005" +
-    "\000\002\013\004\000\002\013\003\000\002\013\003\000" +
-    "\002\013\003\000\002\013\003\000\002\013\003\000\002" +
-    "\013\005\000\002\013\005\000\002\014\005\000\002\014" +
-    "\003\000\002\015\014\000\002\015\013\000\002\020\005" +
-    "\000\002\020\003\000\002\021\005\000\002\022\004\000" +
-    "\002\024\004\000\002\024\003\000\002\023\006" });
+    "\000\002\013\005\000\002\013\005\000\002\013\005\000" +
+    "\002\013\005\000\002\013\005\000\002\013\004\000\002" +
+    "\013\003\000\002\013\003\000\002\013\003\000\002\013" +
+    "\003\000\002\013\003\000\002\013\005\000\002\013\005" +
+    "\000\002\014\005\000\002\014\003\000\002\015\014\000" +
+    "\002\015\013\000\002\020\005\000\002\020\003\000\002" +
+    "\021\005\000\002\022\004\000\002\024\004\000\002\024" +
+    "\003\000\002\023\006" });
 
   /** Access to production table. */
   public short[][] production_table() {return _production_table;}
@@ -61,26 +63,26 @@ public class parser extends java_cup.runtime.lr_parser {
   /** Parse-action table. */
   protected static final short[][] _action_table = 
     unpackFromStrings(new String[] {
-    "\000\254\000\024\004\025\015\013\021\022\024\004\025" +
+    "\000\303\000\024\004\025\015\013\021\022\024\004\025" +
     "\005\026\010\057\011\062\017\065\014\001\002\000\004" +
-    "\045\251\001\002\000\004\057\224\001\002\000\004\055" +
-    "\223\001\002\000\026\002\001\004\025\015\013\021\022" +
+    "\045\300\001\002\000\004\057\253\001\002\000\004\055" +
+    "\252\001\002\000\026\002\001\004\025\015\013\021\022" +
     "\024\004\025\005\026\010\057\011\062\017\065\014\001" +
     "\002\000\024\012\050\013\053\044\056\045\057\047\060" +
     "\057\055\060\047\061\054\064\051\001\002\000\010\033" +
     "\uffdb\047\uffdb\052\uffdb\001\002\000\026\002\ufffa\004\ufffa" +
     "\015\ufffa\021\ufffa\024\ufffa\025\ufffa\026\ufffa\057\ufffa\062" +
-    "\ufffa\065\ufffa\001\002\000\004\045\210\001\002\000\004" +
-    "\057\164\001\002\000\026\002\ufffd\004\ufffd\015\ufffd\021" +
+    "\ufffa\065\ufffa\001\002\000\004\045\237\001\002\000\004" +
+    "\057\213\001\002\000\026\002\ufffd\004\ufffd\015\ufffd\021" +
     "\ufffd\024\ufffd\025\ufffd\026\ufffd\057\ufffd\062\ufffd\065\ufffd" +
     "\001\002\000\026\002\ufffe\004\ufffe\015\ufffe\021\ufffe\024" +
     "\ufffe\025\ufffe\026\ufffe\057\ufffe\062\ufffe\065\ufffe\001\002" +
     "\000\024\012\050\013\053\044\056\045\057\047\060\057" +
-    "\055\060\047\061\054\064\051\001\002\000\010\033\160" +
-    "\047\125\052\126\001\002\000\026\002\ufffb\004\ufffb\015" +
+    "\055\060\047\061\054\064\051\001\002\000\010\033\207" +
+    "\047\131\052\132\001\002\000\026\002\ufffb\004\ufffb\015" +
     "\ufffb\021\ufffb\024\ufffb\025\ufffb\026\ufffb\057\ufffb\062\ufffb" +
-    "\065\ufffb\001\002\000\004\057\144\001\002\000\004\055" +
-    "\143\001\002\000\004\002\142\001\002\000\004\057\027" +
+    "\065\ufffb\001\002\000\004\057\150\001\002\000\004\055" +
+    "\147\001\002\000\004\002\146\001\002\000\004\057\027" +
     "\001\002\000\032\002\uffe0\004\uffe0\015\uffe0\017\uffe0\020" +
     "\uffe0\021\uffe0\024\uffe0\025\uffe0\026\uffe0\057\uffe0\062\uffe0" +
     "\065\uffe0\001\002\000\004\054\030\001\002\000\020\005" +
@@ -98,41 +100,55 @@ public class parser extends java_cup.runtime.lr_parser {
     "\011\031\057\036\063\033\001\002\000\016\004\ufff4\014" +
     "\ufff4\020\ufff4\046\ufff4\051\ufff4\055\ufff4\001\002\000\024" +
     "\012\050\013\053\044\056\045\057\047\060\057\055\060" +
-    "\047\061\054\064\051\001\002\000\054\004\uffc2\020\uffc2" +
-    "\027\uffc2\030\uffc2\031\uffc2\032\uffc2\034\uffc2\035\uffc2\036" +
-    "\uffc2\037\uffc2\040\uffc2\041\uffc2\042\uffc2\043\uffc2\046\uffc2" +
-    "\047\125\050\uffc2\051\uffc2\052\126\053\uffc2\055\uffc2\001" +
-    "\002\000\050\004\uffc4\020\uffc4\027\uffc4\030\uffc4\031\uffc4" +
-    "\032\uffc4\034\uffc4\035\uffc4\036\uffc4\037\uffc4\040\uffc4\041" +
-    "\uffc4\042\uffc4\043\uffc4\046\uffc4\050\uffc4\051\uffc4\053\uffc4" +
-    "\055\uffc4\001\002\000\050\004\uffc6\020\uffc6\027\uffc6\030" +
-    "\uffc6\031\uffc6\032\uffc6\034\uffc6\035\uffc6\036\uffc6\037\uffc6" +
-    "\040\uffc6\041\uffc6\042\uffc6\043\uffc6\046\uffc6\050\uffc6\051" +
-    "\uffc6\053\uffc6\055\uffc6\001\002\000\050\004\uffd6\020\uffd6" +
-    "\027\uffd6\030\uffd6\031\uffd6\032\uffd6\034\uffd6\035\uffd6\036" +
-    "\uffd6\037\uffd6\040\uffd6\041\uffd6\042\uffd6\043\uffd6\046\uffd6" +
-    "\050\uffd6\051\uffd6\053\uffd6\055\uffd6\001\002\000\042\004" +
-    "\uffeb\020\uffeb\027\073\030\063\031\070\032\067\034\072" +
-    "\035\075\036\071\037\066\040\074\041\064\042\076\043" +
-    "\065\051\uffeb\055\uffeb\001\002\000\050\004\uffc5\020\uffc5" +
-    "\027\uffc5\030\uffc5\031\uffc5\032\uffc5\034\uffc5\035\uffc5\036" +
-    "\uffc5\037\uffc5\040\uffc5\041\uffc5\042\uffc5\043\uffc5\046\uffc5" +
-    "\050\uffc5\051\uffc5\053\uffc5\055\uffc5\001\002\000\050\004" +
-    "\uffc3\020\uffc3\027\uffc3\030\uffc3\031\uffc3\032\uffc3\034\uffc3" +
-    "\035\uffc3\036\uffc3\037\uffc3\040\uffc3\041\uffc3\042\uffc3\043" +
-    "\uffc3\046\uffc3\050\uffc3\051\uffc3\053\uffc3\055\uffc3\001\002" +
-    "\000\056\004\uffdb\020\uffdb\027\uffdb\030\uffdb\031\uffdb\032" +
-    "\uffdb\034\uffdb\035\uffdb\036\uffdb\037\uffdb\040\uffdb\041\uffdb" +
-    "\042\uffdb\043\uffdb\045\121\046\uffdb\047\uffdb\050\uffdb\051" +
-    "\uffdb\052\uffdb\053\uffdb\055\uffdb\001\002\000\024\012\050" +
-    "\013\053\044\056\045\057\047\060\057\055\060\047\061" +
-    "\054\064\051\001\002\000\024\012\050\013\053\044\056" +
-    "\045\057\047\060\057\055\060\047\061\054\064\051\001" +
-    "\002\000\024\012\050\013\053\044\056\045\057\047\060" +
-    "\057\055\060\047\061\054\064\051\001\002\000\006\050" +
-    "\114\051\113\001\002\000\040\027\073\030\063\031\070" +
-    "\032\067\034\072\035\075\036\071\037\066\040\074\041" +
-    "\064\042\076\043\065\046\uffbe\050\uffbe\051\uffbe\001\002" +
+    "\047\061\054\064\051\001\002\000\062\004\uffbd\020\uffbd" +
+    "\023\uffbd\027\uffbd\030\uffbd\031\uffbd\032\uffbd\034\uffbd\035" +
+    "\uffbd\036\uffbd\037\uffbd\040\uffbd\041\uffbd\042\uffbd\043\uffbd" +
+    "\046\uffbd\047\131\050\uffbd\051\uffbd\052\132\053\uffbd\055" +
+    "\uffbd\066\uffbd\071\uffbd\001\002\000\056\004\uffbf\020\uffbf" +
+    "\023\uffbf\027\uffbf\030\uffbf\031\uffbf\032\uffbf\034\uffbf\035" +
+    "\uffbf\036\uffbf\037\uffbf\040\uffbf\041\uffbf\042\uffbf\043\uffbf" +
+    "\046\uffbf\050\uffbf\051\uffbf\053\uffbf\055\uffbf\066\uffbf\071" +
+    "\uffbf\001\002\000\056\004\uffc1\020\uffc1\023\uffc1\027\uffc1" +
+    "\030\uffc1\031\uffc1\032\uffc1\034\uffc1\035\uffc1\036\uffc1\037" +
+    "\uffc1\040\uffc1\041\uffc1\042\uffc1\043\uffc1\046\uffc1\050\uffc1" +
+    "\051\uffc1\053\uffc1\055\uffc1\066\uffc1\071\uffc1\001\002\000" +
+    "\056\004\uffd3\020\uffd3\023\uffd3\027\uffd3\030\uffd3\031\uffd3" +
+    "\032\uffd3\034\uffd3\035\uffd3\036\uffd3\037\uffd3\040\uffd3\041" +
+    "\uffd3\042\uffd3\043\uffd3\046\uffd3\050\uffd3\051\uffd3\053\uffd3" +
+    "\055\uffd3\066\uffd3\071\uffd3\001\002\000\046\004\uffeb\020" +
+    "\uffeb\027\074\030\063\031\070\032\067\034\072\035\077" +
+    "\036\073\037\065\040\075\041\064\042\100\043\066\051" +
+    "\uffeb\055\uffeb\066\076\071\071\001\002\000\056\004\uffc0" +
+    "\020\uffc0\023\uffc0\027\uffc0\030\uffc0\031\uffc0\032\uffc0\034" +
+    "\uffc0\035\uffc0\036\uffc0\037\uffc0\040\uffc0\041\uffc0\042\uffc0" +
+    "\043\uffc0\046\uffc0\050\uffc0\051\uffc0\053\uffc0\055\uffc0\066" +
+    "\uffc0\071\uffc0\001\002\000\056\004\uffbe\020\uffbe\023\uffbe" +
+    "\027\uffbe\030\uffbe\031\uffbe\032\uffbe\034\uffbe\035\uffbe\036" +
+    "\uffbe\037\uffbe\040\uffbe\041\uffbe\042\uffbe\043\uffbe\046\uffbe" +
+    "\050\uffbe\051\uffbe\053\uffbe\055\uffbe\066\uffbe\071\uffbe\001" +
+    "\002\000\064\004\uffdb\020\uffdb\023\uffdb\027\uffdb\030\uffdb" +
+    "\031\uffdb\032\uffdb\034\uffdb\035\uffdb\036\uffdb\037\uffdb\040" +
+    "\uffdb\041\uffdb\042\uffdb\043\uffdb\045\125\046\uffdb\047\uffdb" +
+    "\050\uffdb\051\uffdb\052\uffdb\053\uffdb\055\uffdb\066\uffdb\071" +
+    "\uffdb\001\002\000\024\012\050\013\053\044\056\045\057" +
+    "\047\060\057\055\060\047\061\054\064\051\001\002\000" +
+    "\024\012\050\013\053\044\056\045\057\047\060\057\055" +
+    "\060\047\061\054\064\051\001\002\000\024\012\050\013" +
+    "\053\044\056\045\057\047\060\057\055\060\047\061\054" +
+    "\064\051\001\002\000\006\050\120\051\117\001\002\000" +
+    "\044\027\074\030\063\031\070\032\067\034\072\035\077" +
+    "\036\073\037\065\040\075\041\064\042\100\043\066\046" +
+    "\uffb9\050\uffb9\051\uffb9\066\076\071\071\001\002\000\024" +
+    "\012\050\013\053\044\056\045\057\047\060\057\055\060" +
+    "\047\061\054\064\051\001\002\000\024\012\050\013\053" +
+    "\044\056\045\057\047\060\057\055\060\047\061\054\064" +
+    "\051\001\002\000\024\012\050\013\053\044\056\045\057" +
+    "\047\060\057\055\060\047\061\054\064\051\001\002\000" +
+    "\024\012\050\013\053\044\056\045\057\047\060\057\055" +
+    "\060\047\061\054\064\051\001\002\000\024\012\050\013" +
+    "\053\044\056\045\057\047\060\057\055\060\047\061\054" +
+    "\064\051\001\002\000\024\012\050\013\053\044\056\045" +
+    "\057\047\060\057\055\060\047\061\054\064\051\001\002" +
     "\000\024\012\050\013\053\044\056\045\057\047\060\057" +
     "\055\060\047\061\054\064\051\001\002\000\024\012\050" +
     "\013\053\044\056\045\057\047\060\057\055\060\047\061" +
@@ -146,190 +162,236 @@ public class parser extends java_cup.runtime.lr_parser {
     "\001\002\000\024\012\050\013\053\044\056\045\057\047" +
     "\060\057\055\060\047\061\054\064\051\001\002\000\024" +
     "\012\050\013\053\044\056\045\057\047\060\057\055\060" +
-    "\047\061\054\064\051\001\002\000\024\012\050\013\053" +
-    "\044\056\045\057\047\060\057\055\060\047\061\054\064" +
-    "\051\001\002\000\024\012\050\013\053\044\056\045\057" +
+    "\047\061\054\064\051\001\002\000\056\004\uffcd\020\uffcd" +
+    "\023\uffcd\027\074\030\063\031\070\032\067\034\072\035" +
+    "\077\036\073\037\065\040\075\041\uffcd\042\uffcd\043\uffcd" +
+    "\046\uffcd\050\uffcd\051\uffcd\053\uffcd\055\uffcd\066\076\071" +
+    "\071\001\002\000\056\004\uffc7\020\uffc7\023\uffc7\027\074" +
+    "\030\063\031\070\032\067\034\uffc7\035\uffc7\036\uffc7\037" +
+    "\uffc7\040\uffc7\041\uffc7\042\uffc7\043\uffc7\046\uffc7\050\uffc7" +
+    "\051\uffc7\053\uffc7\055\uffc7\066\uffc7\071\071\001\002\000" +
+    "\056\004\uffc3\020\uffc3\023\uffc3\027\074\030\063\031\070" +
+    "\032\067\034\uffc3\035\uffc3\036\uffc3\037\uffc3\040\uffc3\041" +
+    "\uffc3\042\uffc3\043\uffc3\046\uffc3\050\uffc3\051\uffc3\053\uffc3" +
+    "\055\uffc3\066\uffc3\071\071\001\002\000\056\004\uffc5\020" +
+    "\uffc5\023\uffc5\027\074\030\063\031\070\032\067\034\uffc5" +
+    "\035\uffc5\036\uffc5\037\uffc5\040\uffc5\041\uffc5\042\uffc5\043" +
+    "\uffc5\046\uffc5\050\uffc5\051\uffc5\053\uffc5\055\uffc5\066\uffc5" +
+    "\071\071\001\002\000\056\004\uffd0\020\uffd0\023\uffd0\027" +
+    "\uffd0\030\uffd0\031\070\032\067\034\uffd0\035\uffd0\036\uffd0" +
+    "\037\uffd0\040\uffd0\041\uffd0\042\uffd0\043\uffd0\046\uffd0\050" +
+    "\uffd0\051\uffd0\053\uffd0\055\uffd0\066\uffd0\071\071\001\002" +
+    "\000\056\004\uffc6\020\uffc6\023\uffc6\027\074\030\063\031" +
+    "\070\032\067\034\uffc6\035\uffc6\036\uffc6\037\uffc6\040\uffc6" +
+    "\041\uffc6\042\uffc6\043\uffc6\046\uffc6\050\uffc6\051\uffc6\053" +
+    "\uffc6\055\uffc6\066\uffc6\071\071\001\002\000\056\004\uffc8" +
+    "\020\uffc8\023\uffc8\027\074\030\063\031\070\032\067\034" +
+    "\uffc8\035\uffc8\036\uffc8\037\uffc8\040\uffc8\041\uffc8\042\uffc8" +
+    "\043\uffc8\046\uffc8\050\uffc8\051\uffc8\053\uffc8\055\uffc8\066" +
+    "\uffc8\071\071\001\002\000\056\004\uffc9\020\uffc9\023\uffc9" +
+    "\027\uffc9\030\uffc9\031\uffc9\032\uffc9\034\uffc9\035\uffc9\036" +
+    "\uffc9\037\uffc9\040\uffc9\041\uffc9\042\uffc9\043\uffc9\046\uffc9" +
+    "\050\uffc9\051\uffc9\053\uffc9\055\uffc9\066\uffc9\071\uffc9\001" +
+    "\002\000\056\004\uffcb\020\uffcb\023\uffcb\027\uffcb\030\uffcb" +
+    "\031\uffcb\032\uffcb\034\uffcb\035\uffcb\036\uffcb\037\uffcb\040" +
+    "\uffcb\041\uffcb\042\uffcb\043\uffcb\046\uffcb\050\uffcb\051\uffcb" +
+    "\053\uffcb\055\uffcb\066\uffcb\071\uffcb\001\002\000\056\004" +
+    "\uffca\020\uffca\023\uffca\027\uffca\030\uffca\031\uffca\032\uffca" +
+    "\034\uffca\035\uffca\036\uffca\037\uffca\040\uffca\041\uffca\042" +
+    "\uffca\043\uffca\046\uffca\050\uffca\051\uffca\053\uffca\055\uffca" +
+    "\066\uffca\071\uffca\001\002\000\056\004\uffcc\020\uffcc\023" +
+    "\uffcc\027\074\030\063\031\070\032\067\034\072\035\077" +
+    "\036\073\037\065\040\075\041\uffcc\042\uffcc\043\uffcc\046" +
+    "\uffcc\050\uffcc\051\uffcc\053\uffcc\055\uffcc\066\076\071\071" +
+    "\001\002\000\056\004\uffc4\020\uffc4\023\uffc4\027\074\030" +
+    "\063\031\070\032\067\034\uffc4\035\uffc4\036\uffc4\037\uffc4" +
+    "\040\uffc4\041\uffc4\042\uffc4\043\uffc4\046\uffc4\050\uffc4\051" +
+    "\uffc4\053\uffc4\055\uffc4\066\uffc4\071\071\001\002\000\056" +
+    "\004\uffce\020\uffce\023\uffce\027\074\030\063\031\070\032" +
+    "\067\034\072\035\077\036\073\037\065\040\075\041\uffce" +
+    "\042\uffce\043\uffce\046\uffce\050\uffce\051\uffce\053\uffce\055" +
+    "\uffce\066\076\071\071\001\002\000\056\004\uffcf\020\uffcf" +
+    "\023\uffcf\027\uffcf\030\uffcf\031\070\032\067\034\uffcf\035" +
+    "\uffcf\036\uffcf\037\uffcf\040\uffcf\041\uffcf\042\uffcf\043\uffcf" +
+    "\046\uffcf\050\uffcf\051\uffcf\053\uffcf\055\uffcf\066\uffcf\071" +
+    "\071\001\002\000\024\012\050\013\053\044\056\045\057" +
     "\047\060\057\055\060\047\061\054\064\051\001\002\000" +
-    "\024\012\050\013\053\044\056\045\057\047\060\057\055" +
-    "\060\047\061\054\064\051\001\002\000\024\012\050\013" +
-    "\053\044\056\045\057\047\060\057\055\060\047\061\054" +
-    "\064\051\001\002\000\050\004\uffd0\020\uffd0\027\073\030" +
-    "\063\031\070\032\067\034\072\035\075\036\071\037\066" +
-    "\040\074\041\uffd0\042\uffd0\043\uffd0\046\uffd0\050\uffd0\051" +
-    "\uffd0\053\uffd0\055\uffd0\001\002\000\050\004\uffcb\020\uffcb" +
-    "\027\073\030\063\031\070\032\067\034\uffcb\035\uffcb\036" +
-    "\uffcb\037\uffcb\040\uffcb\041\uffcb\042\uffcb\043\uffcb\046\uffcb" +
-    "\050\uffcb\051\uffcb\053\uffcb\055\uffcb\001\002\000\050\004" +
-    "\uffc9\020\uffc9\027\073\030\063\031\070\032\067\034\uffc9" +
-    "\035\uffc9\036\uffc9\037\uffc9\040\uffc9\041\uffc9\042\uffc9\043" +
-    "\uffc9\046\uffc9\050\uffc9\051\uffc9\053\uffc9\055\uffc9\001\002" +
-    "\000\050\004\uffd3\020\uffd3\027\uffd3\030\uffd3\031\070\032" +
-    "\067\034\uffd3\035\uffd3\036\uffd3\037\uffd3\040\uffd3\041\uffd3" +
-    "\042\uffd3\043\uffd3\046\uffd3\050\uffd3\051\uffd3\053\uffd3\055" +
-    "\uffd3\001\002\000\050\004\uffcc\020\uffcc\027\073\030\063" +
-    "\031\070\032\067\034\uffcc\035\uffcc\036\uffcc\037\uffcc\040" +
-    "\uffcc\041\uffcc\042\uffcc\043\uffcc\046\uffcc\050\uffcc\051\uffcc" +
-    "\053\uffcc\055\uffcc\001\002\000\050\004\uffca\020\uffca\027" +
-    "\073\030\063\031\070\032\067\034\uffca\035\uffca\036\uffca" +
-    "\037\uffca\040\uffca\041\uffca\042\uffca\043\uffca\046\uffca\050" +
-    "\uffca\051\uffca\053\uffca\055\uffca\001\002\000\050\004\uffce" +
-    "\020\uffce\027\uffce\030\uffce\031\uffce\032\uffce\034\uffce\035" +
-    "\uffce\036\uffce\037\uffce\040\uffce\041\uffce\042\uffce\043\uffce" +
-    "\046\uffce\050\uffce\051\uffce\053\uffce\055\uffce\001\002\000" +
-    "\050\004\uffcd\020\uffcd\027\uffcd\030\uffcd\031\uffcd\032\uffcd" +
-    "\034\uffcd\035\uffcd\036\uffcd\037\uffcd\040\uffcd\041\uffcd\042" +
-    "\uffcd\043\uffcd\046\uffcd\050\uffcd\051\uffcd\053\uffcd\055\uffcd" +
-    "\001\002\000\050\004\uffc8\020\uffc8\027\073\030\063\031" +
-    "\070\032\067\034\uffc8\035\uffc8\036\uffc8\037\uffc8\040\uffc8" +
-    "\041\uffc8\042\uffc8\043\uffc8\046\uffc8\050\uffc8\051\uffc8\053" +
-    "\uffc8\055\uffc8\001\002\000\050\004\uffcf\020\uffcf\027\073" +
-    "\030\063\031\070\032\067\034\072\035\075\036\071\037" +
-    "\066\040\074\041\uffcf\042\uffcf\043\uffcf\046\uffcf\050\uffcf" +
-    "\051\uffcf\053\uffcf\055\uffcf\001\002\000\050\004\uffd1\020" +
-    "\uffd1\027\073\030\063\031\070\032\067\034\072\035\075" +
-    "\036\071\037\066\040\074\041\uffd1\042\uffd1\043\uffd1\046" +
-    "\uffd1\050\uffd1\051\uffd1\053\uffd1\055\uffd1\001\002\000\050" +
-    "\004\uffd2\020\uffd2\027\uffd2\030\uffd2\031\070\032\067\034" +
+    "\056\004\uffbb\020\uffbb\023\uffbb\027\uffbb\030\uffbb\031\uffbb" +
+    "\032\uffbb\034\uffbb\035\uffbb\036\uffbb\037\uffbb\040\uffbb\041" +
+    "\uffbb\042\uffbb\043\uffbb\046\uffbb\050\uffbb\051\uffbb\053\uffbb" +
+    "\055\uffbb\066\uffbb\071\uffbb\001\002\000\044\027\074\030" +
+    "\063\031\070\032\067\034\072\035\077\036\073\037\065" +
+    "\040\075\041\064\042\100\043\066\046\uffba\050\uffba\051" +
+    "\uffba\066\076\071\071\001\002\000\040\027\074\030\063" +
+    "\031\070\032\067\034\072\035\077\036\073\037\065\040" +
+    "\075\041\064\042\100\043\066\046\123\066\076\071\071" +
+    "\001\002\000\056\004\uffbc\020\uffbc\023\uffbc\027\uffbc\030" +
+    "\uffbc\031\uffbc\032\uffbc\034\uffbc\035\uffbc\036\uffbc\037\uffbc" +
+    "\040\uffbc\041\uffbc\042\uffbc\043\uffbc\046\uffbc\050\uffbc\051" +
+    "\uffbc\053\uffbc\055\uffbc\066\uffbc\071\uffbc\001\002\000\056" +
+    "\004\uffc2\020\uffc2\023\uffc2\027\uffc2\030\uffc2\031\uffc2\032" +
+    "\uffc2\034\uffc2\035\uffc2\036\uffc2\037\uffc2\040\uffc2\041\uffc2" +
+    "\042\uffc2\043\uffc2\046\uffc2\050\uffc2\051\uffc2\053\uffc2\055" +
+    "\uffc2\066\uffc2\071\uffc2\001\002\000\026\012\050\013\053" +
+    "\044\056\045\057\046\127\047\060\057\055\060\047\061" +
+    "\054\064\051\001\002\000\006\046\130\051\117\001\002" +
+    "\000\056\004\uffd1\020\uffd1\023\uffd1\027\uffd1\030\uffd1\031" +
+    "\uffd1\032\uffd1\034\uffd1\035\uffd1\036\uffd1\037\uffd1\040\uffd1" +
+    "\041\uffd1\042\uffd1\043\uffd1\046\uffd1\050\uffd1\051\uffd1\053" +
+    "\uffd1\055\uffd1\066\uffd1\071\uffd1\001\002\000\056\004\uffd2" +
+    "\020\uffd2\023\uffd2\027\uffd2\030\uffd2\031\uffd2\032\uffd2\034" +
     "\uffd2\035\uffd2\036\uffd2\037\uffd2\040\uffd2\041\uffd2\042\uffd2" +
-    "\043\uffd2\046\uffd2\050\uffd2\051\uffd2\053\uffd2\055\uffd2\001" +
-    "\002\000\024\012\050\013\053\044\056\045\057\047\060" +
-    "\057\055\060\047\061\054\064\051\001\002\000\050\004" +
-    "\uffc0\020\uffc0\027\uffc0\030\uffc0\031\uffc0\032\uffc0\034\uffc0" +
-    "\035\uffc0\036\uffc0\037\uffc0\040\uffc0\041\uffc0\042\uffc0\043" +
-    "\uffc0\046\uffc0\050\uffc0\051\uffc0\053\uffc0\055\uffc0\001\002" +
-    "\000\040\027\073\030\063\031\070\032\067\034\072\035" +
-    "\075\036\071\037\066\040\074\041\064\042\076\043\065" +
-    "\046\uffbf\050\uffbf\051\uffbf\001\002\000\034\027\073\030" +
-    "\063\031\070\032\067\034\072\035\075\036\071\037\066" +
-    "\040\074\041\064\042\076\043\065\046\117\001\002\000" +
-    "\050\004\uffc1\020\uffc1\027\uffc1\030\uffc1\031\uffc1\032\uffc1" +
-    "\034\uffc1\035\uffc1\036\uffc1\037\uffc1\040\uffc1\041\uffc1\042" +
-    "\uffc1\043\uffc1\046\uffc1\050\uffc1\051\uffc1\053\uffc1\055\uffc1" +
-    "\001\002\000\050\004\uffc7\020\uffc7\027\uffc7\030\uffc7\031" +
-    "\uffc7\032\uffc7\034\uffc7\035\uffc7\036\uffc7\037\uffc7\040\uffc7" +
-    "\041\uffc7\042\uffc7\043\uffc7\046\uffc7\050\uffc7\051\uffc7\053" +
-    "\uffc7\055\uffc7\001\002\000\026\012\050\013\053\044\056" +
-    "\045\057\046\123\047\060\057\055\060\047\061\054\064" +
-    "\051\001\002\000\006\046\124\051\113\001\002\000\050" +
-    "\004\uffd4\020\uffd4\027\uffd4\030\uffd4\031\uffd4\032\uffd4\034" +
-    "\uffd4\035\uffd4\036\uffd4\037\uffd4\040\uffd4\041\uffd4\042\uffd4" +
-    "\043\uffd4\046\uffd4\050\uffd4\051\uffd4\053\uffd4\055\uffd4\001" +
-    "\002\000\050\004\uffd5\020\uffd5\027\uffd5\030\uffd5\031\uffd5" +
-    "\032\uffd5\034\uffd5\035\uffd5\036\uffd5\037\uffd5\040\uffd5\041" +
-    "\uffd5\042\uffd5\043\uffd5\046\uffd5\050\uffd5\051\uffd5\053\uffd5" +
-    "\055\uffd5\001\002\000\024\012\050\013\053\044\056\045" +
-    "\057\047\060\057\055\060\047\061\054\064\051\001\002" +
-    "\000\004\057\127\001\002\000\056\004\uffdd\020\uffdd\027" +
-    "\uffdd\030\uffdd\031\uffdd\032\uffdd\033\uffdd\034\uffdd\035\uffdd" +
-    "\036\uffdd\037\uffdd\040\uffdd\041\uffdd\042\uffdd\043\uffdd\046" +
-    "\uffdd\047\uffdd\050\uffdd\051\uffdd\052\uffdd\053\uffdd\055\uffdd" +
-    "\001\002\000\034\027\073\030\063\031\070\032\067\034" +
-    "\072\035\075\036\071\037\066\040\074\041\064\042\076" +
-    "\043\065\050\131\001\002\000\056\004\uffdc\020\uffdc\027" +
+    "\043\uffd2\046\uffd2\050\uffd2\051\uffd2\053\uffd2\055\uffd2\066" +
+    "\uffd2\071\uffd2\001\002\000\024\012\050\013\053\044\056" +
+    "\045\057\047\060\057\055\060\047\061\054\064\051\001" +
+    "\002\000\004\057\133\001\002\000\064\004\uffdd\020\uffdd" +
+    "\023\uffdd\027\uffdd\030\uffdd\031\uffdd\032\uffdd\033\uffdd\034" +
+    "\uffdd\035\uffdd\036\uffdd\037\uffdd\040\uffdd\041\uffdd\042\uffdd" +
+    "\043\uffdd\046\uffdd\047\uffdd\050\uffdd\051\uffdd\052\uffdd\053" +
+    "\uffdd\055\uffdd\066\uffdd\071\uffdd\001\002\000\040\027\074" +
+    "\030\063\031\070\032\067\034\072\035\077\036\073\037" +
+    "\065\040\075\041\064\042\100\043\066\050\135\066\076" +
+    "\071\071\001\002\000\064\004\uffdc\020\uffdc\023\uffdc\027" +
     "\uffdc\030\uffdc\031\uffdc\032\uffdc\033\uffdc\034\uffdc\035\uffdc" +
     "\036\uffdc\037\uffdc\040\uffdc\041\uffdc\042\uffdc\043\uffdc\046" +
     "\uffdc\047\uffdc\050\uffdc\051\uffdc\052\uffdc\053\uffdc\055\uffdc" +
-    "\001\002\000\012\004\uffe5\020\uffe5\051\uffe5\055\141\001" +
-    "\002\000\010\004\025\020\136\051\134\001\002\000\004" +
-    "\004\025\001\002\000\012\004\uffe7\020\uffe7\051\uffe7\055" +
-    "\137\001\002\000\016\004\ufff3\014\ufff3\020\ufff3\046\ufff3" +
-    "\051\ufff3\055\ufff3\001\002\000\010\004\uffe9\020\uffe9\051" +
-    "\uffe9\001\002\000\010\004\uffe6\020\uffe6\051\uffe6\001\002" +
-    "\000\010\004\uffe8\020\uffe8\051\uffe8\001\002\000\004\002" +
-    "\000\001\002\000\032\002\uffe1\004\uffe1\015\uffe1\017\uffe1" +
-    "\020\uffe1\021\uffe1\024\uffe1\025\uffe1\026\uffe1\057\uffe1\062" +
-    "\uffe1\065\uffe1\001\002\000\004\022\145\001\002\000\004" +
-    "\047\146\001\002\000\024\012\050\013\053\044\056\045" +
-    "\057\047\060\057\055\060\047\061\054\064\051\001\002" +
-    "\000\034\027\073\030\063\031\070\032\067\034\072\035" +
-    "\075\036\071\037\066\040\074\041\064\042\076\043\065" +
-    "\053\150\001\002\000\024\012\050\013\053\044\056\045" +
-    "\057\047\060\057\055\060\047\061\054\064\051\001\002" +
-    "\000\034\027\073\030\063\031\070\032\067\034\072\035" +
-    "\075\036\071\037\066\040\074\041\064\042\076\043\065" +
-    "\050\152\001\002\000\004\023\153\001\002\000\016\015" +
-    "\013\021\022\024\004\026\010\057\011\062\017\001\002" +
-    "\000\022\015\uffe3\017\uffe3\020\uffe3\021\uffe3\024\uffe3\026" +
-    "\uffe3\057\uffe3\062\uffe3\001\002\000\020\015\013\020\157" +
+    "\066\uffdc\071\uffdc\001\002\000\012\004\uffe5\020\uffe5\051" +
+    "\uffe5\055\145\001\002\000\010\004\025\020\142\051\140" +
+    "\001\002\000\004\004\025\001\002\000\012\004\uffe7\020" +
+    "\uffe7\051\uffe7\055\143\001\002\000\016\004\ufff3\014\ufff3" +
+    "\020\ufff3\046\ufff3\051\ufff3\055\ufff3\001\002\000\010\004" +
+    "\uffe9\020\uffe9\051\uffe9\001\002\000\010\004\uffe6\020\uffe6" +
+    "\051\uffe6\001\002\000\010\004\uffe8\020\uffe8\051\uffe8\001" +
+    "\002\000\004\002\000\001\002\000\032\002\uffe1\004\uffe1" +
+    "\015\uffe1\017\uffe1\020\uffe1\021\uffe1\024\uffe1\025\uffe1\026" +
+    "\uffe1\057\uffe1\062\uffe1\065\uffe1\001\002\000\004\022\151" +
+    "\001\002\000\006\047\152\067\153\001\002\000\024\012" +
+    "\050\013\053\044\056\045\057\047\060\057\055\060\047" +
+    "\061\054\064\051\001\002\000\004\047\154\001\002\000" +
+    "\024\012\050\013\053\044\056\045\057\047\060\057\055" +
+    "\060\047\061\054\064\051\001\002\000\040\027\074\030" +
+    "\063\031\070\032\067\034\072\035\077\036\073\037\065" +
+    "\040\075\041\064\042\100\043\066\053\156\066\076\071" +
+    "\071\001\002\000\024\012\050\013\053\044\056\045\057" +
+    "\047\060\057\055\060\047\061\054\064\051\001\002\000" +
+    "\040\027\074\030\063\031\070\032\067\034\072\035\077" +
+    "\036\073\037\065\040\075\041\064\042\100\043\066\050" +
+    "\160\066\076\071\071\001\002\000\006\023\161\070\162" +
+    "\001\002\000\016\015\013\021\022\024\004\026\010\057" +
+    "\011\062\017\001\002\000\024\012\050\013\053\044\056" +
+    "\045\057\047\060\057\055\060\047\061\054\064\051\001" +
+    "\002\000\040\023\164\027\074\030\063\031\070\032\067" +
+    "\034\072\035\077\036\073\037\065\040\075\041\064\042" +
+    "\100\043\066\066\076\071\071\001\002\000\016\015\013" +
     "\021\022\024\004\026\010\057\011\062\017\001\002\000" +
-    "\022\015\uffe4\017\uffe4\020\uffe4\021\uffe4\024\uffe4\026\uffe4" +
-    "\057\uffe4\062\uffe4\001\002\000\032\002\uffd7\004\uffd7\015" +
-    "\uffd7\017\uffd7\020\uffd7\021\uffd7\024\uffd7\025\uffd7\026\uffd7" +
-    "\057\uffd7\062\uffd7\065\uffd7\001\002\000\024\012\050\013" +
-    "\053\044\056\045\057\047\060\057\055\060\047\061\054" +
-    "\064\051\001\002\000\034\027\073\030\063\031\070\032" +
-    "\067\034\072\035\075\036\071\037\066\040\074\041\064" +
-    "\042\076\043\065\055\uffdf\001\002\000\034\027\073\030" +
-    "\063\031\070\032\067\034\072\035\075\036\071\037\066" +
-    "\040\074\041\064\042\076\043\065\055\163\001\002\000" +
-    "\032\002\uffe2\004\uffe2\015\uffe2\017\uffe2\020\uffe2\021\uffe2" +
-    "\024\uffe2\025\uffe2\026\uffe2\057\uffe2\062\uffe2\065\uffe2\001" +
-    "\002\000\004\014\170\001\002\000\026\002\uffb6\004\uffb6" +
-    "\015\uffb6\021\uffb6\024\uffb6\025\uffb6\026\uffb6\057\uffb6\062" +
-    "\uffb6\065\uffb6\001\002\000\026\002\uffb8\004\uffb8\015\uffb8" +
-    "\021\uffb8\024\uffb8\025\uffb8\026\uffb8\057\164\062\uffb8\065" +
-    "\uffb8\001\002\000\026\002\uffb7\004\uffb7\015\uffb7\021\uffb7" +
-    "\024\uffb7\025\uffb7\026\uffb7\057\uffb7\062\uffb7\065\uffb7\001" +
-    "\002\000\020\005\174\006\176\007\172\010\177\011\171" +
-    "\057\175\063\173\001\002\000\004\004\025\001\002\000" +
-    "\004\055\uffee\001\002\000\004\055\uffed\001\002\000\004" +
-    "\055\ufff0\001\002\000\004\055\ufff1\001\002\000\004\055" +
-    "\uffef\001\002\000\004\047\202\001\002\000\004\055\201" +
-    "\001\002\000\026\002\uffb5\004\uffb5\015\uffb5\021\uffb5\024" +
-    "\uffb5\025\uffb5\026\uffb5\057\uffb5\062\uffb5\065\uffb5\001\002" +
-    "\000\004\060\203\001\002\000\004\050\204\001\002\000" +
-    "\020\005\174\006\176\007\172\010\177\011\171\057\175" +
-    "\063\173\001\002\000\004\055\uffec\001\002\000\010\004" +
-    "\025\020\207\051\134\001\002\000\004\055\ufff2\001\002" +
-    "\000\024\012\050\013\053\044\056\045\057\047\060\057" +
-    "\055\060\047\061\054\064\051\001\002\000\034\027\073" +
-    "\030\063\031\070\032\067\034\072\035\075\036\071\037" +
-    "\066\040\074\041\064\042\076\043\065\046\212\001\002" +
-    "\000\004\016\213\001\002\000\016\015\013\021\022\024" +
-    "\004\026\010\057\011\062\017\001\002\000\022\015\013" +
-    "\017\215\020\216\021\022\024\004\026\010\057\011\062" +
-    "\017\001\002\000\016\015\013\021\022\024\004\026\010" +
-    "\057\011\062\017\001\002\000\032\002\uffd9\004\uffd9\015" +
-    "\uffd9\017\uffd9\020\uffd9\021\uffd9\024\uffd9\025\uffd9\026\uffd9" +
-    "\057\uffd9\062\uffd9\065\uffd9\001\002\000\020\015\013\020" +
-    "\220\021\022\024\004\026\010\057\011\062\017\001\002" +
-    "\000\032\002\uffda\004\uffda\015\uffda\017\uffda\020\uffda\021" +
-    "\uffda\024\uffda\025\uffda\026\uffda\057\uffda\062\uffda\065\uffda" +
-    "\001\002\000\034\027\073\030\063\031\070\032\067\034" +
-    "\072\035\075\036\071\037\066\040\074\041\064\042\076" +
-    "\043\065\055\uffde\001\002\000\026\002\uffff\004\uffff\015" +
-    "\uffff\021\uffff\024\uffff\025\uffff\026\uffff\057\uffff\062\uffff" +
-    "\065\uffff\001\002\000\026\002\ufffc\004\ufffc\015\ufffc\021" +
-    "\ufffc\024\ufffc\025\ufffc\026\ufffc\057\ufffc\062\ufffc\065\ufffc" +
-    "\001\002\000\004\045\225\001\002\000\006\046\227\057" +
-    "\230\001\002\000\006\046\242\051\241\001\002\000\004" +
-    "\054\234\001\002\000\004\054\232\001\002\000\006\046" +
-    "\uffba\051\uffba\001\002\000\020\005\035\006\037\007\032" +
-    "\010\040\011\031\057\036\063\033\001\002\000\006\046" +
-    "\uffb9\051\uffb9\001\002\000\020\005\035\006\037\007\032" +
-    "\010\040\011\031\057\036\063\033\001\002\000\004\014" +
-    "\236\001\002\000\016\015\013\021\022\024\004\026\010" +
-    "\057\011\062\017\001\002\000\020\015\013\020\240\021" +
-    "\022\024\004\026\010\057\011\062\017\001\002\000\026" +
-    "\002\uffbc\004\uffbc\015\uffbc\021\uffbc\024\uffbc\025\uffbc\026" +
-    "\uffbc\057\uffbc\062\uffbc\065\uffbc\001\002\000\004\057\230" +
-    "\001\002\000\004\054\243\001\002\000\020\005\035\006" +
-    "\037\007\032\010\040\011\031\057\036\063\033\001\002" +
-    "\000\004\014\245\001\002\000\016\015\013\021\022\024" +
-    "\004\026\010\057\011\062\017\001\002\000\020\015\013" +
-    "\020\247\021\022\024\004\026\010\057\011\062\017\001" +
-    "\002\000\026\002\uffbd\004\uffbd\015\uffbd\021\uffbd\024\uffbd" +
-    "\025\uffbd\026\uffbd\057\uffbd\062\uffbd\065\uffbd\001\002\000" +
-    "\006\046\uffbb\051\uffbb\001\002\000\024\012\050\013\053" +
-    "\044\056\045\057\047\060\057\055\060\047\061\054\064" +
-    "\051\001\002\000\034\027\073\030\063\031\070\032\067" +
-    "\034\072\035\075\036\071\037\066\040\074\041\064\042" +
-    "\076\043\065\046\253\001\002\000\004\023\254\001\002" +
+    "\022\015\uffe3\017\uffe3\020\uffe3\021\uffe3\024\uffe3\026\uffe3" +
+    "\057\uffe3\062\uffe3\001\002\000\020\015\013\020\170\021" +
+    "\022\024\004\026\010\057\011\062\017\001\002\000\022" +
+    "\015\uffe4\017\uffe4\020\uffe4\021\uffe4\024\uffe4\026\uffe4\057" +
+    "\uffe4\062\uffe4\001\002\000\032\002\uffd4\004\uffd4\015\uffd4" +
+    "\017\uffd4\020\uffd4\021\uffd4\024\uffd4\025\uffd4\026\uffd4\057" +
+    "\uffd4\062\uffd4\065\uffd4\001\002\000\020\015\013\020\172" +
+    "\021\022\024\004\026\010\057\011\062\017\001\002\000" +
+    "\032\002\uffd6\004\uffd6\015\uffd6\017\uffd6\020\uffd6\021\uffd6" +
+    "\024\uffd6\025\uffd6\026\uffd6\057\uffd6\062\uffd6\065\uffd6\001" +
+    "\002\000\040\027\074\030\063\031\070\032\067\034\072" +
+    "\035\077\036\073\037\065\040\075\041\064\042\100\043" +
+    "\066\053\174\066\076\071\071\001\002\000\024\012\050" +
+    "\013\053\044\056\045\057\047\060\057\055\060\047\061" +
+    "\054\064\051\001\002\000\040\027\074\030\063\031\070" +
+    "\032\067\034\072\035\077\036\073\037\065\040\075\041" +
+    "\064\042\100\043\066\050\176\066\076\071\071\001\002" +
+    "\000\006\023\177\070\200\001\002\000\016\015\013\021" +
+    "\022\024\004\026\010\057\011\062\017\001\002\000\024" +
+    "\012\050\013\053\044\056\045\057\047\060\057\055\060" +
+    "\047\061\054\064\051\001\002\000\040\023\202\027\074" +
+    "\030\063\031\070\032\067\034\072\035\077\036\073\037" +
+    "\065\040\075\041\064\042\100\043\066\066\076\071\071" +
+    "\001\002\000\016\015\013\021\022\024\004\026\010\057" +
+    "\011\062\017\001\002\000\020\015\013\020\204\021\022" +
+    "\024\004\026\010\057\011\062\017\001\002\000\032\002" +
+    "\uffd5\004\uffd5\015\uffd5\017\uffd5\020\uffd5\021\uffd5\024\uffd5" +
+    "\025\uffd5\026\uffd5\057\uffd5\062\uffd5\065\uffd5\001\002\000" +
+    "\020\015\013\020\206\021\022\024\004\026\010\057\011" +
+    "\062\017\001\002\000\032\002\uffd7\004\uffd7\015\uffd7\017" +
+    "\uffd7\020\uffd7\021\uffd7\024\uffd7\025\uffd7\026\uffd7\057\uffd7" +
+    "\062\uffd7\065\uffd7\001\002\000\024\012\050\013\053\044" +
+    "\056\045\057\047\060\057\055\060\047\061\054\064\051" +
+    "\001\002\000\040\027\074\030\063\031\070\032\067\034" +
+    "\072\035\077\036\073\037\065\040\075\041\064\042\100" +
+    "\043\066\055\uffdf\066\076\071\071\001\002\000\040\027" +
+    "\074\030\063\031\070\032\067\034\072\035\077\036\073" +
+    "\037\065\040\075\041\064\042\100\043\066\055\212\066" +
+    "\076\071\071\001\002\000\032\002\uffe2\004\uffe2\015\uffe2" +
+    "\017\uffe2\020\uffe2\021\uffe2\024\uffe2\025\uffe2\026\uffe2\057" +
+    "\uffe2\062\uffe2\065\uffe2\001\002\000\004\014\217\001\002" +
+    "\000\026\002\uffb1\004\uffb1\015\uffb1\021\uffb1\024\uffb1\025" +
+    "\uffb1\026\uffb1\057\uffb1\062\uffb1\065\uffb1\001\002\000\026" +
+    "\002\uffb3\004\uffb3\015\uffb3\021\uffb3\024\uffb3\025\uffb3\026" +
+    "\uffb3\057\213\062\uffb3\065\uffb3\001\002\000\026\002\uffb2" +
+    "\004\uffb2\015\uffb2\021\uffb2\024\uffb2\025\uffb2\026\uffb2\057" +
+    "\uffb2\062\uffb2\065\uffb2\001\002\000\020\005\223\006\225" +
+    "\007\221\010\227\011\220\057\224\063\222\001\002\000" +
+    "\004\004\025\001\002\000\004\055\uffee\001\002\000\004" +
+    "\055\uffed\001\002\000\004\055\ufff0\001\002\000\004\055" +
+    "\ufff1\001\002\000\004\055\uffef\001\002\000\004\055\234" +
+    "\001\002\000\004\047\230\001\002\000\004\060\231\001" +
+    "\002\000\004\050\232\001\002\000\020\005\223\006\225" +
+    "\007\221\010\227\011\220\057\224\063\222\001\002\000" +
+    "\004\055\uffec\001\002\000\026\002\uffb0\004\uffb0\015\uffb0" +
+    "\021\uffb0\024\uffb0\025\uffb0\026\uffb0\057\uffb0\062\uffb0\065" +
+    "\uffb0\001\002\000\010\004\025\020\236\051\140\001\002" +
+    "\000\004\055\ufff2\001\002\000\024\012\050\013\053\044" +
+    "\056\045\057\047\060\057\055\060\047\061\054\064\051" +
+    "\001\002\000\040\027\074\030\063\031\070\032\067\034" +
+    "\072\035\077\036\073\037\065\040\075\041\064\042\100" +
+    "\043\066\046\241\066\076\071\071\001\002\000\004\016" +
+    "\242\001\002\000\016\015\013\021\022\024\004\026\010" +
+    "\057\011\062\017\001\002\000\022\015\013\017\244\020" +
+    "\245\021\022\024\004\026\010\057\011\062\017\001\002" +
     "\000\016\015\013\021\022\024\004\026\010\057\011\062" +
-    "\017\001\002\000\020\015\013\020\256\021\022\024\004" +
-    "\026\010\057\011\062\017\001\002\000\032\002\uffd8\004" +
-    "\uffd8\015\uffd8\017\uffd8\020\uffd8\021\uffd8\024\uffd8\025\uffd8" +
-    "\026\uffd8\057\uffd8\062\uffd8\065\uffd8\001\002" });
+    "\017\001\002\000\032\002\uffd9\004\uffd9\015\uffd9\017\uffd9" +
+    "\020\uffd9\021\uffd9\024\uffd9\025\uffd9\026\uffd9\057\uffd9\062" +
+    "\uffd9\065\uffd9\001\002\000\020\015\013\020\247\021\022" +
+    "\024\004\026\010\057\011\062\017\001\002\000\032\002" +
+    "\uffda\004\uffda\015\uffda\017\uffda\020\uffda\021\uffda\024\uffda" +
+    "\025\uffda\026\uffda\057\uffda\062\uffda\065\uffda\001\002\000" +
+    "\040\027\074\030\063\031\070\032\067\034\072\035\077" +
+    "\036\073\037\065\040\075\041\064\042\100\043\066\055" +
+    "\uffde\066\076\071\071\001\002\000\026\002\uffff\004\uffff" +
+    "\015\uffff\021\uffff\024\uffff\025\uffff\026\uffff\057\uffff\062" +
+    "\uffff\065\uffff\001\002\000\026\002\ufffc\004\ufffc\015\ufffc" +
+    "\021\ufffc\024\ufffc\025\ufffc\026\ufffc\057\ufffc\062\ufffc\065" +
+    "\ufffc\001\002\000\004\045\254\001\002\000\006\046\256" +
+    "\057\257\001\002\000\006\046\271\051\270\001\002\000" +
+    "\004\054\263\001\002\000\004\054\261\001\002\000\006" +
+    "\046\uffb5\051\uffb5\001\002\000\020\005\035\006\037\007" +
+    "\032\010\040\011\031\057\036\063\033\001\002\000\006" +
+    "\046\uffb4\051\uffb4\001\002\000\020\005\035\006\037\007" +
+    "\032\010\040\011\031\057\036\063\033\001\002\000\004" +
+    "\014\265\001\002\000\016\015\013\021\022\024\004\026" +
+    "\010\057\011\062\017\001\002\000\020\015\013\020\267" +
+    "\021\022\024\004\026\010\057\011\062\017\001\002\000" +
+    "\026\002\uffb7\004\uffb7\015\uffb7\021\uffb7\024\uffb7\025\uffb7" +
+    "\026\uffb7\057\uffb7\062\uffb7\065\uffb7\001\002\000\004\057" +
+    "\257\001\002\000\004\054\272\001\002\000\020\005\035" +
+    "\006\037\007\032\010\040\011\031\057\036\063\033\001" +
+    "\002\000\004\014\274\001\002\000\016\015\013\021\022" +
+    "\024\004\026\010\057\011\062\017\001\002\000\020\015" +
+    "\013\020\276\021\022\024\004\026\010\057\011\062\017" +
+    "\001\002\000\026\002\uffb8\004\uffb8\015\uffb8\021\uffb8\024" +
+    "\uffb8\025\uffb8\026\uffb8\057\uffb8\062\uffb8\065\uffb8\001\002" +
+    "\000\006\046\uffb6\051\uffb6\001\002\000\024\012\050\013" +
+    "\053\044\056\045\057\047\060\057\055\060\047\061\054" +
+    "\064\051\001\002\000\040\027\074\030\063\031\070\032" +
+    "\067\034\072\035\077\036\073\037\065\040\075\041\064" +
+    "\042\100\043\066\046\302\066\076\071\071\001\002\000" +
+    "\004\023\303\001\002\000\016\015\013\021\022\024\004" +
+    "\026\010\057\011\062\017\001\002\000\020\015\013\020" +
+    "\305\021\022\024\004\026\010\057\011\062\017\001\002" +
+    "\000\032\002\uffd8\004\uffd8\015\uffd8\017\uffd8\020\uffd8\021" +
+    "\uffd8\024\uffd8\025\uffd8\026\uffd8\057\uffd8\062\uffd8\065\uffd8" +
+    "\001\002" });
 
   /** Access to parse-action table. */
   public short[][] action_table() {return _action_table;}
@@ -337,82 +399,95 @@ public class parser extends java_cup.runtime.lr_parser {
   /** <code>reduce_goto</code> table. */
   protected static final short[][] _reduce_table = 
     unpackFromStrings(new String[] {
-    "\000\254\000\026\002\023\003\006\004\015\005\005\007" +
+    "\000\303\000\026\002\023\003\006\004\015\005\005\007" +
     "\020\011\022\012\025\015\011\016\017\022\014\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\022\004\221\005\005\007\020\011\022\012\025\015\011" +
-    "\016\017\022\014\001\001\000\006\013\220\016\045\001" +
+    "\022\004\250\005\005\007\020\011\022\012\025\015\011" +
+    "\016\017\022\014\001\001\000\006\013\247\016\045\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\006\023\164\024\165\001\001\000\002\001\001\000" +
-    "\002\001\001\000\006\013\161\016\045\001\001\000\002" +
+    "\000\006\023\213\024\214\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\013\210\016\045\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\004\006\033\001\001\000\006\005" +
-    "\131\017\132\001\001\000\002\001\001\000\002\001\001" +
+    "\135\017\136\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
     "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
     "\001\001\000\004\006\043\001\001\000\002\001\001\000" +
     "\006\013\051\016\045\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\006\013\117\016\045\001\001\000\006\013\115\016" +
+    "\000\006\013\123\016\045\001\001\000\006\013\121\016" +
     "\045\001\001\000\010\013\061\014\060\016\045\001\001" +
-    "\000\002\001\001\000\002\001\001\000\006\013\111\016" +
-    "\045\001\001\000\006\013\110\016\045\001\001\000\006" +
-    "\013\107\016\045\001\001\000\006\013\106\016\045\001" +
-    "\001\000\006\013\105\016\045\001\001\000\006\013\104" +
-    "\016\045\001\001\000\006\013\103\016\045\001\001\000" +
-    "\006\013\102\016\045\001\001\000\006\013\101\016\045" +
-    "\001\001\000\006\013\100\016\045\001\001\000\006\013" +
-    "\077\016\045\001\001\000\006\013\076\016\045\001\001" +
+    "\000\002\001\001\000\002\001\001\000\006\013\115\016" +
+    "\045\001\001\000\006\013\114\016\045\001\001\000\006" +
+    "\013\113\016\045\001\001\000\006\013\112\016\045\001" +
+    "\001\000\006\013\111\016\045\001\001\000\006\013\110" +
+    "\016\045\001\001\000\006\013\107\016\045\001\001\000" +
+    "\006\013\106\016\045\001\001\000\006\013\105\016\045" +
+    "\001\001\000\006\013\104\016\045\001\001\000\006\013" +
+    "\103\016\045\001\001\000\006\013\102\016\045\001\001" +
+    "\000\006\013\101\016\045\001\001\000\006\013\100\016" +
+    "\045\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\002\001\001\000\002\001\001\000\006\013\120\016\045" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\006\013\114" +
-    "\016\045\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\010" +
-    "\013\061\014\121\016\045\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\006\013\127\016\045" +
+    "\001\000\002\001\001\000\002\001\001\000\010\013\061" +
+    "\014\125\016\045\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\006\013\133\016\045\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\005\140\001\001" +
+    "\000\004\005\143\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\013\172\016\045\001\001\000\002" +
+    "\001\001\000\006\013\154\016\045\001\001\000\002\001" +
+    "\001\000\006\013\156\016\045\001\001\000\002\001\001" +
+    "\000\002\001\001\000\014\007\164\010\170\011\022\012" +
+    "\025\016\017\001\001\000\006\013\162\016\045\001\001" +
+    "\000\002\001\001\000\014\007\164\010\165\011\022\012" +
+    "\025\016\017\001\001\000\002\001\001\000\012\007\166" +
+    "\011\022\012\025\016\017\001\001\000\002\001\001\000" +
+    "\002\001\001\000\012\007\166\011\022\012\025\016\017" +
+    "\001\001\000\002\001\001\000\002\001\001\000\006\013" +
+    "\174\016\045\001\001\000\002\001\001\000\002\001\001" +
+    "\000\014\007\164\010\204\011\022\012\025\016\017\001" +
+    "\001\000\006\013\200\016\045\001\001\000\002\001\001" +
+    "\000\014\007\164\010\202\011\022\012\025\016\017\001" +
+    "\001\000\012\007\166\011\022\012\025\016\017\001\001" +
+    "\000\002\001\001\000\012\007\166\011\022\012\025\016" +
+    "\017\001\001\000\002\001\001\000\006\013\207\016\045" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\004\005\134" +
-    "\001\001\000\004\005\137\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\000\002\001\001\000\002\001\001\000\004\023\215" +
+    "\001\001\000\002\001\001\000\004\025\225\001\001\000" +
+    "\006\005\135\017\234\001\001\000\002\001\001\000\002" +
     "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-    "\001\000\002\001\001\000\006\013\146\016\045\001\001" +
-    "\000\002\001\001\000\006\013\150\016\045\001\001\000" +
-    "\002\001\001\000\002\001\001\000\014\007\153\010\154" +
-    "\011\022\012\025\016\017\001\001\000\002\001\001\000" +
-    "\012\007\155\011\022\012\025\016\017\001\001\000\002" +
-    "\001\001\000\002\001\001\000\006\013\160\016\045\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\002\001\001\000\002\001\001\000\004\023\166\001" +
-    "\001\000\002\001\001\000\004\025\177\001\001\000\006" +
-    "\005\131\017\205\001\001\000\002\001\001\000\002\001" +
     "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\025\232\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\005\140\001\001\000\002" +
+    "\001\001\000\006\013\237\016\045\001\001\000\002\001" +
+    "\001\000\002\001\001\000\014\007\164\010\242\011\022" +
+    "\012\025\016\017\001\001\000\012\007\166\011\022\012" +
+    "\025\016\017\001\001\000\014\007\164\010\245\011\022" +
+    "\012\025\016\017\001\001\000\002\001\001\000\012\007" +
+    "\166\011\022\012\025\016\017\001\001\000\002\001\001" +
     "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\004\025\204\001\001" +
-    "\000\002\001\001\000\004\005\134\001\001\000\002\001" +
-    "\001\000\006\013\210\016\045\001\001\000\002\001\001" +
-    "\000\002\001\001\000\014\007\153\010\213\011\022\012" +
-    "\025\016\017\001\001\000\012\007\155\011\022\012\025" +
-    "\016\017\001\001\000\014\007\153\010\216\011\022\012" +
-    "\025\016\017\001\001\000\002\001\001\000\012\007\155" +
+    "\002\001\001\000\006\020\254\021\257\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\006\261\001\001\000\002\001\001\000\004" +
+    "\006\263\001\001\000\002\001\001\000\014\007\164\010" +
+    "\265\011\022\012\025\016\017\001\001\000\012\007\166" +
     "\011\022\012\025\016\017\001\001\000\002\001\001\000" +
-    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-    "\001\001\000\006\020\225\021\230\001\001\000\002\001" +
-    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-    "\000\004\006\232\001\001\000\002\001\001\000\004\006" +
-    "\234\001\001\000\002\001\001\000\014\007\153\010\236" +
-    "\011\022\012\025\016\017\001\001\000\012\007\155\011" +
-    "\022\012\025\016\017\001\001\000\002\001\001\000\004" +
-    "\021\247\001\001\000\002\001\001\000\004\006\243\001" +
-    "\001\000\002\001\001\000\014\007\153\010\245\011\022" +
-    "\012\025\016\017\001\001\000\012\007\155\011\022\012" +
-    "\025\016\017\001\001\000\002\001\001\000\002\001\001" +
-    "\000\006\013\251\016\045\001\001\000\002\001\001\000" +
-    "\002\001\001\000\014\007\153\010\254\011\022\012\025" +
-    "\016\017\001\001\000\012\007\155\011\022\012\025\016" +
-    "\017\001\001\000\002\001\001" });
+    "\004\021\276\001\001\000\002\001\001\000\004\006\272" +
+    "\001\001\000\002\001\001\000\014\007\164\010\274\011" +
+    "\022\012\025\016\017\001\001\000\012\007\166\011\022" +
+    "\012\025\016\017\001\001\000\002\001\001\000\002\001" +
+    "\001\000\006\013\300\016\045\001\001\000\002\001\001" +
+    "\000\002\001\001\000\014\007\164\010\303\011\022\012" +
+    "\025\016\017\001\001\000\012\007\166\011\022\012\025" +
+    "\016\017\001\001\000\002\001\001" });
 
   /** Access to <code>reduce_goto</code> table. */
   public short[][] reduce_table() {return _reduce_table;}
@@ -453,7 +528,7 @@ public class parser extends java_cup.runtime.lr_parser {
   /** User initialization code. */
   public void user_init() throws java.lang.Exception
     {
- Tree = new DisegnaAlbero();   }public static DisegnaAlbero Tree;
+ Tree = new DisegnaAlbero();   }public DisegnaAlbero Tree;
 
   /** Scan to get the next Symbol. */
   public java_cup.runtime.Symbol scan()
@@ -1040,7 +1115,76 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 43: // Expression ::= STRING_LITERAL 
+          case 43: // CompoundStatement ::= FOR IDENTIFIER IN REVERSE LBRACKET Expression RANGE Expression RBRACKET LOOP StatementBlock END 
+            { parser.Tree.reduce(12,"CompoundStatement",0);
+              StatementNode RESULT =null;
+		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-10)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-10)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-10)).value;
+		int startleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).left;
+		int startright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).right;
+		ExpressionNode start = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		int endleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).left;
+		int endright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).right;
+		ExpressionNode end = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
+		StatementBlockNode body = (StatementBlockNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ForLoopNode(new IdentifierNode(id), start, end, null, true, body); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("CompoundStatement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-11)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // CompoundStatement ::= FOR IDENTIFIER IN LBRACKET Expression RANGE Expression RBRACKET BY Expression LOOP StatementBlock END 
+            { parser.Tree.reduce(13,"CompoundStatement",0);
+              StatementNode RESULT =null;
+		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-11)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-11)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-11)).value;
+		int startleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left;
+		int startright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).right;
+		ExpressionNode start = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-8)).value;
+		int endleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).left;
+		int endright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).right;
+		ExpressionNode end = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		int stepleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
+		int stepright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).right;
+		ExpressionNode step = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
+		StatementBlockNode body = (StatementBlockNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ForLoopNode(new IdentifierNode(id), start, end, step, false, body); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("CompoundStatement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-12)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // CompoundStatement ::= FOR IDENTIFIER IN REVERSE LBRACKET Expression RANGE Expression RBRACKET BY Expression LOOP StatementBlock END 
+            { parser.Tree.reduce(14,"CompoundStatement",0);
+              StatementNode RESULT =null;
+		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-12)).left;
+		int idright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-12)).right;
+		String id = (String)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-12)).value;
+		int startleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left;
+		int startright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).right;
+		ExpressionNode start = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-8)).value;
+		int endleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).left;
+		int endright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).right;
+		ExpressionNode end = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		int stepleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
+		int stepright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).right;
+		ExpressionNode step = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		int bodyleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
+		int bodyright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).right;
+		StatementBlockNode body = (StatementBlockNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ForLoopNode(new IdentifierNode(id), start, end, step, true, body); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("CompoundStatement",8, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-13)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // Expression ::= STRING_LITERAL 
             { parser.Tree.reduce(1,"Expression",0);
               ExpressionNode RESULT =null;
 		int strleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1052,7 +1196,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 44: // Expression ::= IDENTIFIER LPAREN ExpressionList RPAREN 
+          case 47: // Expression ::= IDENTIFIER LPAREN ExpressionList RPAREN 
             { parser.Tree.reduce(4,"Expression",0);
               ExpressionNode RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
@@ -1067,7 +1211,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 45: // Expression ::= IDENTIFIER LPAREN RPAREN 
+          case 48: // Expression ::= IDENTIFIER LPAREN RPAREN 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1079,7 +1223,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 46: // Expression ::= Expression PLUS Expression 
+          case 49: // Expression ::= Expression PLUS Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1094,7 +1238,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 47: // Expression ::= Expression MINUS Expression 
+          case 50: // Expression ::= Expression MINUS Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1109,7 +1253,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 48: // Expression ::= Expression AND Expression 
+          case 51: // Expression ::= Expression AND Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1124,7 +1268,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 49: // Expression ::= Expression OR Expression 
+          case 52: // Expression ::= Expression OR Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1139,7 +1283,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 50: // Expression ::= Expression XOR Expression 
+          case 53: // Expression ::= Expression XOR Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1154,7 +1298,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 51: // Expression ::= Expression MULTIPLY Expression 
+          case 54: // Expression ::= Expression MULTIPLY Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1169,7 +1313,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 52: // Expression ::= Expression DIVIDE Expression 
+          case 55: // Expression ::= Expression DIVIDE Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1184,7 +1328,22 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 53: // Expression ::= Expression EQUAL Expression 
+          case 56: // Expression ::= Expression MOD Expression 
+            { parser.Tree.reduce(3,"Expression",0);
+              ExpressionNode RESULT =null;
+		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
+		int leftright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).right;
+		ExpressionNode left = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		int rightleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
+		int rightright = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).right;
+		ExpressionNode right = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BinaryOpNode(left, right, "mod"); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 57: // Expression ::= Expression EQUAL Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1199,7 +1358,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 54: // Expression ::= Expression GREATER_THAN Expression 
+          case 58: // Expression ::= Expression GREATER_THAN Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1214,7 +1373,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 55: // Expression ::= Expression LESS_THAN Expression 
+          case 59: // Expression ::= Expression LESS_THAN Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1229,7 +1388,22 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 56: // Expression ::= Expression GREATER_THAN_OR_EQUAL Expression 
+          case 60: // Expression ::= Expression GREATER_THAN_OR_EQUAL Expression 
+            { parser.Tree.reduce(3,"Expression",0);
+              ExpressionNode RESULT =null;
+		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
+		int leftright = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).right;
+		ExpressionNode left = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		int rightleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
+		int rightright = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).right;
+		ExpressionNode right = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BinaryOpNode(left, right, ">="); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 61: // Expression ::= Expression LESS_THAN_OR_EQUAL Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1238,13 +1412,13 @@ class CUP$parser$actions {
 		int rightleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
 		int rightright = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).right;
 		ExpressionNode right = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
-		 RESULT = new BinaryOpNode(new BinaryOpNode(left, right, ">"), new BinaryOpNode(left, right, "=="), "OR"); 
+		 RESULT = new BinaryOpNode(left, right, "<="); 
               CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 57: // Expression ::= Expression LESS_THAN_OR_EQUAL Expression 
+          case 62: // Expression ::= Expression NOT_EQUAL Expression 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int leftleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1253,13 +1427,13 @@ class CUP$parser$actions {
 		int rightleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
 		int rightright = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).right;
 		ExpressionNode right = (ExpressionNode)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
-		 RESULT = new BinaryOpNode(new BinaryOpNode(left, right, "<"), new BinaryOpNode(left, right, "=="), "OR"); 
+		 RESULT = new BinaryOpNode(left, right, "/="); 
               CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
             }
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 58: // Expression ::= NOT Expression 
+          case 63: // Expression ::= NOT Expression 
             { parser.Tree.reduce(2,"Expression",0);
               ExpressionNode RESULT =null;
 		int exprleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1271,7 +1445,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 59: // Expression ::= TRUE 
+          case 64: // Expression ::= TRUE 
             { parser.Tree.reduce(1,"Expression",0);
               ExpressionNode RESULT =null;
 		 RESULT = new BooleanNode(true); 
@@ -1280,7 +1454,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 60: // Expression ::= FALSE 
+          case 65: // Expression ::= FALSE 
             { parser.Tree.reduce(1,"Expression",0);
               ExpressionNode RESULT =null;
 		 RESULT = new BooleanNode(false); 
@@ -1289,7 +1463,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 61: // Expression ::= NUMBER 
+          case 66: // Expression ::= NUMBER 
             { parser.Tree.reduce(1,"Expression",0);
               ExpressionNode RESULT =null;
 		int numleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1301,7 +1475,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 62: // Expression ::= REAL 
+          case 67: // Expression ::= REAL 
             { parser.Tree.reduce(1,"Expression",0);
               ExpressionNode RESULT =null;
 		int realleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1313,7 +1487,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 63: // Expression ::= Variable 
+          case 68: // Expression ::= Variable 
             { parser.Tree.reduce(1,"Expression",0);
               ExpressionNode RESULT =null;
 		int vleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1325,7 +1499,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 64: // Expression ::= LPAREN Expression RPAREN 
+          case 69: // Expression ::= LPAREN Expression RPAREN 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int exprleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1337,7 +1511,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 65: // Expression ::= LBRACKET ExpressionList RBRACKET 
+          case 70: // Expression ::= LBRACKET ExpressionList RBRACKET 
             { parser.Tree.reduce(3,"Expression",0);
               ExpressionNode RESULT =null;
 		int listleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1349,7 +1523,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 66: // ExpressionList ::= ExpressionList COMMA Expression 
+          case 71: // ExpressionList ::= ExpressionList COMMA Expression 
             { parser.Tree.reduce(3,"ExpressionList",0);
               List<ExpressionNode> RESULT =null;
 		int elleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1364,7 +1538,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 67: // ExpressionList ::= Expression 
+          case 72: // ExpressionList ::= Expression 
             { parser.Tree.reduce(1,"ExpressionList",0);
               List<ExpressionNode> RESULT =null;
 		int exprleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1376,7 +1550,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 68: // Function ::= ROUTINE IDENTIFIER LPAREN ParameterList RPAREN COLON Type IS StatementBlock END 
+          case 73: // Function ::= ROUTINE IDENTIFIER LPAREN ParameterList RPAREN COLON Type IS StatementBlock END 
             { parser.Tree.reduce(10,"Function",0);
               FunctionNode RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).left;
@@ -1397,7 +1571,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 69: // Function ::= ROUTINE IDENTIFIER LPAREN RPAREN COLON Type IS StatementBlock END 
+          case 74: // Function ::= ROUTINE IDENTIFIER LPAREN RPAREN COLON Type IS StatementBlock END 
             { parser.Tree.reduce(9,"Function",0);
               FunctionNode RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).left;
@@ -1415,7 +1589,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 70: // ParameterList ::= ParameterList COMMA Parameter 
+          case 75: // ParameterList ::= ParameterList COMMA Parameter 
             { parser.Tree.reduce(3,"ParameterList",0);
               List<DeclarationNode> RESULT =null;
 		int plistleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1430,7 +1604,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 71: // ParameterList ::= Parameter 
+          case 76: // ParameterList ::= Parameter 
             { parser.Tree.reduce(1,"ParameterList",0);
               List<DeclarationNode> RESULT =null;
 		int paramleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1442,7 +1616,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 72: // Parameter ::= IDENTIFIER COLON Type 
+          case 77: // Parameter ::= IDENTIFIER COLON Type 
             { parser.Tree.reduce(3,"Parameter",0);
               DeclarationNode RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).left;
@@ -1457,7 +1631,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 73: // TypeDeclaration ::= TYPE TypeDeclarationList 
+          case 78: // TypeDeclaration ::= TYPE TypeDeclarationList 
             { parser.Tree.reduce(2,"TypeDeclaration",0);
               TypeDeclarationListNode RESULT =null;
 		int tdListleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1469,7 +1643,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 74: // TypeDeclarationList ::= TypeDeclarationList TypeDeclarationItem 
+          case 79: // TypeDeclarationList ::= TypeDeclarationList TypeDeclarationItem 
             { parser.Tree.reduce(2,"TypeDeclarationList",0);
               TypeDeclarationListNode RESULT =null;
 		int tdsleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).left;
@@ -1484,7 +1658,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 75: // TypeDeclarationList ::= TypeDeclarationItem 
+          case 80: // TypeDeclarationList ::= TypeDeclarationItem 
             { parser.Tree.reduce(1,"TypeDeclarationList",0);
               TypeDeclarationListNode RESULT =null;
 		int tdleft = ((java_cup.runtime.Symbol)CUP$parser$stack.peek()).left;
@@ -1496,7 +1670,7 @@ class CUP$parser$actions {
           return CUP$parser$result;
 
           /*. . . . . . . . . . . . . . . . . . . .*/
-          case 76: // TypeDeclarationItem ::= IDENTIFIER IS TypeDefinition SEMICOLON 
+          case 81: // TypeDeclarationItem ::= IDENTIFIER IS TypeDefinition SEMICOLON 
             { parser.Tree.reduce(4,"TypeDeclarationItem",0);
               TypeDeclarationNode RESULT =null;
 		int idleft = ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).left;
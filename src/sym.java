@@ -10,6 +10,7 @@ public class sym {
   public static final int STRING_LITERAL = 50;
   public static final int REAL_TYPE = 5;
   public static final int LBRACKET = 37;
+  public static final int NOT_EQUAL = 52;
   public static final int XOR = 33;
   public static final int LESS_THAN_OR_EQUAL = 29;
   public static final int LPAREN = 35;
@@ -17,6 +18,7 @@ public class sym {
   public static final int FOR = 15;
   public static final int MINUS = 22;
   public static final int GREATER_THAN = 27;
+  public static final int REVERSE = 53;
   public static final int RPAREN = 36;
   public static final int SEMICOLON = 43;
   public static final int NOT = 34;
@@ -38,10 +40,12 @@ public class sym {
   public static final int RETURN = 20;
   public static final int RBRACKET = 38;
   public static final int EQUAL = 26;
+  public static final int BY = 54;
   public static final int STRING_TYPE = 49;
   public static final int TRUE = 8;
   public static final int error = 1;
   public static final int ROUTINE = 19;
+  public static final int MOD = 55;
   public static final int NUMBER = 46;
   public static final int INTEGER_TYPE = 3;
   public static final int REAL = 47;
@@ -110,7 +114,11 @@ public class sym {
   "PRINT",
   "STRING_TYPE",
   "STRING_LITERAL",
-  "TYPE"
+  "TYPE",
+  "NOT_EQUAL",
+  "REVERSE",
+  "BY",
+  "MOD"
   };
 public String[] TT;
 	public sym(){
@@ -167,6 +175,10 @@ public String[] TT;
 		TT[48]=new String("PRINT");
 		TT[45]=new String("IDENTIFIER");
 		TT[4]=new String("BOOLEAN_TYPE");
+		TT[52]=new String("NOT_EQUAL");
+		TT[53]=new String("REVERSE");
+		TT[54]=new String("BY");
+		TT[55]=new String("MOD");
 	}
 public String getTT(int i){return TT[i];}
 }